@@ -54,6 +54,16 @@ public abstract class AbstractBuffer<T> {
         mTo = to;
     }
 
+    /** returns the x-index the visible data begins at, see limitFrom(...) */
+    public int getFrom() {
+        return mFrom;
+    }
+
+    /** returns the x-index the visible data ranges to, see limitTo(...) */
+    public int getTo() {
+        return mTo;
+    }
+
     /**
      * Resets the buffer index to 0 and makes the buffer reusable.
      */
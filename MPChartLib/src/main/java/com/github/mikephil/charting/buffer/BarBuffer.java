@@ -14,10 +14,19 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
     /** width of the bar on the x-axis, in values (not pixels) */
     protected float mBarWidth = 1f;
 
+    /** number of bars in front of the first bar that was fed, for picking the bar colors */
+    protected int mBarOffset = 0;
+
+    /** end of the values that were fed, the buffer is only valid up to this index */
+    protected int mEnd = 0;
+
     public BarBuffer(int size, int dataSetCount, boolean containsStacks) {
         super(size);
         this.mDataSetCount = dataSetCount;
         this.mContainsStacks = containsStacks;
+
+        // all entries are fed unless limited
+        this.mTo = Integer.MAX_VALUE;
     }
 
     public void setBarWidth(float barWidth) {
@@ -32,6 +41,26 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
         this.mInverted = inverted;
     }
 
+    /**
+     * Returns the number of bars in front of the first bar that was fed. The bar at buffer
+     * index j is bar number getBarOffset() + j / 4 of the DataSet.
+     *
+     * @return
+     */
+    public int getBarOffset() {
+        return mBarOffset;
+    }
+
+    /**
+     * Returns the end of the values that were fed in the last call to feed(...), only the
+     * buffer values before this index are valid.
+     *
+     * @return
+     */
+    public int getEnd() {
+        return mEnd;
+    }
+
     protected void addBar(float left, float top, float right, float bottom) {
 
         buffer[index++] = left;
@@ -46,7 +75,9 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
         float size = data.getEntryCount() * phaseX;
         float barWidthHalf = mBarWidth / 2f;
 
-        for (int i = 0; i < size; i++) {
+        mBarOffset = mFrom * (mContainsStacks ? data.getStackSize() : 1);
+
+        for (int i = mFrom; i < size && i <= mTo; i++) {
 
             BarEntry e = data.getEntryForIndex(i);
 
@@ -125,6 +156,7 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
             }
         }
 
+        mEnd = index;
         reset();
     }
 }
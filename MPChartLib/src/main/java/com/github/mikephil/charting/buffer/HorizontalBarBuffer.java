@@ -16,7 +16,9 @@ public class HorizontalBarBuffer extends BarBuffer {
         float size = data.getEntryCount() * phaseX;
         float barWidthHalf = mBarWidth / 2f;
 
-        for (int i = 0; i < size; i++) {
+        mBarOffset = mFrom * (mContainsStacks ? data.getStackSize() : 1);
+
+        for (int i = mFrom; i < size && i <= mTo; i++) {
 
             BarEntry e = data.getEntryForIndex(i);
 
@@ -89,6 +91,7 @@ public class HorizontalBarBuffer extends BarBuffer {
             }
         }
 
+        mEnd = index;
         reset();
     }
 }
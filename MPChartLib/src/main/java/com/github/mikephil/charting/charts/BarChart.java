@@ -99,7 +99,7 @@ public class BarChart extends BarLineChartBase<BarData> implements BarDataProvid
      * @param y
 	 */
     @Override
-    public Highlight getHighlightByTouchPoint(float x, float y) {
+    public Highlight getReusedHighlightByTouchPoint(float x, float y) {
 
         if (mData == null) {
             Log.e(LOG_TAG, "Can't select by touch. No data set.");
@@ -9,11 +9,14 @@ import android.graphics.Color;
 import android.graphics.Matrix;
 import android.graphics.Paint;
 import android.graphics.Paint.Style;
+import android.graphics.Picture;
 import android.graphics.RectF;
+import android.os.Build;
 import android.util.AttributeSet;
 import android.util.Log;
 import android.view.MotionEvent;
 
+import com.github.mikephil.charting.components.AxisBase;
 import com.github.mikephil.charting.components.XAxis.XAxisPosition;
 import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.components.YAxis.AxisDependency;
@@ -36,6 +39,8 @@ import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 
+import java.util.Arrays;
+
 /**
  * Base-class of LineChart, BarChart, ScatterChart and CandleStickChart.
  *
@@ -190,6 +195,29 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
     private long totalTime = 0;
     private long drawCycles = 0;
 
+    /**
+     * if true, the axes, grid, limit lines and borders are recorded and replayed while unchanged
+     */
+    protected boolean mStaticLayerCacheEnabled = false;
+
+    /**
+     * recordings of what is drawn behind the data, on top of the data within its clipping, and
+     * in front of the data
+     */
+    private Picture mStaticBackLayer;
+    private Picture mStaticGridLayer;
+    private Picture mStaticFrontLayer;
+
+    private boolean mStaticLayersValid = false;
+
+    /**
+     * everything the static layers depend on, of this and the previous frame
+     */
+    private float[] mStaticLayerKey = new float[0];
+    private float[] mPrevStaticLayerKey = new float[0];
+
+    private final float[] mMatrixValuesBuffer = new float[9];
+
     @Override
     protected void onDraw(Canvas canvas) {
         super.onDraw(canvas);
@@ -199,8 +227,11 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
         long starttime = System.currentTimeMillis();
 
+        final boolean replayStaticLayers = mStaticLayerCacheEnabled && canReplayStaticLayers(canvas);
+
         // execute all drawing commands
-        drawGridBackground(canvas);
+        if (!replayStaticLayers)
+            drawGridBackground(canvas);
 
         if (mAutoScaleMinMaxEnabled) {
             autoScale();
@@ -221,27 +252,14 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
             mViewPortHandler.refresh(mViewPortHandler.getMatrixTouch(), this, false);
         }
 
-        mXAxisRenderer.renderAxisLine(canvas);
-        mAxisRendererLeft.renderAxisLine(canvas);
-        mAxisRendererRight.renderAxisLine(canvas);
+        if (replayStaticLayers) {
 
-        if (mXAxis.isDrawGridLinesBehindDataEnabled())
-            mXAxisRenderer.renderGridLines(canvas);
+            if (!updateStaticLayerKey() || !mStaticLayersValid)
+                recordStaticLayers();
 
-        if (mAxisLeft.isDrawGridLinesBehindDataEnabled())
-            mAxisRendererLeft.renderGridLines(canvas);
-
-        if (mAxisRight.isDrawGridLinesBehindDataEnabled())
-            mAxisRendererRight.renderGridLines(canvas);
-
-        if (mXAxis.isEnabled() && mXAxis.isDrawLimitLinesBehindDataEnabled())
-            mXAxisRenderer.renderLimitLines(canvas);
-
-        if (mAxisLeft.isEnabled() && mAxisLeft.isDrawLimitLinesBehindDataEnabled())
-            mAxisRendererLeft.renderLimitLines(canvas);
-
-        if (mAxisRight.isEnabled() && mAxisRight.isDrawLimitLinesBehindDataEnabled())
-            mAxisRendererRight.renderLimitLines(canvas);
+            canvas.drawPicture(mStaticBackLayer);
+        } else
+            drawStaticBackLayer(canvas);
 
         int clipRestoreCount = canvas.save();
 
@@ -252,14 +270,10 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
         mRenderer.drawData(canvas);
 
-        if (!mXAxis.isDrawGridLinesBehindDataEnabled())
-            mXAxisRenderer.renderGridLines(canvas);
-
-        if (!mAxisLeft.isDrawGridLinesBehindDataEnabled())
-            mAxisRendererLeft.renderGridLines(canvas);
-
-        if (!mAxisRight.isDrawGridLinesBehindDataEnabled())
-            mAxisRendererRight.renderGridLines(canvas);
+        if (replayStaticLayers)
+            canvas.drawPicture(mStaticGridLayer);
+        else
+            drawStaticGridLayer(canvas);
 
         // if highlighting is enabled
         if (valuesToHighlight())
@@ -270,18 +284,10 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
         mRenderer.drawExtras(canvas);
 
-        if (mXAxis.isEnabled() && !mXAxis.isDrawLimitLinesBehindDataEnabled())
-            mXAxisRenderer.renderLimitLines(canvas);
-
-        if (mAxisLeft.isEnabled() && !mAxisLeft.isDrawLimitLinesBehindDataEnabled())
-            mAxisRendererLeft.renderLimitLines(canvas);
-
-        if (mAxisRight.isEnabled() && !mAxisRight.isDrawLimitLinesBehindDataEnabled())
-            mAxisRendererRight.renderLimitLines(canvas);
-
-        mXAxisRenderer.renderAxisLabels(canvas);
-        mAxisRendererLeft.renderAxisLabels(canvas);
-        mAxisRendererRight.renderAxisLabels(canvas);
+        if (replayStaticLayers)
+            canvas.drawPicture(mStaticFrontLayer);
+        else
+            drawStaticFrontLayer(canvas);
 
         if (isClipValuesToContentEnabled()) {
             clipRestoreCount = canvas.save();
@@ -310,6 +316,205 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         }
     }
 
+    /**
+     * draws the axis lines and the grid and limit lines that are behind the data
+     */
+    protected void drawStaticBackLayer(Canvas c) {
+
+        mXAxisRenderer.renderAxisLine(c);
+        mAxisRendererLeft.renderAxisLine(c);
+        mAxisRendererRight.renderAxisLine(c);
+
+        if (mXAxis.isDrawGridLinesBehindDataEnabled())
+            mXAxisRenderer.renderGridLines(c);
+
+        if (mAxisLeft.isDrawGridLinesBehindDataEnabled())
+            mAxisRendererLeft.renderGridLines(c);
+
+        if (mAxisRight.isDrawGridLinesBehindDataEnabled())
+            mAxisRendererRight.renderGridLines(c);
+
+        if (mXAxis.isEnabled() && mXAxis.isDrawLimitLinesBehindDataEnabled())
+            mXAxisRenderer.renderLimitLines(c);
+
+        if (mAxisLeft.isEnabled() && mAxisLeft.isDrawLimitLinesBehindDataEnabled())
+            mAxisRendererLeft.renderLimitLines(c);
+
+        if (mAxisRight.isEnabled() && mAxisRight.isDrawLimitLinesBehindDataEnabled())
+            mAxisRendererRight.renderLimitLines(c);
+    }
+
+    /**
+     * draws the grid lines that are in front of the data, within the clipping of the data
+     */
+    protected void drawStaticGridLayer(Canvas c) {
+
+        if (!mXAxis.isDrawGridLinesBehindDataEnabled())
+            mXAxisRenderer.renderGridLines(c);
+
+        if (!mAxisLeft.isDrawGridLinesBehindDataEnabled())
+            mAxisRendererLeft.renderGridLines(c);
+
+        if (!mAxisRight.isDrawGridLinesBehindDataEnabled())
+            mAxisRendererRight.renderGridLines(c);
+    }
+
+    /**
+     * draws the limit lines that are in front of the data and the axis labels
+     */
+    protected void drawStaticFrontLayer(Canvas c) {
+
+        if (mXAxis.isEnabled() && !mXAxis.isDrawLimitLinesBehindDataEnabled())
+            mXAxisRenderer.renderLimitLines(c);
+
+        if (mAxisLeft.isEnabled() && !mAxisLeft.isDrawLimitLinesBehindDataEnabled())
+            mAxisRendererLeft.renderLimitLines(c);
+
+        if (mAxisRight.isEnabled() && !mAxisRight.isDrawLimitLinesBehindDataEnabled())
+            mAxisRendererRight.renderLimitLines(c);
+
+        mXAxisRenderer.renderAxisLabels(c);
+        mAxisRendererLeft.renderAxisLabels(c);
+        mAxisRendererRight.renderAxisLabels(c);
+    }
+
+    /**
+     * Returns true if the recorded static layers can be drawn onto the given canvas. Hardware
+     * accelerated canvases only draw pictures from API 23 on.
+     */
+    private boolean canReplayStaticLayers(Canvas canvas) {
+        return !canvas.isHardwareAccelerated() || Build.VERSION.SDK_INT >= Build.VERSION_CODES.M;
+    }
+
+    /**
+     * Records the grid background, axis lines, grid lines, limit lines and axis labels into the
+     * static layer pictures.
+     */
+    private void recordStaticLayers() {
+
+        if (mStaticBackLayer == null) {
+            mStaticBackLayer = new Picture();
+            mStaticGridLayer = new Picture();
+            mStaticFrontLayer = new Picture();
+        }
+
+        final int width = getWidth();
+        final int height = getHeight();
+
+        Canvas c = mStaticBackLayer.beginRecording(width, height);
+        drawGridBackground(c);
+        drawStaticBackLayer(c);
+        mStaticBackLayer.endRecording();
+
+        c = mStaticGridLayer.beginRecording(width, height);
+        drawStaticGridLayer(c);
+        mStaticGridLayer.endRecording();
+
+        c = mStaticFrontLayer.beginRecording(width, height);
+        drawStaticFrontLayer(c);
+        mStaticFrontLayer.endRecording();
+
+        mStaticLayersValid = true;
+    }
+
+    /**
+     * Collects everything the static layers depend on that can be detected without comparing
+     * styles. Returns true if it is unchanged since the last call.
+     */
+    private boolean updateStaticLayerKey() {
+
+        final int size = 5 * 9 + 6 + 3 * 9 + 7;
+
+        float[] key = mPrevStaticLayerKey.length == size ? mPrevStaticLayerKey : new float[size];
+
+        int i = 0;
+
+        i = putMatrix(mLeftAxisTransformer.getValueMatrix(), key, i);
+        i = putMatrix(mLeftAxisTransformer.getOffsetMatrix(), key, i);
+        i = putMatrix(mRightAxisTransformer.getValueMatrix(), key, i);
+        i = putMatrix(mRightAxisTransformer.getOffsetMatrix(), key, i);
+        i = putMatrix(mViewPortHandler.getMatrixTouch(), key, i);
+
+        final RectF content = mViewPortHandler.getContentRect();
+        key[i++] = content.left;
+        key[i++] = content.top;
+        key[i++] = content.right;
+        key[i++] = content.bottom;
+        key[i++] = getWidth();
+        key[i++] = getHeight();
+
+        i = putAxis(mXAxis, key, i);
+        i = putAxis(mAxisLeft, key, i);
+        i = putAxis(mAxisRight, key, i);
+
+        key[i++] = mDrawGridBackground ? 1f : 0f;
+        key[i++] = mDrawBorders ? 1f : 0f;
+        // colors in two halves, a float doesn't hold all 32 bits
+        key[i++] = mGridBackgroundPaint.getColor() >>> 16;
+        key[i++] = mGridBackgroundPaint.getColor() & 0xffff;
+        key[i++] = mBorderPaint.getColor() >>> 16;
+        key[i++] = mBorderPaint.getColor() & 0xffff;
+        key[i++] = mBorderPaint.getStrokeWidth();
+
+        final boolean unchanged = Arrays.equals(key, mStaticLayerKey);
+
+        mPrevStaticLayerKey = mStaticLayerKey;
+        mStaticLayerKey = key;
+
+        return unchanged;
+    }
+
+    private int putMatrix(Matrix matrix, float[] key, int offset) {
+        matrix.getValues(mMatrixValuesBuffer);
+        System.arraycopy(mMatrixValuesBuffer, 0, key, offset, 9);
+        return offset + 9;
+    }
+
+    private int putAxis(AxisBase axis, float[] key, int offset) {
+        key[offset++] = axis.isEnabled() ? 1f : 0f;
+        key[offset++] = axis.mAxisMinimum;
+        key[offset++] = axis.mAxisMaximum;
+        key[offset++] = axis.mEntryCount;
+        key[offset++] = axis.mEntryCount > 0 ? axis.mEntries[0] : 0f;
+        key[offset++] = axis.mEntryCount > 0 ? axis.mEntries[axis.mEntryCount - 1] : 0f;
+        key[offset++] = axis.getLimitLines().size();
+        key[offset++] = axis.isDrawGridLinesBehindDataEnabled() ? 1f : 0f;
+        key[offset++] = axis.isDrawLimitLinesBehindDataEnabled() ? 1f : 0f;
+        return offset;
+    }
+
+    /**
+     * If enabled, the grid background, borders, axis lines, grid lines, limit lines and axis
+     * labels are recorded into pictures that are replayed as long as the viewport, the axis
+     * ranges and the chart size stay the same, e.g. for frames that only change the highlight
+     * or the marker. Style changes of the axes, limit lines and value formatters are not
+     * detected, call invalidateStaticLayers() after those.
+     * Default: false
+     *
+     * @param enabled
+     */
+    public void setStaticLayerCacheEnabled(boolean enabled) {
+        mStaticLayerCacheEnabled = enabled;
+        mStaticLayersValid = false;
+
+        if (!enabled) {
+            mStaticBackLayer = null;
+            mStaticGridLayer = null;
+            mStaticFrontLayer = null;
+        }
+    }
+
+    public boolean isStaticLayerCacheEnabled() {
+        return mStaticLayerCacheEnabled;
+    }
+
+    /**
+     * Makes the next frame record the static layers again.
+     */
+    public void invalidateStaticLayers() {
+        mStaticLayersValid = false;
+    }
+
     /**
      * RESET PERFORMANCE TRACKING FIELDS
      */
@@ -355,6 +560,8 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         if (mRenderer != null)
             mRenderer.initBuffers();
 
+        invalidateStaticLayers();
+
         calcMinMax();
 
         mAxisRendererLeft.computeAxis(mAxisLeft.mAxisMinimum, mAxisLeft.mAxisMaximum, mAxisLeft.isInverted());
@@ -1368,7 +1575,7 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
      * @return
      */
     public Entry getEntryByTouchPoint(float x, float y) {
-        Highlight h = getHighlightByTouchPoint(x, y);
+        Highlight h = getReusedHighlightByTouchPoint(x, y);
         if (h != null) {
             return mData.getEntryForHighlight(h);
         }
@@ -1383,7 +1590,7 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
      * @return
      */
     public IBarLineScatterCandleBubbleDataSet getDataSetByTouchPoint(float x, float y) {
-        Highlight h = getHighlightByTouchPoint(x, y);
+        Highlight h = getReusedHighlightByTouchPoint(x, y);
         if (h != null) {
             return mData.getDataSetByIndex(h.getDataSetIndex());
         }
@@ -41,6 +41,15 @@ public class BubbleChart extends BarLineChartBase<BubbleData> implements BubbleD
         return mData;
     }
 
+    @Override
+    protected void onDetachedFromWindow() {
+        // releases the pre-rendered bubbles of the renderer
+        if (mRenderer != null && mRenderer instanceof BubbleChartRenderer) {
+            ((BubbleChartRenderer) mRenderer).releaseSprites();
+        }
+        super.onDetachedFromWindow();
+    }
+
     @Override
     public String getAccessibilityDescription() {
         return "This is bubble chart";
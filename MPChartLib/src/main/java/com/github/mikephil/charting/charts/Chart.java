@@ -383,6 +383,10 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
 
 		// setup the formatter with a new number of digits
 		mDefaultValueFormatter.setup(digits);
+
+		// the formatter changed in place, labels formatted with the old digits are stale
+		if (mRenderer != null && mRenderer.getLabelCache() != null)
+			mRenderer.getLabelCache().clear();
 	}
 
 	/**
@@ -712,10 +716,27 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
 	/**
 	 * Returns the Highlight object (contains x-index and DataSet index) of the
 	 * selected value at the given touch point inside the Line-, Scatter-, or
-	 * CandleStick-Chart.
+	 * CandleStick-Chart. Returns a copy of getReusedHighlightByTouchPoint(...),
+	 * override that method to change how touches are resolved: overriding this
+	 * one only affects direct calls, not the touch listeners,
+	 * getEntryByTouchPoint(...) or getDataSetByTouchPoint(...).
 	 */
 	public Highlight getHighlightByTouchPoint(float x, float y) {
 
+		Highlight h = getReusedHighlightByTouchPoint(x, y);
+		return h == null ? null : new Highlight(h);
+	}
+
+	/**
+	 * Same as getHighlightByTouchPoint(...), but the returned object may
+	 * belong to the highlighter and be reused for the next touch. Used by the
+	 * touch listeners, which only copy it when the highlighted entry changes,
+	 * and by getHighlightByTouchPoint(...), getEntryByTouchPoint(...) and
+	 * getDataSetByTouchPoint(...). This is the method to override to change
+	 * how touches are resolved.
+	 */
+	public Highlight getReusedHighlightByTouchPoint(float x, float y) {
+
 		if (mData == null) {
 			Log.e(LOG_TAG, "Can't select by touch. No data set.");
 			return null;
@@ -104,7 +104,7 @@ public class CombinedChart extends BarLineChartBase<CombinedData> implements Com
 	 * inside the CombinedChart.
 	 */
 	@Override
-	public Highlight getHighlightByTouchPoint(float x, float y) {
+	public Highlight getReusedHighlightByTouchPoint(float x, float y) {
 
 		if (mData == null) {
 			Log.e(LOG_TAG, "Can't select by touch. No data set.");
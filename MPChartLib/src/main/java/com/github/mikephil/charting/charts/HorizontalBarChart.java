@@ -276,7 +276,7 @@ public class HorizontalBarChart extends BarChart {
      * @return
      */
     @Override
-    public Highlight getHighlightByTouchPoint(float x, float y) {
+    public Highlight getReusedHighlightByTouchPoint(float x, float y) {
 
         if (mData == null) {
             if (mLogEnabled)
@@ -50,6 +50,12 @@ public class PieChart extends PieRadarChartBase<PieData> {
      */
     private float[] mAbsoluteAngles = new float[1];
 
+    /**
+     * buffer for the slice angles corrected by the minimum slice angle, swapped with
+     * mDrawAngles when the correction is applied
+     */
+    private float[] mMinAngles = new float[1];
+
     /**
      * if true, the white hole inside the chart will be drawn
      */
@@ -238,7 +244,11 @@ public class PieChart extends PieRadarChartBase<PieData> {
         List<IPieDataSet> dataSets = mData.getDataSets();
 
         boolean hasMinAngle = mMinAngleForSlices != 0f && entryCount * mMinAngleForSlices <= mMaxAngle;
-        float[] minAngles = new float[entryCount];
+
+        if (hasMinAngle && mMinAngles.length != entryCount)
+            mMinAngles = new float[entryCount];
+
+        float[] minAngles = mMinAngles;
 
         int cnt = 0;
         float offset = 0f;
@@ -287,6 +297,8 @@ public class PieChart extends PieRadarChartBase<PieData> {
                 }
             }
 
+            // swap the buffers, the old draw angles are overwritten by the next calculation
+            mMinAngles = mDrawAngles;
             mDrawAngles = minAngles;
         }
     }
@@ -349,12 +361,23 @@ public class PieChart extends PieRadarChartBase<PieData> {
         // take the current angle of the chart into consideration
         float a = Utils.getNormalizedAngle(angle - getRotationAngle());
 
-        for (int i = 0; i < mAbsoluteAngles.length; i++) {
-            if (mAbsoluteAngles[i] > a)
-                return i;
+        // the absolute angles are ascending, find the first one greater than the angle
+        int low = 0;
+        int high = mAbsoluteAngles.length - 1;
+
+        if (high < 0 || mAbsoluteAngles[high] <= a)
+            return -1; // return -1 if no index found
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+
+            if (mAbsoluteAngles[mid] > a)
+                high = mid;
+            else
+                low = mid + 1;
         }
 
-        return -1; // return -1 if no index found
+        return low;
     }
 
     /**
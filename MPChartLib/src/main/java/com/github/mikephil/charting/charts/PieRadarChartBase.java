@@ -100,6 +100,9 @@ public abstract class PieRadarChartBase<T extends ChartData<? extends IDataSet<?
         if (mData == null)
             return;
 
+        if (mRenderer != null)
+            mRenderer.initBuffers();
+
         calcMinMax();
 
         if (mLegend != null)
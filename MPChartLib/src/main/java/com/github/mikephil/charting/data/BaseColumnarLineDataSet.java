@@ -0,0 +1,373 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.interfaces.datasets.IColumnarDataSet;
+import com.github.mikephil.charting.utils.MinMaxSegmentTree;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Base of the LineDataSets that don't hold one Entry object per value. All lookups read the
+ * values through getXForIndex(...) and getYForIndex(...), which subclasses implement on top of
+ * their storage. Entry objects are only created on demand and are not backed by the DataSet.
+ * <p/>
+ * The DataSet is read-only, adding or removing entries throws an
+ * UnsupportedOperationException. Subclasses with mutable storage override these methods.
+ */
+public abstract class BaseColumnarLineDataSet extends LineDataSet implements IColumnarDataSet {
+
+    /**
+     * the number of values this DataSet holds
+     */
+    protected int mEntryCount;
+
+    public BaseColumnarLineDataSet(String label) {
+        super(null, label);
+    }
+
+    @Override
+    public void calcMinMax() {
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+        mXMin = Float.MAX_VALUE;
+
+        invalidateRangeIndex();
+
+        for (int i = 0; i < mEntryCount; i++) {
+            calcMinMax(getXForIndex(i), getYForIndex(i));
+        }
+
+        calcUniformXSpacing();
+    }
+
+    @Override
+    public void calcMinMaxY(float fromX, float toX) {
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+
+        if (mEntryCount == 0)
+            return;
+
+        int indexFrom = getEntryIndex(fromX, Float.NaN, Rounding.DOWN);
+        int indexTo = getEntryIndex(toX, Float.NaN, Rounding.UP);
+
+        if (indexTo < indexFrom) return;
+
+        if (isRangeIndexEnabled()) {
+            calcMinMaxYFromRangeIndex(indexFrom, indexTo);
+            return;
+        }
+
+        for (int i = indexFrom; i <= indexTo; i++) {
+
+            // only recalculate y
+            calcMinMaxY(getYForIndex(i));
+        }
+    }
+
+    @Override
+    protected void rebuildRangeIndex() {
+
+        if (mYRangeIndex == null)
+            mYRangeIndex = new MinMaxSegmentTree(mEntryCount);
+        else
+            mYRangeIndex.clear();
+
+        for (int i = 0; i < mEntryCount; i++) {
+            float y = getYForIndex(i);
+            mYRangeIndex.add(y, y);
+        }
+
+        mYRangeIndexValid = true;
+    }
+
+    /**
+     * Updates the min and max x and y value of this DataSet based on the given values.
+     *
+     * @param x
+     * @param y
+     */
+    protected void calcMinMax(float x, float y) {
+
+        if (x < mXMin)
+            mXMin = x;
+
+        if (x > mXMax)
+            mXMax = x;
+
+        calcMinMaxY(y);
+    }
+
+    protected void calcMinMaxY(float y) {
+
+        if (y < mYMin)
+            mYMin = y;
+
+        if (y > mYMax)
+            mYMax = y;
+    }
+
+    @Override
+    public int getEntryCount() {
+        return mEntryCount;
+    }
+
+    @Override
+    protected float getXValueAt(int index) {
+        return getXForIndex(index);
+    }
+
+    @Override
+    protected float getYValueAt(int index) {
+        return getYForIndex(index);
+    }
+
+    @Override
+    public boolean addEntry(Entry e) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " is read-only");
+    }
+
+    @Override
+    public void addEntryOrdered(Entry e) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " is read-only");
+    }
+
+    @Override
+    public boolean addEntries(Collection<? extends Entry> entries) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " is read-only");
+    }
+
+    @Override
+    public void addEntriesOrdered(Collection<? extends Entry> entries) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " is read-only");
+    }
+
+    @Override
+    public void replaceRange(int fromIndex, int toIndex, Collection<? extends Entry> entries) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " is read-only");
+    }
+
+    @Override
+    public boolean removeEntry(int index) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " is read-only");
+    }
+
+    @Override
+    public boolean removeEntry(Entry e) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " is read-only");
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " is read-only");
+    }
+
+    @Override
+    public void setEntries(List<Entry> entries) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " is read-only");
+    }
+
+    @Override
+    public boolean contains(Entry e) {
+        return getEntryIndex(e) > -1;
+    }
+
+    @Override
+    public Entry getEntryForIndex(int index) {
+        return getEntryForIndex(index, new Entry());
+    }
+
+    @Override
+    public Entry getEntryForIndex(int index, Entry reuse) {
+
+        if (index < 0 || index >= mEntryCount)
+            return null;
+
+        reuse.setX(getXForIndex(index));
+        reuse.setY(getYForIndex(index));
+        return reuse;
+    }
+
+    @Override
+    public Entry getEntryForXValue(float xValue, float closestToY, Rounding rounding) {
+        return getEntryForIndex(getEntryIndex(xValue, closestToY, rounding));
+    }
+
+    @Override
+    public int getEntryIndex(Entry e) {
+
+        if (e == null)
+            return -1;
+
+        int index = getEntryIndex(e.getX(), e.getY(), Rounding.CLOSEST);
+
+        if (index > -1 && getXForIndex(index) == e.getX() && getYForIndex(index) == e.getY())
+            return index;
+
+        return -1;
+    }
+
+    @Override
+    public int getIndexInEntries(int xIndex) {
+
+        for (int i = 0; i < mEntryCount; i++) {
+            if (xIndex == getXForIndex(i))
+                return i;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int getEntryIndex(float xValue, float closestToY, Rounding rounding) {
+
+        if (mEntryCount == 0)
+            return -1;
+
+        if (mUniformXStep > 0f)
+            return getUniformEntryIndex(xValue, rounding);
+
+        int low = 0;
+        int high = mEntryCount - 1;
+        int closest = high;
+
+        while (low < high) {
+            int m = low + (high - low) / 2;
+
+            final float d1 = getXForIndex(m) - xValue,
+                        d2 = getXForIndex(m + 1) - xValue,
+                        ad1 = Math.abs(d1),
+                        ad2 = Math.abs(d2);
+
+            if (ad2 < ad1) {
+                // [m + 1] is closer to xValue
+                low = m + 1;
+            } else if (ad1 < ad2) {
+                // [m] is closer to xValue
+                high = m;
+            } else {
+                // We have multiple sequential x-value with same distance
+                if (d1 >= 0.0) {
+                    high = m;
+                } else {
+                    low = m + 1;
+                }
+            }
+
+            closest = high;
+        }
+
+        float closestXValue = getXForIndex(closest);
+
+        if (rounding == Rounding.UP) {
+            // If rounding up, and found x-value is lower than specified x, and we can go upper...
+            if (closestXValue < xValue && closest < mEntryCount - 1) {
+                ++closest;
+            }
+        } else if (rounding == Rounding.DOWN) {
+            // If rounding down, and found x-value is upper than specified x, and we can go lower...
+            if (closestXValue > xValue && closest > 0) {
+                --closest;
+            }
+        }
+
+        // Search by closest to y-value
+        if (!Float.isNaN(closestToY)) {
+            while (closest > 0 && getXForIndex(closest - 1) == closestXValue)
+                closest -= 1;
+
+            float closestYValue = getYForIndex(closest);
+            int closestYIndex = closest;
+
+            while (true) {
+                closest += 1;
+                if (closest >= mEntryCount || getXForIndex(closest) != closestXValue)
+                    break;
+
+                if (Math.abs(getYForIndex(closest) - closestToY) <= Math.abs(closestYValue - closestToY)) {
+                    closestYValue = closestToY;
+                    closestYIndex = closest;
+                }
+            }
+
+            closest = closestYIndex;
+        }
+
+        return closest;
+    }
+
+    @Override
+    public List<Entry> getEntriesForXValue(float xValue) {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        int low = 0;
+        int high = mEntryCount - 1;
+
+        while (low <= high) {
+            int m = (high + low) / 2;
+
+            // if we have a match
+            if (xValue == getXForIndex(m)) {
+                while (m > 0 && getXForIndex(m - 1) == xValue)
+                    m--;
+
+                // loop over all "equal" entries
+                for (; m < mEntryCount && getXForIndex(m) == xValue; m++) {
+                    entries.add(new Entry(getXForIndex(m), getYForIndex(m)));
+                }
+
+                break;
+            } else {
+                if (xValue > getXForIndex(m))
+                    low = m + 1;
+                else
+                    high = m - 1;
+            }
+        }
+
+        return entries;
+    }
+
+    /**
+     * Returns a new list holding a copy of all values as Entry objects. Changes to the list are
+     * not reflected in this DataSet.
+     *
+     * @return
+     */
+    @Override
+    public List<Entry> getEntries() {
+
+        List<Entry> entries = new ArrayList<Entry>(mEntryCount);
+
+        for (int i = 0; i < mEntryCount; i++) {
+            entries.add(new Entry(getXForIndex(i), getYForIndex(i)));
+        }
+
+        return entries;
+    }
+
+    @Deprecated
+    @Override
+    public List<Entry> getValues() {
+        return getEntries();
+    }
+
+    @Override
+    public String toString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append(toSimpleString());
+        for (int i = 0; i < mEntryCount; i++) {
+            buffer.append("Entry, x: " + getXForIndex(i) + " y: " + getYForIndex(i) + " ");
+        }
+        return buffer.toString();
+    }
+
+    @Override
+    public String toSimpleString() {
+        return "DataSet, label: " + (getLabel() == null ? "" : getLabel()) + ", entries: " + mEntryCount + "\n";
+    }
+}
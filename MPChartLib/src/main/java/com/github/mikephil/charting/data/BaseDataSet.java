@@ -28,6 +28,12 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      */
     protected List<Integer> mColors = null;
 
+    /**
+     * mColors as an array, created on demand and dropped when the colors are set or in
+     * notifyDataSetChanged()
+     */
+    private int[] mColorArray = null;
+
     /**
      * List representing all colors that are used for drawing the actual values for this DataSet
      */
@@ -114,6 +120,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      * Use this method to tell the data set that the underlying data has changed.
      */
     public void notifyDataSetChanged() {
+        mColorArray = null;
         calcMinMax();
     }
 
@@ -141,6 +148,24 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
         return mColors.get(index % mColors.size());
     }
 
+    @Override
+    public int[] getColorArray() {
+
+        if (mColorArray == null) {
+
+            final int size = mColors.size();
+            int[] colors = new int[size];
+
+            for (int i = 0; i < size; i++) {
+                colors[i] = mColors.get(i);
+            }
+
+            mColorArray = colors;
+        }
+
+        return mColorArray;
+    }
+
     /**
      * ###### ###### COLOR SETTING RELATED METHODS ##### ######
      */
@@ -156,6 +181,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      */
     public void setColors(List<Integer> colors) {
         this.mColors = colors;
+        mColorArray = null;
     }
 
     /**
@@ -169,6 +195,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      */
     public void setColors(int... colors) {
         this.mColors = ColorTemplate.createColors(colors);
+        mColorArray = null;
     }
 
     /**
@@ -188,6 +215,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
         }
 
         mColors.clear();
+        mColorArray = null;
 
         for (int color : colors) {
             mColors.add(c.getResources().getColor(color));
@@ -203,6 +231,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
         if (mColors == null)
             mColors = new ArrayList<>();
         mColors.add(color);
+        mColorArray = null;
     }
 
     /**
@@ -214,6 +243,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
     public void setColor(int color) {
         resetColors();
         mColors.add(color);
+        mColorArray = null;
     }
 
     /**
@@ -247,6 +277,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
             mColors = new ArrayList<>();
         }
         mColors.clear();
+        mColorArray = null;
     }
 
     /**
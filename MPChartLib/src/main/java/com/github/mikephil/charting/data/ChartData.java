@@ -11,6 +11,7 @@ import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -446,6 +447,88 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> implements
         }
     }
 
+    /**
+     * Adds the given entries to the end of the DataSet at the specified index. The minimum and
+     * maximum values are updated once for all entries.
+     *
+     * @param entries
+     * @param dataSetIndex
+     */
+    public void addEntries(Collection<? extends Entry> entries, int dataSetIndex) {
+
+        if (mDataSets.size() > dataSetIndex && dataSetIndex >= 0) {
+
+            T set = mDataSets.get(dataSetIndex);
+
+            if (!asEntryDataSet(set).addEntries(entries))
+                return;
+
+            // the bounds of the DataSet now include the new entries
+            calcMinMax(set);
+
+        } else {
+            Log.e("addEntries", "Cannot add Entries because dataSetIndex too high or too low.");
+        }
+    }
+
+    /**
+     * Adds the given entries to the DataSet at the specified index, at their appropriate index
+     * respective to their x-position. The entries are merged with the existing ones in one pass.
+     *
+     * @param entries
+     * @param dataSetIndex
+     */
+    public void addEntriesOrdered(Collection<? extends Entry> entries, int dataSetIndex) {
+
+        if (mDataSets.size() > dataSetIndex && dataSetIndex >= 0) {
+
+            T set = mDataSets.get(dataSetIndex);
+            asEntryDataSet(set).addEntriesOrdered(entries);
+
+            calcMinMax(set);
+
+        } else {
+            Log.e("addEntriesOrdered",
+                    "Cannot add Entries because dataSetIndex too high or too low.");
+        }
+    }
+
+    /**
+     * Replaces the entries from fromIndex (inclusive) to toIndex (exclusive) of the DataSet at the
+     * specified index with the given entries, which need to be sorted by x-value.
+     *
+     * @param fromIndex
+     * @param toIndex
+     * @param entries
+     * @param dataSetIndex
+     */
+    public void replaceRange(int fromIndex, int toIndex, Collection<? extends Entry> entries,
+                             int dataSetIndex) {
+
+        if (mDataSets.size() > dataSetIndex && dataSetIndex >= 0) {
+
+            asEntryDataSet(mDataSets.get(dataSetIndex)).replaceRange(fromIndex, toIndex, entries);
+
+            // replaced entries could have been the bounds
+            calcMinMax();
+
+        } else {
+            Log.e("replaceRange", "Cannot replace Entries because dataSetIndex too high or too low.");
+        }
+    }
+
+    /**
+     * Returns the given DataSet typed to take any Entry, for the methods adding entries that are
+     * only known as Entry here. Like addEntry(...), entries of the wrong type fail in the DataSet.
+     *
+     * @param set
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    private static IDataSet<Entry> asEntryDataSet(IDataSet<? extends Entry> set) {
+        return (IDataSet<Entry>) set;
+    }
+
     /**
      * Adjusts the current minimum and maximum values based on the provided Entry object.
      *
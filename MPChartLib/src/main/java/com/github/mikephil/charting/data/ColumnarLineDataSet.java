@@ -0,0 +1,364 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.utils.EntryXComparator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * LineDataSet that stores its values column-wise in growable primitive float arrays instead of
+ * holding one Entry object per value. A value costs 8 bytes here, compared to a list slot plus an
+ * Entry object (object header, x, y, data and icon fields) for the regular LineDataSet, which adds
+ * up to roughly 40 bytes per value and one object for the garbage collector to trace.
+ * <p/>
+ * Entry objects are only created on demand, e.g. by getEntryForIndex(...), and are not backed by
+ * the DataSet: changing them does not change the data. Custom data and icons of added entries
+ * are not stored.
+ */
+public class ColumnarLineDataSet extends BaseColumnarLineDataSet {
+
+    /**
+     * the x-values of this DataSet, valid up to mEntryCount
+     */
+    protected float[] mXValues;
+
+    /**
+     * the y-values of this DataSet, valid up to mEntryCount
+     */
+    protected float[] mYValues;
+
+    public ColumnarLineDataSet(String label) {
+        this(16, label);
+    }
+
+    public ColumnarLineDataSet(int initialCapacity, String label) {
+        super(label);
+
+        mXValues = new float[Math.max(initialCapacity, 1)];
+        mYValues = new float[mXValues.length];
+    }
+
+    /**
+     * Creates a new DataSet that takes ownership of the given arrays, they are not copied.
+     * The x-values need to be sorted in ascending order.
+     *
+     * @param xValues
+     * @param yValues
+     * @param label
+     */
+    public ColumnarLineDataSet(float[] xValues, float[] yValues, String label) {
+        super(label);
+
+        if (xValues.length != yValues.length)
+            throw new IllegalArgumentException("x- and y-values need to have the same length");
+
+        mXValues = xValues;
+        mYValues = yValues;
+        mEntryCount = xValues.length;
+
+        calcMinMax();
+    }
+
+    public ColumnarLineDataSet(List<Entry> entries, String label) {
+        this(entries == null ? 16 : entries.size(), label);
+
+        if (entries != null)
+            setEntries(entries);
+    }
+
+    @Override
+    public float getXForIndex(int index) {
+        return mXValues[index];
+    }
+
+    @Override
+    public float getYForIndex(int index) {
+        return mYValues[index];
+    }
+
+    /**
+     * Returns the array holding the x-values of this DataSet. Only the first getEntryCount()
+     * values are valid. Do not modify the array.
+     *
+     * @return
+     */
+    public float[] getXValues() {
+        return mXValues;
+    }
+
+    /**
+     * Returns the array holding the y-values of this DataSet. Only the first getEntryCount()
+     * values are valid. Do not modify the array.
+     *
+     * @return
+     */
+    public float[] getYValues() {
+        return mYValues;
+    }
+
+    /**
+     * Makes sure the backing arrays can hold at least the given number of values.
+     *
+     * @param capacity
+     */
+    public void ensureCapacity(int capacity) {
+
+        if (capacity <= mXValues.length)
+            return;
+
+        int newCapacity = Math.max(capacity, mXValues.length + (mXValues.length >> 1));
+        mXValues = Arrays.copyOf(mXValues, newCapacity);
+        mYValues = Arrays.copyOf(mYValues, newCapacity);
+    }
+
+    /**
+     * Shrinks the backing arrays to the number of values this DataSet holds.
+     */
+    public void trimToSize() {
+
+        if (mEntryCount == mXValues.length || mEntryCount == 0)
+            return;
+
+        mXValues = Arrays.copyOf(mXValues, mEntryCount);
+        mYValues = Arrays.copyOf(mYValues, mEntryCount);
+    }
+
+    /**
+     * Adds the given values to the end of this DataSet.
+     *
+     * @param x
+     * @param y
+     */
+    public void add(float x, float y) {
+
+        ensureCapacity(mEntryCount + 1);
+
+        mXValues[mEntryCount] = x;
+        mYValues[mEntryCount] = y;
+        mEntryCount++;
+
+        if (mYRangeIndexValid)
+            mYRangeIndex.add(y, y);
+
+        updateUniformXSpacing(x);
+
+        calcMinMax(x, y);
+    }
+
+    /**
+     * Adds the given values at their appropriate index respective to their x-position.
+     *
+     * @param x
+     * @param y
+     */
+    public void addOrdered(float x, float y) {
+
+        if (mEntryCount == 0 || mXValues[mEntryCount - 1] <= x) {
+            add(x, y);
+            return;
+        }
+
+        int index = getEntryIndex(x, y, Rounding.UP);
+
+        ensureCapacity(mEntryCount + 1);
+
+        System.arraycopy(mXValues, index, mXValues, index + 1, mEntryCount - index);
+        System.arraycopy(mYValues, index, mYValues, index + 1, mEntryCount - index);
+
+        mXValues[index] = x;
+        mYValues[index] = y;
+        mEntryCount++;
+
+        invalidateRangeIndex();
+        mUniformXStep = 0f;
+        calcMinMax(x, y);
+    }
+
+    @Override
+    public boolean addEntry(Entry e) {
+
+        if (e == null)
+            return false;
+
+        add(e.getX(), e.getY());
+        return true;
+    }
+
+    @Override
+    public void addEntryOrdered(Entry e) {
+
+        if (e == null)
+            return;
+
+        addOrdered(e.getX(), e.getY());
+    }
+
+    @Override
+    public boolean addEntries(Collection<? extends Entry> entries) {
+
+        if (entries == null || entries.isEmpty())
+            return false;
+
+        ensureCapacity(mEntryCount + entries.size());
+
+        for (Entry e : entries) {
+            add(e.getX(), e.getY());
+        }
+
+        return true;
+    }
+
+    @Override
+    public void addEntriesOrdered(Collection<? extends Entry> entries) {
+
+        if (entries == null || entries.isEmpty())
+            return;
+
+        List<Entry> sorted = new ArrayList<Entry>(entries);
+        Collections.sort(sorted, new EntryXComparator());
+
+        if (mEntryCount == 0 || getXForIndex(mEntryCount - 1) <= sorted.get(0).getX()) {
+            addEntries(sorted);
+            return;
+        }
+
+        ensureCapacity(mEntryCount + sorted.size());
+
+        // merge both sorted runs from the back, existing values with the same x-value stay in
+        // front of the new ones
+        int i = mEntryCount - 1;
+        int j = sorted.size() - 1;
+        int w = mEntryCount + sorted.size() - 1;
+
+        while (j >= 0) {
+            if (i >= 0 && mXValues[i] > sorted.get(j).getX()) {
+                mXValues[w] = mXValues[i];
+                mYValues[w--] = mYValues[i--];
+            } else {
+                Entry e = sorted.get(j--);
+                mXValues[w] = e.getX();
+                mYValues[w--] = e.getY();
+            }
+        }
+
+        mEntryCount += sorted.size();
+
+        invalidateRangeIndex();
+
+        for (Entry e : sorted) {
+            calcMinMax(e.getX(), e.getY());
+        }
+
+        // backfilled gaps can make the values evenly spaced
+        calcUniformXSpacing();
+    }
+
+    @Override
+    public void replaceRange(int fromIndex, int toIndex, Collection<? extends Entry> entries) {
+
+        if (fromIndex < 0 || toIndex > mEntryCount || fromIndex > toIndex)
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex
+                    + ", size: " + mEntryCount);
+
+        final int count = entries == null ? 0 : entries.size();
+        final int newCount = mEntryCount - (toIndex - fromIndex) + count;
+
+        ensureCapacity(newCount);
+
+        System.arraycopy(mXValues, toIndex, mXValues, fromIndex + count, mEntryCount - toIndex);
+        System.arraycopy(mYValues, toIndex, mYValues, fromIndex + count, mEntryCount - toIndex);
+
+        if (entries != null) {
+            int i = fromIndex;
+
+            for (Entry e : entries) {
+                mXValues[i] = e.getX();
+                mYValues[i++] = e.getY();
+            }
+        }
+
+        mEntryCount = newCount;
+
+        calcMinMax();
+    }
+
+    @Override
+    public boolean removeEntry(int index) {
+
+        if (index < 0 || index >= mEntryCount)
+            return false;
+
+        float x = mXValues[index];
+        float y = mYValues[index];
+
+        System.arraycopy(mXValues, index + 1, mXValues, index, mEntryCount - index - 1);
+        System.arraycopy(mYValues, index + 1, mYValues, index, mEntryCount - index - 1);
+        mEntryCount--;
+
+        invalidateRangeIndex();
+
+        // only rescan if the removed value was one of the bounds
+        if (x == mXMin || x == mXMax || y == mYMin || y == mYMax)
+            calcMinMax();
+        else
+            mUniformXStep = 0f;
+
+        return true;
+    }
+
+    @Override
+    public boolean removeEntry(Entry e) {
+        return removeEntry(getEntryIndex(e));
+    }
+
+    @Override
+    public boolean removeFirst() {
+        return removeEntry(0);
+    }
+
+    @Override
+    public boolean removeLast() {
+        return removeEntry(mEntryCount - 1);
+    }
+
+    @Override
+    public void clear() {
+        mEntryCount = 0;
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Replaces the values of this DataSet with the x- and y-values of the given entries, and
+     * calls notifyDataSetChanged()
+     *
+     * @param entries
+     */
+    @Override
+    public void setEntries(List<Entry> entries) {
+
+        mEntryCount = 0;
+
+        if (entries != null) {
+            ensureCapacity(entries.size());
+
+            for (Entry e : entries) {
+                mXValues[mEntryCount] = e.getX();
+                mYValues[mEntryCount] = e.getY();
+                mEntryCount++;
+            }
+        }
+
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public DataSet<Entry> copy() {
+        ColumnarLineDataSet copied = new ColumnarLineDataSet(Arrays.copyOf(mXValues, mEntryCount),
+                Arrays.copyOf(mYValues, mEntryCount), getLabel());
+        copy(copied);
+        return copied;
+    }
+}
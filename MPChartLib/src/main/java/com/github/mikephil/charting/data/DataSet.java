@@ -1,8 +1,14 @@
 
 package com.github.mikephil.charting.data;
 
+import com.github.mikephil.charting.utils.EntryXComparator;
+import com.github.mikephil.charting.utils.MinMaxSegmentTree;
+import com.github.mikephil.charting.utils.PointGridIndex;
+
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -15,6 +21,11 @@ import java.util.List;
  */
 public abstract class DataSet<T extends Entry> extends BaseDataSet<T> implements Serializable {
 
+    /**
+     * maximum deviation of an x-value from its evenly spaced position, relative to the spacing
+     */
+    protected static final float UNIFORM_X_TOLERANCE = 0.001f;
+
     /**
      * the entries that this DataSet represents / holds together
      */
@@ -40,6 +51,47 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> implements
      */
     protected float mXMin = Float.MAX_VALUE;
 
+    /**
+     * if true, min and max y-values of index ranges are answered by mYRangeIndex
+     */
+    private boolean mRangeIndexEnabled = false;
+
+    /**
+     * index over the y-range of each entry, for calculating the min and max y-values between two
+     * x-values in O(log n)
+     */
+    protected transient MinMaxSegmentTree mYRangeIndex = null;
+
+    /**
+     * false if mYRangeIndex needs to be rebuilt before it can be queried
+     */
+    protected transient boolean mYRangeIndexValid = false;
+
+    /**
+     * if true, getSpatialIndex() keeps a grid over the positions of all entries
+     */
+    private boolean mSpatialIndexEnabled = false;
+
+    /**
+     * grid over the x- and y-values of all entries, for finding the closest entry to a position
+     */
+    protected transient PointGridIndex mSpatialIndex = null;
+
+    /**
+     * false if mSpatialIndex needs to be rebuilt, appended entries are added on the next query
+     */
+    protected transient boolean mSpatialIndexValid = false;
+
+    /**
+     * if true, x-lookups use a direct calculation when the entries are evenly spaced on the x-axis
+     */
+    private boolean mUniformXLookupEnabled = true;
+
+    /**
+     * the x-distance between consecutive entries if they are evenly spaced, 0 if they are not
+     */
+    protected float mUniformXStep = 0f;
+
 
     /**
      * Creates a new DataSet object with the given values (entries) it represents. Also, a
@@ -66,6 +118,9 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> implements
         mYMin = Float.MAX_VALUE;
         mXMax = -Float.MAX_VALUE;
         mXMin = Float.MAX_VALUE;
+        mUniformXStep = 0f;
+
+        invalidateRangeIndex();
 
         if (mEntries == null || mEntries.isEmpty())
             return;
@@ -73,6 +128,8 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> implements
         for (T e : mEntries) {
             calcMinMax(e);
         }
+
+        calcUniformXSpacing();
     }
 
     @Override
@@ -88,6 +145,11 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> implements
 
         if (indexTo < indexFrom) return;
 
+        if (mRangeIndexEnabled) {
+            calcMinMaxYFromRangeIndex(indexFrom, indexTo);
+            return;
+        }
+
         for (int i = indexFrom; i <= indexTo; i++) {
 
             // only recalculate y
@@ -95,6 +157,321 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> implements
         }
     }
 
+    /**
+     * Enables / disables an index over the y-values of this DataSet, so that calculating the min
+     * and max y-values between two x-values (as done for every frame by the autoScaleMinMax
+     * feature) takes O(log n) instead of iterating all entries in between. The index takes
+     * 8 bytes per entry. It is updated when entries are appended, and rebuilt on the next query
+     * after any other change. Default: disabled
+     *
+     * @param enabled
+     */
+    public void setRangeIndexEnabled(boolean enabled) {
+        mRangeIndexEnabled = enabled;
+
+        if (!enabled)
+            mYRangeIndex = null;
+
+        invalidateRangeIndex();
+    }
+
+    /**
+     * Returns true if the y-value range index is enabled.
+     *
+     * @return
+     */
+    public boolean isRangeIndexEnabled() {
+        return mRangeIndexEnabled;
+    }
+
+    /**
+     * Marks the range index as outdated, it is rebuilt before the next query. Any change that
+     * outdates the range index outdates the spatial index as well.
+     */
+    protected void invalidateRangeIndex() {
+        mYRangeIndexValid = false;
+        invalidateSpatialIndex();
+    }
+
+    /**
+     * Sets mYMin and mYMax to the min and max y-values between the given indices (both
+     * inclusive), using the range index.
+     *
+     * @param indexFrom
+     * @param indexTo
+     */
+    protected void calcMinMaxYFromRangeIndex(int indexFrom, int indexTo) {
+        mYMin = getYMinForIndexRange(indexFrom, indexTo);
+        mYMax = getYMaxForIndexRange(indexFrom, indexTo);
+    }
+
+    @Override
+    public float getYMinForIndexRange(int fromIndex, int toIndex) {
+
+        if (!mYRangeIndexValid)
+            rebuildRangeIndex();
+
+        return mYRangeIndex.getMin(fromIndex, toIndex);
+    }
+
+    @Override
+    public float getYMaxForIndexRange(int fromIndex, int toIndex) {
+
+        if (!mYRangeIndexValid)
+            rebuildRangeIndex();
+
+        return mYRangeIndex.getMax(fromIndex, toIndex);
+    }
+
+    /**
+     * Rebuilds the range index from all entries.
+     */
+    protected void rebuildRangeIndex() {
+
+        if (mYRangeIndex == null)
+            mYRangeIndex = new MinMaxSegmentTree(getEntryCount());
+        else
+            mYRangeIndex.clear();
+
+        mYRangeIndexValid = true;
+
+        for (int i = 0; i < mEntries.size(); i++) {
+            appendToRangeIndex(mEntries.get(i));
+        }
+    }
+
+    /**
+     * Enables / disables a grid over the positions of the entries of this DataSet, used for
+     * highlighting the entry closest to a touch (see NearestPointHighlighter) without checking
+     * every entry. The index takes 12 bytes per entry. Appended entries are added to it on the
+     * next query, it is rebuilt after any other change. Default: disabled
+     *
+     * @param enabled
+     */
+    public void setSpatialIndexEnabled(boolean enabled) {
+        mSpatialIndexEnabled = enabled;
+
+        if (!enabled)
+            mSpatialIndex = null;
+
+        invalidateSpatialIndex();
+    }
+
+    /**
+     * Returns true if the spatial index is enabled.
+     *
+     * @return
+     */
+    public boolean isSpatialIndexEnabled() {
+        return mSpatialIndexEnabled;
+    }
+
+    /**
+     * Marks the spatial index as outdated, it is rebuilt before the next query.
+     */
+    protected void invalidateSpatialIndex() {
+        mSpatialIndexValid = false;
+    }
+
+    /**
+     * Returns the spatial index over the x- and y-values of the entries, the index of a point
+     * is the index of its Entry. Returns null if the index is disabled.
+     *
+     * @return
+     */
+    public PointGridIndex getSpatialIndex() {
+
+        if (!mSpatialIndexEnabled)
+            return null;
+
+        final int count = getEntryCount();
+
+        // rebuild if outdated, or if the cells became too crowded for the appended entries
+        if (!mSpatialIndexValid || mSpatialIndex.size() > count
+                || count > mSpatialIndex.getTunedSize() * 4) {
+
+            if (mSpatialIndex == null)
+                mSpatialIndex = new PointGridIndex(count);
+
+            mSpatialIndex.reset(getXMin(), getXMax(), getYMin(), getYMax(), count);
+            mSpatialIndexValid = true;
+        }
+
+        for (int i = mSpatialIndex.size(); i < count; i++) {
+            mSpatialIndex.add(getXValueAt(i), getYValueAt(i));
+        }
+
+        return mSpatialIndex;
+    }
+
+    /**
+     * Enables / disables the direct index calculation in getEntryIndex(...) for DataSets whose
+     * entries are evenly spaced on the x-axis (e.g. sampled at a fixed interval). Even spacing is
+     * detected whenever the min and max values are calculated, and kept up to date when entries
+     * are appended. Lookups then take O(1) instead of a binary search, and irregular data falls
+     * back to the binary search. Default: enabled
+     *
+     * @param enabled
+     */
+    public void setUniformXLookupEnabled(boolean enabled) {
+        mUniformXLookupEnabled = enabled;
+        calcUniformXSpacing();
+    }
+
+    /**
+     * Returns true if the direct index calculation for evenly spaced entries is enabled.
+     *
+     * @return
+     */
+    public boolean isUniformXLookupEnabled() {
+        return mUniformXLookupEnabled;
+    }
+
+    /**
+     * Returns true if the entries of this DataSet are evenly spaced on the x-axis, and x-lookups
+     * are calculated directly.
+     *
+     * @return
+     */
+    public boolean isUniformXSpacing() {
+        return mUniformXStep > 0f;
+    }
+
+    /**
+     * Returns the x-value of the Entry at the given index.
+     *
+     * @param index
+     * @return
+     */
+    protected float getXValueAt(int index) {
+        return mEntries.get(index).getX();
+    }
+
+    /**
+     * Returns the y-value of the Entry at the given index.
+     *
+     * @param index
+     * @return
+     */
+    protected float getYValueAt(int index) {
+        return mEntries.get(index).getY();
+    }
+
+    /**
+     * Checks if all entries are evenly spaced on the x-axis, and sets mUniformXStep accordingly.
+     */
+    protected void calcUniformXSpacing() {
+
+        mUniformXStep = 0f;
+
+        final int count = getEntryCount();
+
+        if (!mUniformXLookupEnabled || count < 2)
+            return;
+
+        final float first = getXValueAt(0);
+        final float step = (getXValueAt(count - 1) - first) / (count - 1);
+
+        if (!(step > 0f) || Float.isInfinite(step))
+            return;
+
+        final float tolerance = step * UNIFORM_X_TOLERANCE;
+
+        for (int i = 1; i < count - 1; i++) {
+            if (Math.abs(getXValueAt(i) - (first + i * (double) step)) > tolerance)
+                return;
+        }
+
+        mUniformXStep = step;
+    }
+
+    /**
+     * Call after an Entry with the given x-value has been appended, keeps mUniformXStep valid.
+     *
+     * @param x
+     */
+    protected void updateUniformXSpacing(float x) {
+
+        final int count = getEntryCount();
+
+        if (count <= 2) {
+            calcUniformXSpacing();
+            return;
+        }
+
+        final float step = mUniformXStep;
+
+        if (step > 0f
+                && Math.abs(x - (getXValueAt(0) + (count - 1) * (double) step)) > step * UNIFORM_X_TOLERANCE)
+            mUniformXStep = 0f;
+    }
+
+    /**
+     * Calculates the index of the Entry closest to the given x-value for evenly spaced entries,
+     * with the same results as the binary search in getEntryIndex(...). As there are no entries
+     * with the same x-value, closestToY has no effect.
+     *
+     * @param xValue
+     * @param rounding
+     * @return
+     */
+    protected int getUniformEntryIndex(float xValue, Rounding rounding) {
+
+        final int count = getEntryCount();
+        final double position = (xValue - getXValueAt(0)) / (double) mUniformXStep;
+
+        int closest;
+
+        if (position <= 0.0)
+            closest = 0;
+        else if (position >= count - 1)
+            closest = count - 1;
+        else
+            closest = (int) Math.floor(position + 0.5);
+
+        // correct float inaccuracies, if two entries are equally close the search picks the higher one
+        while (closest < count - 1
+                && Math.abs(getXValueAt(closest + 1) - xValue) <= Math.abs(getXValueAt(closest) - xValue))
+            closest++;
+
+        while (closest > 0
+                && Math.abs(getXValueAt(closest - 1) - xValue) < Math.abs(getXValueAt(closest) - xValue))
+            closest--;
+
+        final float closestXValue = getXValueAt(closest);
+
+        if (rounding == Rounding.UP) {
+            if (closestXValue < xValue && closest < count - 1)
+                ++closest;
+        } else if (rounding == Rounding.DOWN) {
+            if (closestXValue > xValue && closest > 0)
+                --closest;
+        }
+
+        return closest;
+    }
+
+    /**
+     * Appends the y-range of the given Entry to the range index, as determined by
+     * calcMinMaxY(Entry).
+     *
+     * @param e
+     */
+    protected void appendToRangeIndex(T e) {
+
+        final float yMin = mYMin;
+        final float yMax = mYMax;
+
+        mYMin = Float.MAX_VALUE;
+        mYMax = -Float.MAX_VALUE;
+
+        calcMinMaxY(e);
+        mYRangeIndex.add(mYMin, mYMax);
+
+        mYMin = yMin;
+        mYMax = yMax;
+    }
+
     /**
      * Updates the min and max x and y value of this DataSet based on the given Entry.
      *
@@ -246,8 +623,15 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> implements
         if (mEntries.size() > 0 && mEntries.get(mEntries.size() - 1).getX() > e.getX()) {
             int closestIndex = getEntryIndex(e.getX(), e.getY(), Rounding.UP);
             mEntries.add(closestIndex, e);
+            invalidateRangeIndex();
+            mUniformXStep = 0f;
         } else {
             mEntries.add(e);
+
+            if (mYRangeIndexValid)
+                appendToRangeIndex(e);
+
+            updateUniformXSpacing(e.getX());
         }
     }
 
@@ -271,7 +655,110 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> implements
         calcMinMax(e);
 
         // add the entry
-        return values.add(e);
+        if (!values.add(e))
+            return false;
+
+        if (values == mEntries) {
+            if (mYRangeIndexValid)
+                appendToRangeIndex(e);
+
+            updateUniformXSpacing(e.getX());
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean addEntries(Collection<? extends T> entries) {
+
+        if (entries == null || entries.isEmpty())
+            return false;
+
+        if (mEntries == null) {
+            mEntries = new ArrayList<T>(entries.size());
+        } else if (mEntries instanceof ArrayList) {
+            ((ArrayList<T>) mEntries).ensureCapacity(mEntries.size() + entries.size());
+        }
+
+        int from = mEntries.size();
+
+        if (!mEntries.addAll(entries))
+            return false;
+
+        for (int i = from; i < mEntries.size(); i++) {
+            T e = mEntries.get(i);
+            calcMinMax(e);
+
+            if (mYRangeIndexValid)
+                appendToRangeIndex(e);
+
+            updateUniformXSpacing(e.getX());
+        }
+
+        return true;
+    }
+
+    @Override
+    public void addEntriesOrdered(Collection<? extends T> entries) {
+
+        if (entries == null || entries.isEmpty())
+            return;
+
+        List<T> sorted = new ArrayList<T>(entries);
+        Collections.sort(sorted, new EntryXComparator());
+
+        if (mEntries == null || mEntries.isEmpty()
+                || mEntries.get(mEntries.size() - 1).getX() <= sorted.get(0).getX()) {
+            addEntries(sorted);
+            return;
+        }
+
+        final int oldSize = mEntries.size();
+
+        // grow the list, then merge both sorted runs from the back, existing entries with the
+        // same x-value stay in front of the new ones
+        if (mEntries instanceof ArrayList)
+            ((ArrayList<T>) mEntries).ensureCapacity(oldSize + sorted.size());
+
+        mEntries.addAll(sorted);
+
+        int i = oldSize - 1;
+        int j = sorted.size() - 1;
+        int w = mEntries.size() - 1;
+
+        while (j >= 0) {
+            if (i >= 0 && mEntries.get(i).getX() > sorted.get(j).getX())
+                mEntries.set(w--, mEntries.get(i--));
+            else
+                mEntries.set(w--, sorted.get(j--));
+        }
+
+        for (T e : sorted) {
+            calcMinMax(e);
+        }
+
+        invalidateRangeIndex();
+
+        // backfilled gaps can make the entries evenly spaced
+        calcUniformXSpacing();
+    }
+
+    @Override
+    public void replaceRange(int fromIndex, int toIndex, Collection<? extends T> entries) {
+
+        if (mEntries == null)
+            mEntries = new ArrayList<T>();
+
+        if (fromIndex < 0 || toIndex > mEntries.size() || fromIndex > toIndex)
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex
+                    + ", size: " + mEntries.size());
+
+        mEntries.subList(fromIndex, toIndex).clear();
+
+        if (entries != null)
+            mEntries.addAll(fromIndex, entries);
+
+        notifyDataSetChanged();
     }
 
     @Override
@@ -327,6 +814,9 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> implements
         if (mEntries == null || mEntries.isEmpty())
             return -1;
 
+        if (mUniformXStep > 0f)
+            return getUniformEntryIndex(xValue, rounding);
+
         int low = 0;
         int high = mEntries.size() - 1;
         int closest = high;
@@ -6,6 +6,7 @@ import android.graphics.Color;
 import android.graphics.DashPathEffect;
 import android.util.Log;
 
+import com.github.mikephil.charting.data.filter.IDecimator;
 import com.github.mikephil.charting.formatter.DefaultFillFormatter;
 import com.github.mikephil.charting.formatter.IFillFormatter;
 import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
@@ -64,6 +65,16 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
 
     private boolean mDrawCircleHole = true;
 
+    /**
+     * if true, the line is drawn from a min / max pyramid when zoomed out
+     */
+    private boolean mDrawLod = false;
+
+    /**
+     * reduces the visible points before drawing the line, null if disabled
+     */
+    private IDecimator mDecimator = null;
+
     private boolean mMultiDrawFilled;
     private List<MultiFiledData> mMultiFiledDataList;
 
@@ -108,6 +119,8 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
         lineDataSet.mDrawCircles = mDrawCircleHole;
         lineDataSet.mFillFormatter = mFillFormatter;
         lineDataSet.mMode = mMode;
+        lineDataSet.mDrawLod = mDrawLod;
+        lineDataSet.mDecimator = mDecimator;
     }
 
     /**
@@ -259,6 +272,44 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
         return mDrawCircles;
     }
 
+    /**
+     * Set this to true to draw the line from a min / max level-of-detail pyramid when zoomed out
+     * far enough that several entries fall into one pixel. The entries are then grouped into
+     * power-of-two sized buckets matching the current scale, and each bucket is drawn as its
+     * first, lowest, highest and last value, so peaks are preserved while the work per frame is
+     * bounded by the chart width instead of the number of visible entries. The pyramid is the
+     * range index of this DataSet, it is kept up to date when entries are appended.
+     * Only applies to LINEAR mode with a single color, STEPPED DataSets are drawn from all
+     * entries. Default: false
+     *
+     * @param enabled
+     */
+    public void setDrawLodEnabled(boolean enabled) {
+        mDrawLod = enabled;
+    }
+
+    @Override
+    public boolean isDrawLodEnabled() {
+        return mDrawLod;
+    }
+
+    /**
+     * Sets a decimator (e.g. LttbDecimator or M4Decimator) that reduces the visible points to a
+     * number bounded by the chart width before the line is transformed and drawn. Only applies to
+     * LINEAR mode with a single color, STEPPED DataSets are drawn from all points. Set null to
+     * draw all points. Default: null
+     *
+     * @param decimator
+     */
+    public void setDecimator(IDecimator decimator) {
+        mDecimator = decimator;
+    }
+
+    @Override
+    public IDecimator getDecimator() {
+        return mDecimator;
+    }
+
     @Deprecated
     @Override
     public boolean isDrawCubicEnabled() {
@@ -0,0 +1,215 @@
+package com.github.mikephil.charting.data;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * Read-only LineDataSet backed by a memory-mapped binary file, for data sets with millions of
+ * values. The values are not loaded onto the heap: the operating system pages in the parts of
+ * the file that are accessed, which while drawing are only the visible values. The min and max
+ * values are stored in the file header, so opening a file does not read the values.
+ * <p/>
+ * Files are written with BinaryEntryWriter, or converted from the text format with
+ * FileUtils.convertToBinaryFile(...). The file consists of a little-endian header (see
+ * HEADER_SIZE) followed by x/y value pairs in ascending x-order, stored as floats or doubles.
+ * A file is mapped as a whole, so it can have up to 2GB. Adding or removing entries throws an
+ * UnsupportedOperationException.
+ */
+public class MappedLineDataSet extends BaseColumnarLineDataSet {
+
+    /**
+     * the first four bytes of a binary entry file
+     */
+    public static final int MAGIC = 0x4250434d;
+
+    public static final int VERSION = 1;
+
+    /**
+     * header flag: values are stored as doubles instead of floats
+     */
+    public static final int FLAG_DOUBLE_PRECISION = 1;
+
+    /**
+     * header flag: the x-values are evenly spaced
+     */
+    public static final int FLAG_UNIFORM_X = 1 << 1;
+
+    /**
+     * size of the header: magic, version, flags and value count as ints, followed by xMin, xMax,
+     * yMin and yMax as doubles
+     */
+    public static final int HEADER_SIZE = 48;
+
+    /**
+     * the mapped file, or any other buffer holding the binary format
+     */
+    private ByteBuffer mBuffer;
+
+    private boolean mDoublePrecision;
+
+    /**
+     * the flags stored in the header
+     */
+    private int mFlags;
+
+    /**
+     * Maps the given binary entry file.
+     *
+     * @param file
+     * @param label
+     * @throws IOException
+     */
+    public MappedLineDataSet(File file, String label) throws IOException {
+        this(map(file), label);
+    }
+
+    /**
+     * Creates a DataSet reading from the given buffer, which needs to hold the binary entry format.
+     *
+     * @param buffer
+     * @param label
+     */
+    public MappedLineDataSet(ByteBuffer buffer, String label) {
+        super(label);
+
+        ByteBuffer b = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+
+        if (b.capacity() < HEADER_SIZE || b.getInt(0) != MAGIC)
+            throw new IllegalArgumentException("not a binary entry file");
+
+        if (b.getInt(4) != VERSION)
+            throw new IllegalArgumentException("unsupported binary entry file version: " + b.getInt(4));
+
+        mFlags = b.getInt(8);
+        mDoublePrecision = (mFlags & FLAG_DOUBLE_PRECISION) != 0;
+
+        int count = b.getInt(12);
+
+        if (count < 0 || HEADER_SIZE + (long) count * getRecordSize() > b.capacity())
+            throw new IllegalArgumentException("binary entry file is truncated");
+
+        mBuffer = b;
+        mEntryCount = count;
+
+        calcMinMax();
+    }
+
+    private static ByteBuffer map(File file) throws IOException {
+
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+
+        try {
+            FileChannel channel = raf.getChannel();
+
+            if (channel.size() > Integer.MAX_VALUE)
+                throw new IOException("file too large to be mapped: " + file);
+
+            // the mapping stays valid after the file is closed
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } finally {
+            raf.close();
+        }
+    }
+
+    private int getRecordSize() {
+        return mDoublePrecision ? 16 : 8;
+    }
+
+    @Override
+    public float getXForIndex(int index) {
+        if (mDoublePrecision)
+            return (float) mBuffer.getDouble(HEADER_SIZE + index * 16);
+        else
+            return mBuffer.getFloat(HEADER_SIZE + index * 8);
+    }
+
+    @Override
+    public float getYForIndex(int index) {
+        if (mDoublePrecision)
+            return (float) mBuffer.getDouble(HEADER_SIZE + index * 16 + 8);
+        else
+            return mBuffer.getFloat(HEADER_SIZE + index * 8 + 4);
+    }
+
+    /**
+     * Reads the min and max values from the header, no values are read.
+     */
+    @Override
+    public void calcMinMax() {
+
+        // called by the super constructor before the buffer is set
+        if (mBuffer == null) {
+            super.calcMinMax();
+            return;
+        }
+
+        invalidateRangeIndex();
+
+        if (mEntryCount == 0) {
+            mYMax = -Float.MAX_VALUE;
+            mYMin = Float.MAX_VALUE;
+            mXMax = -Float.MAX_VALUE;
+            mXMin = Float.MAX_VALUE;
+            return;
+        }
+
+        mXMin = (float) mBuffer.getDouble(16);
+        mXMax = (float) mBuffer.getDouble(24);
+        mYMin = (float) mBuffer.getDouble(32);
+        mYMax = (float) mBuffer.getDouble(40);
+
+        calcUniformXSpacing();
+    }
+
+    /**
+     * Takes the even spacing of the x-values from the header instead of scanning the file.
+     */
+    @Override
+    protected void calcUniformXSpacing() {
+
+        if (mBuffer == null) {
+            super.calcUniformXSpacing();
+            return;
+        }
+
+        mUniformXStep = 0f;
+
+        if ((mFlags & FLAG_UNIFORM_X) != 0 && isUniformXLookupEnabled() && mEntryCount > 1) {
+            float step = (getXForIndex(mEntryCount - 1) - getXForIndex(0)) / (mEntryCount - 1);
+
+            if (step > 0f)
+                mUniformXStep = step;
+        }
+    }
+
+    /**
+     * Returns true if the values are stored as doubles.
+     *
+     * @return
+     */
+    public boolean isDoublePrecision() {
+        return mDoublePrecision;
+    }
+
+    @Override
+    public DataSet<Entry> copy() {
+        MappedLineDataSet copied = new MappedLineDataSet(mBuffer, getLabel());
+        copy(copied);
+        return copied;
+    }
+
+    @Override
+    public String toString() {
+        return toSimpleString();
+    }
+
+    @Override
+    public String toSimpleString() {
+        return "MappedDataSet, label: " + (getLabel() == null ? "" : getLabel()) + ", entries: "
+                + mEntryCount + "\n";
+    }
+}
@@ -0,0 +1,547 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.utils.EntryXComparator;
+import com.github.mikephil.charting.utils.MinMaxSegmentTree;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * LineDataSet with a fixed capacity for realtime charts. Values are kept in a ring buffer: once
+ * the capacity is reached, adding a value evicts the oldest one. Appending and evicting are O(1),
+ * and the minimum and maximum values stay correct while values are evicted without rescanning
+ * the remaining values, as they are tracked with monotonic queues.
+ * <p/>
+ * Values are expected to be added in ascending x-order, as it is the case for streamed samples.
+ */
+public class RingBufferLineDataSet extends ColumnarLineDataSet {
+
+    /**
+     * physical index of the oldest value in the backing arrays
+     */
+    protected int mHead = 0;
+
+    private ExtremaQueue mXMinQueue;
+    private ExtremaQueue mXMaxQueue;
+    private ExtremaQueue mYMinQueue;
+    private ExtremaQueue mYMaxQueue;
+
+    public RingBufferLineDataSet(int capacity, String label) {
+        super(capacity, label);
+
+        if (capacity < 1)
+            throw new IllegalArgumentException("capacity needs to be at least 1");
+
+        mXMinQueue = new ExtremaQueue(capacity, false);
+        mXMaxQueue = new ExtremaQueue(capacity, true);
+        mYMinQueue = new ExtremaQueue(capacity, false);
+        mYMaxQueue = new ExtremaQueue(capacity, true);
+    }
+
+    public RingBufferLineDataSet(int capacity, List<Entry> entries, String label) {
+        this(capacity, label);
+
+        if (entries != null)
+            setEntries(entries);
+    }
+
+    /**
+     * Returns the maximum number of values this DataSet holds.
+     *
+     * @return
+     */
+    public int getCapacity() {
+        return mXValues.length;
+    }
+
+    /**
+     * Returns true if the capacity is reached, and adding a value will evict the oldest one.
+     *
+     * @return
+     */
+    public boolean isFull() {
+        return mEntryCount == mXValues.length;
+    }
+
+    /**
+     * Maps the given index (NOT xIndex) to the index in the backing arrays.
+     */
+    private int physicalIndex(int index) {
+        int i = mHead + index;
+        return i < mXValues.length ? i : i - mXValues.length;
+    }
+
+    @Override
+    public float getXForIndex(int index) {
+        return mXValues[physicalIndex(index)];
+    }
+
+    @Override
+    public float getYForIndex(int index) {
+        return mYValues[physicalIndex(index)];
+    }
+
+    /**
+     * Adds the given values to the end of this DataSet, evicting the oldest value if the capacity
+     * is reached.
+     *
+     * @param x
+     * @param y
+     */
+    @Override
+    public void add(float x, float y) {
+
+        if (isFull())
+            evictFirst();
+
+        int slot = physicalIndex(mEntryCount);
+
+        mXValues[slot] = x;
+        mYValues[slot] = y;
+        mEntryCount++;
+
+        // the range index is kept by physical index, evicting needs no update
+        if (mYRangeIndexValid)
+            mYRangeIndex.set(slot, y, y);
+
+        updateUniformXSpacing(x);
+
+        mXMinQueue.push(mXValues, slot);
+        mXMaxQueue.push(mXValues, slot);
+        mYMinQueue.push(mYValues, slot);
+        mYMaxQueue.push(mYValues, slot);
+
+        updateMinMax();
+    }
+
+    @Override
+    public void addOrdered(float x, float y) {
+
+        if (mEntryCount == 0 || getXForIndex(mEntryCount - 1) <= x) {
+            add(x, y);
+            return;
+        }
+
+        if (isFull())
+            evictFirst();
+
+        // out of order, shift the values in place
+        linearize();
+        super.addOrdered(x, y);
+        calcMinMax();
+    }
+
+    @Override
+    public void addEntriesOrdered(Collection<? extends Entry> entries) {
+
+        if (entries == null || entries.isEmpty())
+            return;
+
+        List<Entry> sorted = new ArrayList<Entry>(entries);
+        Collections.sort(sorted, new EntryXComparator());
+
+        if (mEntryCount == 0 || getXForIndex(mEntryCount - 1) <= sorted.get(0).getX()) {
+            addEntries(sorted);
+            return;
+        }
+
+        if (mEntryCount + sorted.size() <= getCapacity()) {
+            // out of order, merge in place
+            linearize();
+            super.addEntriesOrdered(sorted);
+            calcMinMax();
+            return;
+        }
+
+        // the oldest values get evicted, merge everything and keep the latest values
+        List<Entry> merged = getEntries();
+        merged.addAll(sorted);
+        Collections.sort(merged, new EntryXComparator());
+
+        setEntries(merged);
+    }
+
+    /**
+     * Replaces the values from fromIndex (inclusive) to toIndex (exclusive) with the given
+     * entries. If this exceeds the capacity, only the latest values are kept.
+     *
+     * @param fromIndex
+     * @param toIndex
+     * @param entries
+     */
+    @Override
+    public void replaceRange(int fromIndex, int toIndex, Collection<? extends Entry> entries) {
+
+        if (fromIndex < 0 || toIndex > mEntryCount || fromIndex > toIndex)
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex
+                    + ", size: " + mEntryCount);
+
+        final int count = entries == null ? 0 : entries.size();
+
+        if (mEntryCount - (toIndex - fromIndex) + count <= getCapacity()) {
+            linearize();
+            super.replaceRange(fromIndex, toIndex, entries);
+            return;
+        }
+
+        List<Entry> values = getEntries();
+        values.subList(fromIndex, toIndex).clear();
+        values.addAll(fromIndex, entries);
+
+        setEntries(values);
+    }
+
+    @Override
+    public boolean removeFirst() {
+
+        if (mEntryCount == 0)
+            return false;
+
+        evictFirst();
+        updateMinMax();
+        return true;
+    }
+
+    /**
+     * Removes the latest value. Values dropped from the min / max tracking because the latest
+     * value dominated them can become the extremum again, so this rebuilds the tracking and is
+     * O(n).
+     *
+     * @return
+     */
+    @Override
+    public boolean removeLast() {
+
+        if (mEntryCount == 0)
+            return false;
+
+        mEntryCount--;
+        calcMinMax();
+        return true;
+    }
+
+    @Override
+    public boolean removeEntry(int index) {
+
+        if (index == 0)
+            return removeFirst();
+
+        if (index == mEntryCount - 1)
+            return removeLast();
+
+        if (index < 0 || index >= mEntryCount)
+            return false;
+
+        linearize();
+
+        System.arraycopy(mXValues, index + 1, mXValues, index, mEntryCount - index - 1);
+        System.arraycopy(mYValues, index + 1, mYValues, index, mEntryCount - index - 1);
+        mEntryCount--;
+
+        calcMinMax();
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        mHead = 0;
+        super.clear();
+    }
+
+    /**
+     * Removes the oldest value without updating the min and max values.
+     */
+    private void evictFirst() {
+
+        mXMinQueue.removeFirst(mHead);
+        mXMaxQueue.removeFirst(mHead);
+        mYMinQueue.removeFirst(mHead);
+        mYMaxQueue.removeFirst(mHead);
+
+        mHead = physicalIndex(1);
+        mEntryCount--;
+
+        // the spatial index is kept by logical index, which all values just changed
+        invalidateSpatialIndex();
+    }
+
+    private void updateMinMax() {
+
+        if (mEntryCount == 0) {
+            mYMax = -Float.MAX_VALUE;
+            mYMin = Float.MAX_VALUE;
+            mXMax = -Float.MAX_VALUE;
+            mXMin = Float.MAX_VALUE;
+            return;
+        }
+
+        mXMin = mXValues[mXMinQueue.first()];
+        mXMax = mXValues[mXMaxQueue.first()];
+        mYMin = mYValues[mYMinQueue.first()];
+        mYMax = mYValues[mYMaxQueue.first()];
+    }
+
+    /**
+     * Rebuilds the min and max values and the queues tracking them from all values.
+     */
+    @Override
+    public void calcMinMax() {
+
+        // called by the super constructor before the queues exist
+        if (mXMinQueue == null) {
+            super.calcMinMax();
+            return;
+        }
+
+        mXMinQueue.clear();
+        mXMaxQueue.clear();
+        mYMinQueue.clear();
+        mYMaxQueue.clear();
+
+        invalidateRangeIndex();
+
+        for (int i = 0; i < mEntryCount; i++) {
+
+            int slot = physicalIndex(i);
+
+            mXMinQueue.push(mXValues, slot);
+            mXMaxQueue.push(mXValues, slot);
+            mYMinQueue.push(mYValues, slot);
+            mYMaxQueue.push(mYValues, slot);
+        }
+
+        updateMinMax();
+        calcUniformXSpacing();
+    }
+
+    @Override
+    protected void rebuildRangeIndex() {
+
+        if (mYRangeIndex == null)
+            mYRangeIndex = new MinMaxSegmentTree(mXValues.length);
+        else
+            mYRangeIndex.clear();
+
+        for (int i = 0; i < mEntryCount; i++) {
+            int slot = physicalIndex(i);
+            mYRangeIndex.set(slot, mYValues[slot], mYValues[slot]);
+        }
+
+        mYRangeIndexValid = true;
+    }
+
+    @Override
+    public float getYMinForIndexRange(int fromIndex, int toIndex) {
+
+        if (!mYRangeIndexValid)
+            rebuildRangeIndex();
+
+        int from = physicalIndex(fromIndex);
+        int to = physicalIndex(toIndex);
+
+        if (from <= to)
+            return mYRangeIndex.getMin(from, to);
+
+        // the range wraps around the end of the backing arrays
+        return Math.min(mYRangeIndex.getMin(from, mXValues.length - 1), mYRangeIndex.getMin(0, to));
+    }
+
+    @Override
+    public float getYMaxForIndexRange(int fromIndex, int toIndex) {
+
+        if (!mYRangeIndexValid)
+            rebuildRangeIndex();
+
+        int from = physicalIndex(fromIndex);
+        int to = physicalIndex(toIndex);
+
+        if (from <= to)
+            return mYRangeIndex.getMax(from, to);
+
+        // the range wraps around the end of the backing arrays
+        return Math.max(mYRangeIndex.getMax(from, mXValues.length - 1), mYRangeIndex.getMax(0, to));
+    }
+
+    /**
+     * Rotates the backing arrays so that the oldest value is stored at index 0. The queues and the
+     * range index need to be rebuilt afterwards.
+     */
+    private void linearize() {
+
+        if (mHead == 0)
+            return;
+
+        rotate(mXValues, mHead);
+        rotate(mYValues, mHead);
+        mHead = 0;
+    }
+
+    /**
+     * Rotates the given array in place to the left by the given distance.
+     */
+    private static void rotate(float[] values, int distance) {
+        reverse(values, 0, distance - 1);
+        reverse(values, distance, values.length - 1);
+        reverse(values, 0, values.length - 1);
+    }
+
+    private static void reverse(float[] values, int from, int to) {
+        while (from < to) {
+            float tmp = values[from];
+            values[from++] = values[to];
+            values[to--] = tmp;
+        }
+    }
+
+    /**
+     * The capacity of this DataSet is fixed, this does nothing.
+     */
+    @Override
+    public void ensureCapacity(int capacity) {
+    }
+
+    /**
+     * The capacity of this DataSet is fixed, this does nothing.
+     */
+    @Override
+    public void trimToSize() {
+    }
+
+    /**
+     * Returns the array holding the x-values of this DataSet, in order. Only the first
+     * getEntryCount() values are valid. Do not modify the array.
+     *
+     * @return
+     */
+    @Override
+    public float[] getXValues() {
+        if (mHead != 0) {
+            linearize();
+            calcMinMax();
+        }
+        return mXValues;
+    }
+
+    /**
+     * Returns the array holding the y-values of this DataSet, in order. Only the first
+     * getEntryCount() values are valid. Do not modify the array.
+     *
+     * @return
+     */
+    @Override
+    public float[] getYValues() {
+        if (mHead != 0) {
+            linearize();
+            calcMinMax();
+        }
+        return mYValues;
+    }
+
+    /**
+     * Replaces the values of this DataSet with the given entries. If there are more entries than
+     * the capacity, only the latest ones are kept.
+     *
+     * @param entries
+     */
+    @Override
+    public void setEntries(List<Entry> entries) {
+
+        mHead = 0;
+        mEntryCount = 0;
+
+        if (entries != null) {
+            int from = Math.max(0, entries.size() - mXValues.length);
+
+            for (int i = from; i < entries.size(); i++) {
+                Entry e = entries.get(i);
+                mXValues[mEntryCount] = e.getX();
+                mYValues[mEntryCount] = e.getY();
+                mEntryCount++;
+            }
+        }
+
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public DataSet<Entry> copy() {
+        RingBufferLineDataSet copied = new RingBufferLineDataSet(getCapacity(), getLabel());
+
+        for (int i = 0; i < mEntryCount; i++) {
+            copied.add(getXForIndex(i), getYForIndex(i));
+        }
+
+        copy(copied);
+        return copied;
+    }
+
+    @Override
+    public String toSimpleString() {
+        return "RingBufferDataSet, label: " + (getLabel() == null ? "" : getLabel()) + ", entries: "
+                + mEntryCount + ", capacity: " + getCapacity() + "\n";
+    }
+
+    /**
+     * Monotonic queue of physical indices for tracking the minimum or maximum of a sliding
+     * window. The first index in the queue always points to the current extremum.
+     */
+    private static final class ExtremaQueue {
+
+        private final int[] mSlots;
+        private final boolean mMax;
+
+        private int mFirst = 0;
+        private int mSize = 0;
+
+        ExtremaQueue(int capacity, boolean max) {
+            mSlots = new int[capacity];
+            mMax = max;
+        }
+
+        int first() {
+            return mSlots[mFirst];
+        }
+
+        void clear() {
+            mFirst = 0;
+            mSize = 0;
+        }
+
+        /**
+         * Adds the value at the given slot, dropping all values it dominates.
+         */
+        void push(float[] values, int slot) {
+
+            final float value = values[slot];
+
+            while (mSize > 0) {
+                float last = values[mSlots[index(mSize - 1)]];
+
+                if (mMax ? last > value : last < value)
+                    break;
+
+                mSize--;
+            }
+
+            mSlots[index(mSize)] = slot;
+            mSize++;
+        }
+
+        /**
+         * Call when the value at the given slot is evicted as the oldest value.
+         */
+        void removeFirst(int slot) {
+            if (mSize > 0 && mSlots[mFirst] == slot) {
+                mFirst = index(1);
+                mSize--;
+            }
+        }
+
+        private int index(int i) {
+            int index = mFirst + i;
+            return index < mSlots.length ? index : index - mSlots.length;
+        }
+    }
+}
@@ -1,10 +1,11 @@
-
 package com.github.mikephil.charting.data.filter;
 
 import android.annotation.TargetApi;
 import android.os.Build;
 
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Implemented according to Wiki-Pseudocode {@link}
@@ -14,89 +15,176 @@ import java.util.Arrays;
  */
 public class Approximator {
 
-    @TargetApi(Build.VERSION_CODES.GINGERBREAD)
+    /**
+     * segments with more points than this are split across the common ForkJoinPool
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 15;
+
+    /**
+     * Reduces the given points (x/y pairs) with the Douglas-Peucker algorithm: a point is kept if
+     * its distance to the line between the points kept around it is greater than the tolerance.
+     * Works on index ranges with an explicit stack, so long inputs neither allocate per level nor
+     * overflow the call stack. Large inputs are processed in parallel on API 24+.
+     *
+     * @param points
+     * @param tolerance
+     * @return
+     */
     public float[] reduceWithDouglasPeucker(float[] points, float tolerance) {
 
-        int greatestIndex = 0;
-        float greatestDistance = 0f;
+        final int pointCount = points.length / 2;
 
-        Line line = new Line(points[0], points[1], points[points.length - 2], points[points.length - 1]);
+        if (pointCount < 3)
+            return Arrays.copyOf(points, pointCount * 2);
 
-        for (int i = 2; i < points.length - 2; i += 2) {
+        final boolean[] keep = new boolean[pointCount];
+        keep[0] = true;
+        keep[pointCount - 1] = true;
 
-            float distance = line.distance(points[i], points[i + 1]);
+        if (isParallel(pointCount))
+            reduceParallel(points, keep, tolerance);
+        else
+            reduce(points, 0, pointCount - 1, keep, tolerance);
 
-            if (distance > greatestDistance) {
-                greatestDistance = distance;
-                greatestIndex = i;
-            }
+        int kept = 0;
+        for (boolean k : keep) {
+            if (k) kept++;
         }
 
-        if (greatestDistance > tolerance) {
+        float[] reduced = new float[kept * 2];
 
-            float[] reduced1 = reduceWithDouglasPeucker(Arrays.copyOfRange(points, 0, greatestIndex + 2), tolerance);
-            float[] reduced2 = reduceWithDouglasPeucker(Arrays.copyOfRange(points, greatestIndex, points.length),
-                    tolerance);
-
-            float[] result1 = reduced1;
-            float[] result2 = Arrays.copyOfRange(reduced2, 2, reduced2.length);
-
-            return concat(result1, result2);
-        } else {
-            return line.getPoints();
+        for (int i = 0, r = 0; i < pointCount; i++) {
+            if (keep[i]) {
+                reduced[r++] = points[i * 2];
+                reduced[r++] = points[i * 2 + 1];
+            }
         }
+
+        return reduced;
     }
 
     /**
-     * Combine arrays.
+     * Returns true if the given number of points is reduced in parallel, which needs the common
+     * ForkJoinPool of API 24+.
      *
-     * @param arrays
+     * @param pointCount
      * @return
      */
-    float[] concat(float[]... arrays) {
-        int length = 0;
-        for (float[] array : arrays) {
-            length += array.length;
-        }
-        float[] result = new float[length];
-        int pos = 0;
-        for (float[] array : arrays) {
-            for (float element : array) {
-                result[pos] = element;
-                pos++;
-            }
+    protected boolean isParallel(int pointCount) {
+        return pointCount > PARALLEL_THRESHOLD && Build.VERSION.SDK_INT >= Build.VERSION_CODES.N;
+    }
+
+    @TargetApi(Build.VERSION_CODES.N)
+    private static void reduceParallel(float[] points, boolean[] keep, float tolerance) {
+        ForkJoinPool.commonPool().invoke(new ReduceTask(points, 0, keep.length - 1, keep, tolerance));
+    }
+
+    /**
+     * Marks the points to keep between start and end (both kept already).
+     */
+    private static void reduce(float[] points, int start, int end, boolean[] keep, float tolerance) {
+
+        int[] stack = new int[64];
+        int size = 0;
+
+        stack[size++] = start;
+        stack[size++] = end;
+
+        while (size > 0) {
+
+            final int e = stack[--size];
+            final int s = stack[--size];
+
+            final int index = farthestPoint(points, s, e, tolerance);
+
+            if (index < 0)
+                continue;
+
+            keep[index] = true;
+
+            if (size + 4 > stack.length)
+                stack = Arrays.copyOf(stack, stack.length * 2);
+
+            stack[size++] = s;
+            stack[size++] = index;
+            stack[size++] = index;
+            stack[size++] = e;
         }
-        return result;
     }
 
-    private class Line {
+    /**
+     * Returns the index of the point between start and end (both exclusive) that is farthest from
+     * the line between them, or -1 if no point is farther away than the tolerance.
+     */
+    private static int farthestPoint(float[] points, int start, int end, float tolerance) {
+
+        if (end - start < 2)
+            return -1;
 
-        private float[] points;
+        final float x1 = points[start * 2], y1 = points[start * 2 + 1];
+        final float x2 = points[end * 2], y2 = points[end * 2 + 1];
 
-        private float sxey;
-        private float exsy;
+        final float dx = x1 - x2;
+        final float dy = y1 - y2;
+        final float sxey = x1 * y2;
+        final float exsy = x2 * y1;
+        final float length = (float) Math.sqrt(dx * dx + dy * dy);
 
-        private float dx;
-        private float dy;
+        int greatestIndex = -1;
+        float greatestDistance = 0f;
 
-        private float length;
+        for (int i = start + 1; i < end; i++) {
 
-        public Line(float x1, float y1, float x2, float y2) {
-            dx = x1 - x2;
-            dy = y1 - y2;
-            sxey = x1 * y2;
-            exsy = x2 * y1;
-            length = (float) Math.sqrt(dx * dx + dy * dy);
+            final float distance = Math.abs(dy * points[i * 2] - dx * points[i * 2 + 1] + sxey - exsy) / length;
 
-            points = new float[]{x1, y1, x2, y2};
+            if (distance > greatestDistance) {
+                greatestDistance = distance;
+                greatestIndex = i;
+            }
         }
 
-        public float distance(float x, float y) {
-            return Math.abs(dy * x - dx * y + sxey - exsy) / length;
+        return greatestDistance > tolerance ? greatestIndex : -1;
+    }
+
+    /**
+     * Splits segments across the pool until they are small enough to be reduced sequentially.
+     * The segments are disjoint, so the tasks write to different indices of keep. Only used by
+     * reduceParallel(...), so it targets the same API level.
+     */
+    @TargetApi(Build.VERSION_CODES.N)
+    private static class ReduceTask extends RecursiveAction {
+
+        private final float[] points;
+        private final int start;
+        private final int end;
+        private final boolean[] keep;
+        private final float tolerance;
+
+        ReduceTask(float[] points, int start, int end, boolean[] keep, float tolerance) {
+            this.points = points;
+            this.start = start;
+            this.end = end;
+            this.keep = keep;
+            this.tolerance = tolerance;
         }
 
-        public float[] getPoints() {
-            return points;
+        @Override
+        protected void compute() {
+
+            if (end - start <= PARALLEL_THRESHOLD) {
+                reduce(points, start, end, keep, tolerance);
+                return;
+            }
+
+            final int index = farthestPoint(points, start, end, tolerance);
+
+            if (index < 0)
+                return;
+
+            keep[index] = true;
+
+            invokeAll(new ReduceTask(points, start, index, keep, tolerance),
+                    new ReduceTask(points, index, end, keep, tolerance));
         }
     }
 }
@@ -0,0 +1,29 @@
+package com.github.mikephil.charting.data.filter;
+
+/**
+ * Interface for reducing the number of points of a line to a bounded number, depending on the
+ * width it is drawn with. Used by the LineChartRenderer if set on a LineDataSet.
+ */
+public interface IDecimator {
+
+    /**
+     * Returns the maximum number of points decimate(...) writes for the given width.
+     *
+     * @param width the width of the drawn line in pixels
+     * @return
+     */
+    int getMaxPoints(int width);
+
+    /**
+     * Reduces the given points. Points are stored as x/y pairs, sorted by x-value. The result is
+     * written to output, which needs to hold at least 2 * getMaxPoints(width) values. If there
+     * are no more points than getMaxPoints(width), they are copied unchanged.
+     *
+     * @param points     the points as x/y pairs
+     * @param pointCount the number of points (not values) to read from points
+     * @param width      the width of the drawn line in pixels
+     * @param output     the array the reduced points are written to
+     * @return the number of points written
+     */
+    int decimate(float[] points, int pointCount, int width, float[] output);
+}
@@ -0,0 +1,108 @@
+package com.github.mikephil.charting.data.filter;
+
+/**
+ * Decimator implementing Largest-Triangle-Three-Buckets (Sveinn Steinarsson, 2013). The points
+ * are split into buckets, and from each bucket the point forming the largest triangle with the
+ * previously selected point and the average of the next bucket is kept. O(n), keeps the visual
+ * shape of the line including its peaks, and always keeps the first and last point.
+ */
+public class LttbDecimator implements IDecimator {
+
+    private float mPointsPerPixel;
+
+    public LttbDecimator() {
+        this(1f);
+    }
+
+    /**
+     * @param pointsPerPixel the number of points kept per pixel of width
+     */
+    public LttbDecimator(float pointsPerPixel) {
+        if (pointsPerPixel <= 0f)
+            throw new IllegalArgumentException("pointsPerPixel needs to be greater than 0");
+
+        mPointsPerPixel = pointsPerPixel;
+    }
+
+    @Override
+    public int getMaxPoints(int width) {
+        return Math.max((int) (width * mPointsPerPixel), 3);
+    }
+
+    @Override
+    public int decimate(float[] points, int pointCount, int width, float[] output) {
+
+        final int threshold = getMaxPoints(width);
+
+        if (pointCount <= threshold) {
+            System.arraycopy(points, 0, output, 0, pointCount * 2);
+            return pointCount;
+        }
+
+        // the first and last point are always kept, the others are split into buckets
+        final double bucketSize = (double) (pointCount - 2) / (threshold - 2);
+
+        int selected = 0;
+        int o = 0;
+
+        output[o++] = points[0];
+        output[o++] = points[1];
+
+        for (int i = 0; i < threshold - 2; i++) {
+
+            // average of the next bucket
+            int avgFrom = (int) ((i + 1) * bucketSize) + 1;
+            int avgTo = Math.min((int) ((i + 2) * bucketSize) + 1, pointCount);
+
+            double avgX = 0.0;
+            double avgY = 0.0;
+
+            for (int j = avgFrom; j < avgTo; j++) {
+                avgX += points[j * 2];
+                avgY += points[j * 2 + 1];
+            }
+
+            final int avgCount = avgTo - avgFrom;
+
+            if (avgCount > 0) {
+                avgX /= avgCount;
+                avgY /= avgCount;
+            } else {
+                // the last bucket is followed by the last point only
+                avgX = points[(pointCount - 1) * 2];
+                avgY = points[(pointCount - 1) * 2 + 1];
+            }
+
+            // point of the current bucket forming the largest triangle
+            final int from = (int) (i * bucketSize) + 1;
+            final int to = (int) ((i + 1) * bucketSize) + 1;
+
+            final float ax = points[selected * 2];
+            final float ay = points[selected * 2 + 1];
+
+            double maxArea = -1.0;
+            int maxIndex = from;
+
+            for (int j = from; j < to; j++) {
+
+                final double area = Math.abs((ax - avgX) * (points[j * 2 + 1] - ay)
+                        - (ax - points[j * 2]) * (avgY - ay));
+
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxIndex = j;
+                }
+            }
+
+            output[o++] = points[maxIndex * 2];
+            output[o++] = points[maxIndex * 2 + 1];
+
+            selected = maxIndex;
+        }
+
+        output[o++] = points[(pointCount - 1) * 2];
+        output[o++] = points[(pointCount - 1) * 2 + 1];
+
+        return o / 2;
+    }
+}
@@ -0,0 +1,95 @@
+package com.github.mikephil.charting.data.filter;
+
+/**
+ * Decimator implementing M4 (Jugel et al., 2014): the x-range of the points is split into one
+ * column per pixel, and of each column only the first, lowest, highest and last point are kept,
+ * in their original order. A line drawn from the result covers the same pixels as one drawn from
+ * all points. O(n), at most four points per pixel.
+ */
+public class M4Decimator implements IDecimator {
+
+    @Override
+    public int getMaxPoints(int width) {
+        return Math.max(width, 1) * 4;
+    }
+
+    @Override
+    public int decimate(float[] points, int pointCount, int width, float[] output) {
+
+        if (pointCount <= getMaxPoints(width)) {
+            System.arraycopy(points, 0, output, 0, pointCount * 2);
+            return pointCount;
+        }
+
+        final int columns = Math.max(width, 1);
+        final float firstX = points[0];
+        final float span = points[(pointCount - 1) * 2] - firstX;
+
+        int o = 0;
+
+        int column = -1;
+        int first = 0, last = 0, min = 0, max = 0;
+
+        for (int i = 0; i < pointCount; i++) {
+
+            final float x = points[i * 2];
+            final float y = points[i * 2 + 1];
+
+            int c = span > 0f ? (int) ((x - firstX) / span * columns) : 0;
+
+            if (c >= columns)
+                c = columns - 1;
+
+            if (c != column) {
+
+                if (column != -1)
+                    o = emit(points, output, o, first, min, max, last);
+
+                column = c;
+                first = last = min = max = i;
+                continue;
+            }
+
+            last = i;
+
+            if (y < points[min * 2 + 1])
+                min = i;
+
+            if (y > points[max * 2 + 1])
+                max = i;
+        }
+
+        o = emit(points, output, o, first, min, max, last);
+
+        return o / 2;
+    }
+
+    /**
+     * Writes the first, lowest, highest and last point of a column in their original order,
+     * each point only once. Returns the new output position.
+     */
+    private static int emit(float[] points, float[] output, int o, int first, int min, int max, int last) {
+
+        final int low = Math.min(min, max);
+        final int high = Math.max(min, max);
+
+        o = write(points, output, o, first);
+
+        if (low != first && low != last)
+            o = write(points, output, o, low);
+
+        if (high != first && high != last && high != low)
+            o = write(points, output, o, high);
+
+        if (last != first)
+            o = write(points, output, o, last);
+
+        return o;
+    }
+
+    private static int write(float[] points, float[] output, int o, int index) {
+        output[o++] = points[index * 2];
+        output[o++] = points[index * 2 + 1];
+        return o;
+    }
+}
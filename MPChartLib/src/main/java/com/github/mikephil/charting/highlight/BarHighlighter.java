@@ -31,10 +31,13 @@ public class BarHighlighter extends ChartHighlighter<BarDataProvider> {
         IBarDataSet set = barData.getDataSetByIndex(high.getDataSetIndex());
         if (set.isStacked()) {
 
-            return getStackedHighlight(high,
+            Highlight stackedHigh = getStackedHighlight(high,
                     set,
                     (float) pos.x,
                     (float) pos.y);
+
+            MPPointD.recycleInstance(pos);
+            return stackedHigh;
         }
 
         MPPointD.recycleInstance(pos);
@@ -70,7 +73,7 @@ public class BarHighlighter extends ChartHighlighter<BarDataProvider> {
 
                 MPPointD pixels = mChart.getTransformer(set.getAxisDependency()).getPixelForValues(high.getX(), ranges[stackIndex].to);
 
-                Highlight stackedHigh = new Highlight(
+                Highlight stackedHigh = obtainHighlight(
                         entry.getX(),
                         entry.getY(),
                         (float) pixels.x,
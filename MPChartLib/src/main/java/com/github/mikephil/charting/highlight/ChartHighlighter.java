@@ -3,8 +3,8 @@ package com.github.mikephil.charting.highlight;
 import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.data.BarLineScatterCandleBubbleData;
 import com.github.mikephil.charting.data.DataSet;
-import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
+import com.github.mikephil.charting.interfaces.datasets.IColumnarDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.utils.MPPointD;
 
@@ -27,10 +27,72 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
      */
     protected List<Highlight> mHighlightBuffer = new ArrayList<Highlight>();
 
+    /**
+     * buffer for the highlights of a single DataSet, returned by buildHighlights(...)
+     */
+    protected List<Highlight> mDataSetHighlightBuffer = new ArrayList<Highlight>();
+
+    /**
+     * Highlight objects reused for every touch, the first mHighlightPoolUsed are in use
+     */
+    private final List<Highlight> mHighlightPool = new ArrayList<Highlight>();
+
+    private int mHighlightPoolUsed = 0;
+
+    /**
+     * buffer for transforming entry values to pixels
+     */
+    protected float[] mPixelBuffer = new float[2];
+
     public ChartHighlighter(T chart) {
         this.mChart = chart;
     }
 
+    /**
+     * Returns a Highlight object from the pool of this highlighter, set to the given values.
+     * Pooled objects are reused once the next touch position is being resolved.
+     *
+     * @param x
+     * @param y
+     * @param xPx
+     * @param yPx
+     * @param dataSetIndex
+     * @param stackIndex
+     * @param axis
+     * @return
+     */
+    protected Highlight obtainHighlight(float x, float y, float xPx, float yPx, int dataSetIndex,
+                                        int stackIndex, YAxis.AxisDependency axis) {
+
+        Highlight high;
+
+        if (mHighlightPoolUsed < mHighlightPool.size()) {
+            high = mHighlightPool.get(mHighlightPoolUsed);
+        } else {
+            high = new Highlight(x, y, dataSetIndex);
+            mHighlightPool.add(high);
+        }
+
+        mHighlightPoolUsed++;
+        high.set(x, y, xPx, yPx, dataSetIndex, stackIndex, axis);
+        return high;
+    }
+
+    /**
+     * Marks all pooled Highlight objects as unused.
+     */
+    protected void recycleHighlights() {
+        mHighlightPoolUsed = 0;
+    }
+
+    /**
+     * Returns the Highlight of the entry closest to the given touch position. The returned object
+     * belongs to this highlighter and is reused by the next call, copy it to keep it.
+     *
+     * @param x
+     * @param y
+     * @return
+     */
     @Override
     public Highlight getHighlight(float x, float y) {
 
@@ -67,6 +129,8 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
      */
     protected Highlight getHighlightForX(float xVal, float x, float y) {
 
+        recycleHighlights();
+
         List<Highlight> closestValues = getHighlightsAtXValue(xVal, x, y);
 
         if(closestValues.isEmpty()) {
@@ -142,7 +206,10 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
             if (!dataSet.isHighlightEnabled())
                 continue;
 
-            mHighlightBuffer.addAll(buildHighlights(dataSet, i, xVal, DataSet.Rounding.CLOSEST));
+            List<Highlight> highs = buildHighlights(dataSet, i, xVal, DataSet.Rounding.CLOSEST);
+
+            for (int j = 0; j < highs.size(); j++)
+                mHighlightBuffer.add(highs.get(j));
         }
 
         return mHighlightBuffer;
@@ -150,6 +217,7 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
 
     /**
      * An array of `Highlight` objects corresponding to the selected xValue and dataSetIndex.
+     * The returned list and its Highlight objects are reused by the next call.
      *
      * @param set
      * @param dataSetIndex
@@ -159,36 +227,68 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
      */
     protected List<Highlight> buildHighlights(IDataSet set, int dataSetIndex, float xVal, DataSet.Rounding rounding) {
 
-        ArrayList<Highlight> highlights = new ArrayList<>();
-
-        //noinspection unchecked
-        List<Entry> entries = set.getEntriesForXValue(xVal);
-        if (entries.size() == 0) {
-            // Try to find closest x-value and take all entries for that x-value
-            final Entry closest = set.getEntryForXValue(xVal, Float.NaN, rounding);
-            if (closest != null)
-            {
-                //noinspection unchecked
-                entries = set.getEntriesForXValue(closest.getX());
-            }
-        }
+        List<Highlight> highlights = mDataSetHighlightBuffer;
+        highlights.clear();
 
-        if (entries.size() == 0)
+        // the entries with the x-value closest to xVal, found without collecting them in a list
+        int index = set.getEntryIndex(xVal, Float.NaN, rounding);
+
+        if (index < 0 || index >= set.getEntryCount())
             return highlights;
 
-        for (Entry e : entries) {
-            MPPointD pixels = mChart.getTransformer(
-                    set.getAxisDependency()).getPixelForValues(e.getX(), e.getY());
+        final float closestX = getEntryX(set, index);
+
+        int from = index;
+        while (from > 0 && getEntryX(set, from - 1) == closestX)
+            from--;
+
+        for (int i = from, count = set.getEntryCount(); i < count; i++) {
+
+            final float entryX = getEntryX(set, i);
+
+            if (entryX != closestX)
+                break;
 
-            highlights.add(new Highlight(
-                    e.getX(), e.getY(),
-                    (float) pixels.x, (float) pixels.y,
-                    dataSetIndex, set.getAxisDependency()));
+            final float entryY = getEntryY(set, i);
+
+            float[] pixels = mPixelBuffer;
+            pixels[0] = entryX;
+            pixels[1] = entryY;
+            valuesToPixel(set, pixels);
+
+            highlights.add(obtainHighlight(
+                    entryX, entryY,
+                    pixels[0], pixels[1],
+                    dataSetIndex, -1, set.getAxisDependency()));
         }
 
         return highlights;
     }
 
+    /**
+     * Transforms the x- and y-value in the given buffer to pixels.
+     *
+     * @param set
+     * @param pts
+     */
+    protected void valuesToPixel(IDataSet set, float[] pts) {
+        mChart.getTransformer(set.getAxisDependency()).pointValuesToPixel(pts);
+    }
+
+    private static float getEntryX(IDataSet set, int index) {
+        if (set instanceof IColumnarDataSet)
+            return ((IColumnarDataSet) set).getXForIndex(index);
+
+        return set.getEntryForIndex(index).getX();
+    }
+
+    private static float getEntryY(IDataSet set, int index) {
+        if (set instanceof IColumnarDataSet)
+            return ((IColumnarDataSet) set).getYForIndex(index);
+
+        return set.getEntryForIndex(index).getY();
+    }
+
     /**
      * Returns the Highlight of the DataSet that contains the closest value on the
      * y-axis.
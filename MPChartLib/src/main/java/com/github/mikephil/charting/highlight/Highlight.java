@@ -111,6 +111,40 @@ public class Highlight implements Serializable {
         this.mStackIndex = stackIndex;
     }
 
+    /**
+     * Copy constructor, used to keep a highlight that a highlighter reuses.
+     *
+     * @param h
+     */
+    public Highlight(Highlight h) {
+        this(h.mX, h.mY, h.mXPx, h.mYPx, h.mDataSetIndex, h.mStackIndex, h.axis);
+        this.mDataIndex = h.mDataIndex;
+        this.mDrawX = h.mDrawX;
+        this.mDrawY = h.mDrawY;
+    }
+
+    /**
+     * Sets all values of this highlight, used by highlighters to reuse their Highlight objects.
+     *
+     * @param x
+     * @param y
+     * @param xPx
+     * @param yPx
+     * @param dataSetIndex
+     * @param stackIndex
+     * @param axis
+     */
+    void set(float x, float y, float xPx, float yPx, int dataSetIndex, int stackIndex, YAxis.AxisDependency axis) {
+        this.mX = x;
+        this.mY = y;
+        this.mXPx = xPx;
+        this.mYPx = yPx;
+        this.mDataSetIndex = dataSetIndex;
+        this.mStackIndex = stackIndex;
+        this.axis = axis;
+        this.mDataIndex = -1;
+    }
+
     /**
      * returns the x-value of the highlighted value
      *
@@ -237,6 +271,17 @@ public class Highlight implements Serializable {
         }
     }
 
+    /**
+     * Returns true if this highlight refers to the same entry as the other, like equalTo(...)
+     * but also comparing the y-value, which tells apart entries with the same x-value.
+     *
+     * @param h
+     * @return
+     */
+    public boolean isSameEntry(Highlight h) {
+        return equalTo(h) && Float.compare(mY, h.mY) == 0;
+    }
+
     @Override
     public String toString() {
         return "Highlight, x: " + mX + ", y: " + mY + ", dataSetIndex: " + mDataSetIndex
@@ -0,0 +1,151 @@
+package com.github.mikephil.charting.highlight;
+
+import com.github.mikephil.charting.data.BarLineScatterCandleBubbleData;
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.utils.MPPointD;
+import com.github.mikephil.charting.utils.PointGridIndex;
+import com.github.mikephil.charting.utils.Transformer;
+
+/**
+ * Highlighter that selects the entry closest to the touch position in pixels, over all DataSets
+ * and within the max highlight distance of the chart. ChartHighlighter picks the closest x-value
+ * first, which is not the closest entry in e.g. scatter clouds with many entries per x-value.
+ * DataSets with an enabled spatial index (see DataSet.setSpatialIndexEnabled(...)) are searched
+ * through the index, all others are searched entry by entry.
+ *
+ * Only for charts whose axes are not swapped, e.g. not for the HorizontalBarChart.
+ */
+public class NearestPointHighlighter extends ChartHighlighter<BarLineScatterCandleBubbleDataProvider> {
+
+    /**
+     * buffer for the touch position and a second position one step away, in values and in pixels
+     */
+    private final float[] mPointBuffer = new float[4];
+
+    private final MPPointD mTouchValues = MPPointD.getInstance(0, 0);
+
+    /**
+     * distance in pixels of the entry found by the last call to getClosestIndex(...)
+     */
+    private float mClosestDistance;
+
+    public NearestPointHighlighter(BarLineScatterCandleBubbleDataProvider chart) {
+        super(chart);
+    }
+
+    @Override
+    public Highlight getHighlight(float x, float y) {
+
+        BarLineScatterCandleBubbleData data = getData();
+
+        recycleHighlights();
+
+        if (data == null)
+            return null;
+
+        IDataSet closestSet = null;
+        int closestSetIndex = -1;
+        int closestIndex = -1;
+        float distance = mChart.getMaxHighlightDistance();
+
+        for (int i = 0, dataSetCount = data.getDataSetCount(); i < dataSetCount; i++) {
+
+            IDataSet set = data.getDataSetByIndex(i);
+
+            // don't include DataSets that cannot be highlighted
+            if (!set.isHighlightEnabled() || set.getEntryCount() == 0)
+                continue;
+
+            int index = getClosestIndex(set, x, y, distance);
+
+            if (index >= 0) {
+                closestSet = set;
+                closestSetIndex = i;
+                closestIndex = index;
+                distance = mClosestDistance;
+            }
+        }
+
+        if (closestSet == null)
+            return null;
+
+        Entry e = closestSet.getEntryForIndex(closestIndex);
+
+        float[] pts = mPointBuffer;
+        pts[0] = e.getX();
+        pts[1] = e.getY();
+        mChart.getTransformer(closestSet.getAxisDependency()).pointValuesToPixel(pts, 1);
+
+        return obtainHighlight(e.getX(), e.getY(), pts[0], pts[1],
+                closestSetIndex, -1, closestSet.getAxisDependency());
+    }
+
+    /**
+     * Returns the index of the entry of the given DataSet closest to the touch position, -1 if
+     * no entry is closer than maxDistance (in pixels). The distance of the returned entry is
+     * stored in mClosestDistance.
+     *
+     * @param set
+     * @param x           touch position
+     * @param y           touch position
+     * @param maxDistance
+     * @return
+     */
+    protected int getClosestIndex(IDataSet set, float x, float y, float maxDistance) {
+
+        Transformer trans = mChart.getTransformer(set.getAxisDependency());
+        trans.getValuesByTouchPoint(x, y, mTouchValues);
+
+        final float xVal = (float) mTouchValues.x;
+        final float yVal = (float) mTouchValues.y;
+
+        // pixels per value on both axes, measured over a step in the order of the data range
+        final float stepX = set.getXMax() > set.getXMin() ? set.getXMax() - set.getXMin() : 1f;
+        final float stepY = set.getYMax() > set.getYMin() ? set.getYMax() - set.getYMin() : 1f;
+
+        float[] pts = mPointBuffer;
+        pts[0] = xVal;
+        pts[1] = yVal;
+        pts[2] = xVal + stepX;
+        pts[3] = yVal + stepY;
+        trans.pointValuesToPixel(pts, 2);
+
+        final float scaleX = (pts[2] - pts[0]) / stepX;
+        final float scaleY = (pts[3] - pts[1]) / stepY;
+
+        int closest;
+
+        if (set instanceof DataSet && ((DataSet) set).isSpatialIndexEnabled()) {
+
+            PointGridIndex index = ((DataSet) set).getSpatialIndex();
+            closest = index.getClosest(xVal, yVal, scaleX, scaleY, maxDistance);
+
+        } else {
+
+            closest = -1;
+            float distance = maxDistance;
+
+            for (int i = 0, count = set.getEntryCount(); i < count; i++) {
+
+                Entry e = set.getEntryForIndex(i);
+                float d = getDistance(0f, 0f, (e.getX() - xVal) * scaleX, (e.getY() - yVal) * scaleY);
+
+                if (d < distance) {
+                    closest = i;
+                    distance = d;
+                }
+            }
+        }
+
+        if (closest >= 0) {
+            Entry e = set.getEntryForIndex(closest);
+            mClosestDistance = getDistance(0f, 0f,
+                    (e.getX() - xVal) * scaleX, (e.getY() - yVal) * scaleY);
+        }
+
+        return closest;
+    }
+}
@@ -0,0 +1,38 @@
+package com.github.mikephil.charting.interfaces.datasets;
+
+import com.github.mikephil.charting.data.Entry;
+
+/**
+ * Interface for DataSets that keep their x- and y-values in primitive storage instead of
+ * holding one Entry object per value. Renderers check for this interface and read the values
+ * directly, so that no Entry objects have to be created while drawing.
+ */
+public interface IColumnarDataSet {
+
+    /**
+     * Returns the x-value at the given index (NOT xIndex) in the values array.
+     *
+     * @param index
+     * @return
+     */
+    float getXForIndex(int index);
+
+    /**
+     * Returns the y-value at the given index (NOT xIndex) in the values array.
+     *
+     * @param index
+     * @return
+     */
+    float getYForIndex(int index);
+
+    /**
+     * Writes the values at the given index into the provided Entry and returns it. Use this
+     * instead of getEntryForIndex(...) if an Entry is needed in a loop, as it does not allocate.
+     * Returns null if the index is out of bounds.
+     *
+     * @param index
+     * @param reuse the Entry to write the values into
+     * @return
+     */
+    Entry getEntryForIndex(int index, Entry reuse);
+}
@@ -11,6 +11,7 @@ import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.formatter.IValueFormatter;
 import com.github.mikephil.charting.utils.MPPointF;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -70,6 +71,44 @@ public interface IDataSet<T extends Entry> {
      */
     void calcMinMaxY(float fromX, float toX);
 
+    /**
+     * Returns the lowest y-value of the entries between the given indices (both inclusive).
+     * The default implementation checks every entry in the range, DataSet answers in O(log n)
+     * from its range index.
+     *
+     * @param fromIndex
+     * @param toIndex
+     * @return
+     */
+    default float getYMinForIndexRange(int fromIndex, int toIndex) {
+
+        float min = Float.MAX_VALUE;
+
+        for (int i = fromIndex; i <= toIndex; i++)
+            min = Math.min(min, getEntryForIndex(i).getY());
+
+        return min;
+    }
+
+    /**
+     * Returns the highest y-value of the entries between the given indices (both inclusive).
+     * The default implementation checks every entry in the range, DataSet answers in O(log n)
+     * from its range index.
+     *
+     * @param fromIndex
+     * @param toIndex
+     * @return
+     */
+    default float getYMaxForIndexRange(int fromIndex, int toIndex) {
+
+        float max = -Float.MAX_VALUE;
+
+        for (int i = fromIndex; i <= toIndex; i++)
+            max = Math.max(max, getEntryForIndex(i).getY());
+
+        return max;
+    }
+
     /**
      * Returns the first Entry object found at the given x-value with binary
      * search.
@@ -180,6 +219,68 @@ public interface IDataSet<T extends Entry> {
      */
     void addEntryOrdered(T e);
 
+    /**
+     * Adds the given entries to the end of the DataSet. The minimum and maximum values are
+     * updated in one pass over the new entries, instead of once per call as with addEntry(...).
+     * Returns true if entries were added. The default implementation calls addEntry(...) for
+     * each Entry.
+     *
+     * @param entries
+     * @return
+     */
+    default boolean addEntries(Collection<? extends T> entries) {
+
+        if (entries == null)
+            return false;
+
+        boolean added = false;
+
+        for (T e : entries)
+            added |= addEntry(e);
+
+        return added;
+    }
+
+    /**
+     * Adds the given entries to their appropriate index respective to their x-position. The
+     * entries are sorted and merged with the existing ones in a single pass, which is O(n + k log k)
+     * instead of O(n * k) for calling addEntryOrdered(...) for each Entry. The default
+     * implementation calls addEntryOrdered(...) for each Entry.
+     *
+     * @param entries
+     */
+    default void addEntriesOrdered(Collection<? extends T> entries) {
+
+        if (entries == null)
+            return;
+
+        for (T e : entries)
+            addEntryOrdered(e);
+    }
+
+    /**
+     * Replaces the entries from fromIndex (inclusive) to toIndex (exclusive) with the given
+     * entries, and recalculates the minimum and maximum values once. The given entries need to be
+     * sorted by x-value and fit between the entries surrounding the replaced range. The default
+     * implementation removes the entries one by one and adds the new ones with
+     * addEntriesOrdered(...).
+     *
+     * @param fromIndex
+     * @param toIndex
+     * @param entries
+     */
+    default void replaceRange(int fromIndex, int toIndex, Collection<? extends T> entries) {
+
+        if (fromIndex < 0 || toIndex > getEntryCount() || fromIndex > toIndex)
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex
+                    + ", size: " + getEntryCount());
+
+        for (int i = fromIndex; i < toIndex; i++)
+            removeEntry(fromIndex);
+
+        addEntriesOrdered(entries);
+    }
+
     /**
      * Removes the first Entry (at index 0) of this DataSet from the entries array.
      * Returns true if successful, false if not.
@@ -294,6 +395,16 @@ public interface IDataSet<T extends Entry> {
      */
     int getColor(int index);
 
+    /**
+     * Returns the colors of the DataSet as an array, for looking up colors of many entries
+     * without unboxing. The color at index i is getColorArray()[i % getColorArray().length].
+     * The returned array is cached until the colors are set, and must not be modified. Call
+     * notifyDataSetChanged() after changing the list returned by getColors().
+     *
+     * @return
+     */
+    int[] getColorArray();
+
     /**
      * returns true if highlighting of values is enabled, false if not
      *
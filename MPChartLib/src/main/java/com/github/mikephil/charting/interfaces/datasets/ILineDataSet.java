@@ -5,6 +5,7 @@ import android.graphics.DashPathEffect;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.LineDataSet;
 import com.github.mikephil.charting.data.MultiFiledData;
+import com.github.mikephil.charting.data.filter.IDecimator;
 import com.github.mikephil.charting.formatter.IFillFormatter;
 
 import java.util.List;
@@ -68,6 +69,22 @@ public interface ILineDataSet extends ILineRadarDataSet<Entry> {
      */
     boolean isDrawCirclesEnabled();
 
+    /**
+     * Returns true if the line of this DataSet is drawn from a min / max level-of-detail pyramid
+     * when zoomed out far enough that several entries fall into one pixel.
+     *
+     * @return
+     */
+    boolean isDrawLodEnabled();
+
+    /**
+     * Returns the decimator that reduces the visible points of this DataSet before the line is
+     * drawn, null if all points are drawn.
+     *
+     * @return
+     */
+    IDecimator getDecimator();
+
     /**
      * Returns the color of the inner circle (the circle-hole).
      *
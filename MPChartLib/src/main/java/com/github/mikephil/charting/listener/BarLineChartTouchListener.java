@@ -496,12 +496,14 @@ public class BarLineChartTouchListener extends ChartTouchListener<BarLineChartBa
      */
     private void performHighlightDrag(MotionEvent e) {
 
-        Highlight h = mChart.getHighlightByTouchPoint(e.getX(), e.getY());
+        Highlight h = mChart.getReusedHighlightByTouchPoint(e.getX(), e.getY());
 
-        if (h != null && !h.equalTo(mLastHighlighted)) {
-            mLastHighlighted = h;
-            mChart.highlightValue(h, true);
-        }
+        // still the same entry, neither the listener nor a redraw is needed
+        if (h == null || h.isSameEntry(mLastHighlighted))
+            return;
+
+        // the reused object is only copied when the highlighted entry changes
+        mChart.highlightValue(new Highlight(h), true);
     }
 
     /**
@@ -7,6 +7,7 @@ import android.graphics.Paint;
 import android.graphics.Paint.Style;
 
 import com.github.mikephil.charting.components.AxisBase;
+import com.github.mikephil.charting.utils.LabelCache;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
@@ -45,6 +46,11 @@ public abstract class AxisRenderer extends Renderer {
      */
     protected Paint mLimitLinePaint;
 
+    /**
+     * cache of the formatted axis labels, null if labels are formatted every frame
+     */
+    protected LabelCache mLabelCache = null;
+
     public AxisRenderer(ViewPortHandler viewPortHandler, Transformer trans, AxisBase axis) {
         super(viewPortHandler);
 
@@ -100,6 +106,53 @@ public abstract class AxisRenderer extends Renderer {
         return mAxisLinePaint;
     }
 
+    /**
+     * Sets the cache used for the formatted axis labels, e.g. new LabelCache(128). Only set one if
+     * the axis value formatter depends on nothing but the value and the axis. Clear the cache
+     * after changing the formatter in place (e.g. the values of an IndexAxisValueFormatter).
+     * Default: null
+     * @param cache
+     */
+    public void setLabelCache(LabelCache cache) {
+        mLabelCache = cache;
+    }
+
+    /**
+     * Returns the cache used for the formatted axis labels, null if there is none.
+     *
+     * @return
+     */
+    public LabelCache getLabelCache() {
+        return mLabelCache;
+    }
+
+    /**
+     * Returns the formatted label of the given axis value, from the label cache if possible.
+     *
+     * @param value
+     * @return
+     */
+    protected String getFormattedValue(float value) {
+        if (mLabelCache == null)
+            return mAxis.getValueFormatter().getFormattedValue(value, mAxis);
+
+        return mLabelCache.getFormattedValue(mAxis.getValueFormatter(), value, mAxis);
+    }
+
+    /**
+     * Returns the formatted label of the axis entry at the given index, from the label cache if
+     * possible.
+     *
+     * @param index
+     * @return
+     */
+    protected String getFormattedLabel(int index) {
+        if (index < 0 || index >= mAxis.mEntries.length)
+            return "";
+
+        return getFormattedValue(mAxis.mEntries[index]);
+    }
+
     /**
      * Returns the Transformer object used for transforming the axis values.
      *
@@ -11,6 +11,7 @@ import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.buffer.BarBuffer;
 import com.github.mikephil.charting.data.BarData;
 import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.highlight.Range;
 import com.github.mikephil.charting.interfaces.dataprovider.BarDataProvider;
@@ -21,6 +22,7 @@ import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
+import java.util.Arrays;
 import java.util.List;
 
 public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
@@ -106,6 +108,25 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
 	private RectF mBarShadowRectBuffer = new RectF();
 
+	/**
+	 * rect reused for drawing rounded bars
+	 */
+	protected RectF mBarRectBuffer = new RectF();
+
+	/**
+	 * BarBuffer indices of the bars of the current batch
+	 */
+	protected int[] mBatchBars = new int[64];
+	protected int mBatchBarCount = 0;
+
+	/**
+	 * lines of the current batch, as x0, y0, x1, y1
+	 */
+	protected float[] mBatchLines = new float[256];
+	protected int mBatchLineCount = 0;
+
+	protected int[] mBatchColorOffsets = new int[2];
+
 	protected void drawDataSet(Canvas c, IBarDataSet dataSet, int index) {
 
 		Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
@@ -118,6 +139,14 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 		float phaseX = mAnimator.getPhaseX();
 		float phaseY = mAnimator.getPhaseY();
 
+		// initialize the buffer
+		BarBuffer buffer = mBarBuffers[index];
+		buffer.setPhases(phaseX, phaseY);
+		buffer.setDataSet(index);
+		buffer.setInverted(mChart.isInverted(dataSet.getAxisDependency()));
+		buffer.setBarWidth(mChart.getBarData().getBarWidth());
+		limitToVisibleRange(buffer, dataSet);
+
 		// draw the bar shadow before the values
 		if (mChart.isDrawBarShadowEnabled()) {
 			mShadowPaint.setColor(dataSet.getBarShadowColor());
@@ -127,9 +156,12 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 			final float barWidth = barData.getBarWidth();
 			final float barWidthHalf = barWidth / 2.0f;
 			float x;
+			float batchWidth = 0f;
+
+			mBatchLineCount = 0;
 
-			for (int i = 0, count = Math.min((int) (Math.ceil((float) (dataSet.getEntryCount()) * phaseX)), dataSet.getEntryCount());
-				 i < count;
+			for (int i = buffer.getFrom(), count = Math.min((int) (Math.ceil((float) (dataSet.getEntryCount()) * phaseX)), dataSet.getEntryCount());
+				 i < count && i <= buffer.getTo();
 				 i++) {
 
 				BarEntry e = dataSet.getEntryForIndex(i);
@@ -155,21 +187,18 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 				if (mDrawRoundedBars) {
 					c.drawRoundRect(mBarShadowRectBuffer, mRoundedBarRadius, mRoundedBarRadius, mShadowPaint);
 				} else {
-					c.drawRect(mBarShadowRectBuffer, mShadowPaint);
+					addBatchLine(mBarShadowRectBuffer.centerX(), mBarShadowRectBuffer.top,
+							mBarShadowRectBuffer.centerX(), mBarShadowRectBuffer.bottom);
+					batchWidth = Math.abs(mBarShadowRectBuffer.width());
 				}
 			}
-		}
 
-		// initialize the buffer
-		BarBuffer buffer = mBarBuffers[index];
-		buffer.setPhases(phaseX, phaseY);
-		buffer.setDataSet(index);
-		buffer.setInverted(mChart.isInverted(dataSet.getAxisDependency()));
-		buffer.setBarWidth(mChart.getBarData().getBarWidth());
+			drawBatchLines(c, 0, mBatchLineCount, batchWidth, mShadowPaint);
+		}
 
 		buffer.feed(dataSet);
 
-		trans.pointValuesToPixel(buffer.buffer);
+		trans.pointValuesToPixel(buffer.buffer, buffer.getEnd() / 2);
 
 		final boolean isCustomFill = dataSet.getFills() != null && !dataSet.getFills().isEmpty();
 		final boolean isSingleColor = dataSet.getColors().size() == 1;
@@ -179,7 +208,12 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 			mRenderPaint.setColor(dataSet.getColor());
 		}
 
-		for (int j = 0, pos = 0; j < buffer.size(); j += 4, pos++) {
+		// square bars without custom fills are drawn in batches
+		final boolean batch = !isCustomFill && !mDrawRoundedBars;
+
+		mBatchBarCount = 0;
+
+		for (int j = 0, pos = buffer.getBarOffset(); j < buffer.getEnd(); j += 4, pos++) {
 
 			if (!mViewPortHandler.isInBoundsLeft(buffer.buffer[j + 2])) {
 				continue;
@@ -189,6 +223,11 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 				break;
 			}
 
+			if (batch) {
+				addBatchBar(j);
+				continue;
+			}
+
 			if (!isSingleColor) {
 				// Set the color for the currently drawn value. If the index
 				// is out of bounds, reuse colors.
@@ -206,25 +245,204 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 								isInverted ? Fill.Direction.DOWN : Fill.Direction.UP,
 								mRoundedBarRadius);
 			} else {
-				if (mDrawRoundedBars) {
-					c.drawRoundRect(new RectF(buffer.buffer[j], buffer.buffer[j + 1], buffer.buffer[j + 2],
-							buffer.buffer[j + 3]), mRoundedBarRadius, mRoundedBarRadius, mRenderPaint);
-				} else {
-					c.drawRect(buffer.buffer[j], buffer.buffer[j + 1], buffer.buffer[j + 2],
-							buffer.buffer[j + 3], mRenderPaint);
-				}
+				mBarRectBuffer.set(buffer.buffer[j], buffer.buffer[j + 1], buffer.buffer[j + 2],
+						buffer.buffer[j + 3]);
+				c.drawRoundRect(mBarRectBuffer, mRoundedBarRadius, mRoundedBarRadius, mRenderPaint);
 			}
 
 			if (drawBorder) {
 				if (mDrawRoundedBars) {
-					c.drawRoundRect(new RectF(buffer.buffer[j], buffer.buffer[j + 1], buffer.buffer[j + 2],
-							buffer.buffer[j + 3]), mRoundedBarRadius, mRoundedBarRadius, mBarBorderPaint);
+					mBarRectBuffer.set(buffer.buffer[j], buffer.buffer[j + 1], buffer.buffer[j + 2],
+							buffer.buffer[j + 3]);
+					c.drawRoundRect(mBarRectBuffer, mRoundedBarRadius, mRoundedBarRadius, mBarBorderPaint);
 				} else {
 					c.drawRect(buffer.buffer[j], buffer.buffer[j + 1], buffer.buffer[j + 2],
 							buffer.buffer[j + 3], mBarBorderPaint);
 				}
 			}
 		}
+
+		drawBarBatch(c, dataSet, buffer, false, drawBorder);
+	}
+
+	/**
+	 * Limits the buffer to the entries in the visible x-range, so that zoomed in charts only feed
+	 * and transform the bars on screen. The range is widened by half a bar on each side to include
+	 * bars that are only partly visible.
+	 *
+	 * @param buffer
+	 * @param dataSet
+	 */
+	protected void limitToVisibleRange(BarBuffer buffer, IBarDataSet dataSet) {
+
+		final float barWidthHalf = mChart.getBarData().getBarWidth() / 2f;
+		final float lowestVisibleX = mChart.getLowestVisibleX();
+		final float highestVisibleX = mChart.getHighestVisibleX();
+
+		final float low = Math.min(lowestVisibleX, highestVisibleX) - barWidthHalf;
+		final float high = Math.max(lowestVisibleX, highestVisibleX) + barWidthHalf;
+
+		buffer.limitFrom(dataSet.getEntryIndex(low, Float.NaN, DataSet.Rounding.DOWN));
+		buffer.limitTo(dataSet.getEntryIndex(high, Float.NaN, DataSet.Rounding.UP));
+	}
+
+	/**
+	 * Adds the bar starting at the given index of the BarBuffer to the current batch.
+	 *
+	 * @param index
+	 */
+	protected void addBatchBar(int index) {
+
+		if (mBatchBars.length == mBatchBarCount) {
+			mBatchBars = Arrays.copyOf(mBatchBars, mBatchBarCount * 2);
+		}
+
+		mBatchBars[mBatchBarCount++] = index;
+	}
+
+	/**
+	 * Draws the bars of the current batch, one drawLines(...) call per color: each bar is a line
+	 * as thick as the bar is wide. The bars are grouped by color with a counting sort.
+	 *
+	 * @param c
+	 * @param dataSet
+	 * @param buffer     the BarBuffer the batch indices refer to
+	 * @param horizontal true if the bars grow along the x-axis
+	 * @param drawBorder
+	 */
+	protected void drawBarBatch(Canvas c, IBarDataSet dataSet, BarBuffer buffer, boolean horizontal, boolean drawBorder) {
+
+		final int count = mBatchBarCount;
+		final float[] bars = buffer.buffer;
+		final int barOffset = buffer.getBarOffset();
+
+		if (count == 0) {
+			return;
+		}
+
+		final int colorCount = dataSet.getColors().size();
+
+		if (mBatchColorOffsets.length < colorCount + 1) {
+			mBatchColorOffsets = new int[colorCount + 1];
+		} else {
+			Arrays.fill(mBatchColorOffsets, 0, colorCount + 1, 0);
+		}
+
+		for (int i = 0; i < count; i++) {
+			mBatchColorOffsets[(barOffset + mBatchBars[i] / 4) % colorCount + 1]++;
+		}
+
+		for (int i = 0; i < colorCount; i++) {
+			mBatchColorOffsets[i + 1] += mBatchColorOffsets[i];
+		}
+
+		ensureBatchLines(count);
+
+		// after this, mBatchColorOffsets[color] is the end of the lines of the color
+		for (int i = 0; i < count; i++) {
+
+			final int j = mBatchBars[i];
+			final int line = mBatchColorOffsets[(barOffset + j / 4) % colorCount]++ * 4;
+
+			if (horizontal) {
+				final float y = (bars[j + 1] + bars[j + 3]) / 2f;
+				mBatchLines[line] = bars[j];
+				mBatchLines[line + 1] = y;
+				mBatchLines[line + 2] = bars[j + 2];
+				mBatchLines[line + 3] = y;
+			} else {
+				final float x = (bars[j] + bars[j + 2]) / 2f;
+				mBatchLines[line] = x;
+				mBatchLines[line + 1] = bars[j + 1];
+				mBatchLines[line + 2] = x;
+				mBatchLines[line + 3] = bars[j + 3];
+			}
+		}
+
+		final int first = mBatchBars[0];
+		final float width = Math.abs(horizontal
+				? bars[first + 3] - bars[first + 1]
+				: bars[first + 2] - bars[first]);
+
+		for (int color = 0, start = 0; color < colorCount; color++) {
+
+			final int end = mBatchColorOffsets[color];
+
+			if (end > start) {
+				mRenderPaint.setColor(dataSet.getColor(color));
+				drawBatchLines(c, start, end - start, width, mRenderPaint);
+			}
+
+			start = end;
+		}
+
+		if (!drawBorder) {
+			return;
+		}
+
+		// the outlines of all bars, the horizontal edges reach over the corners
+		mBatchLineCount = 0;
+		ensureBatchLines(count * 4);
+
+		final float half = mBarBorderPaint.getStrokeWidth() / 2f;
+
+		for (int i = 0; i < count; i++) {
+
+			final int j = mBatchBars[i];
+			final float left = Math.min(bars[j], bars[j + 2]);
+			final float right = Math.max(bars[j], bars[j + 2]);
+			final float top = bars[j + 1];
+			final float bottom = bars[j + 3];
+
+			addBatchLine(left - half, top, right + half, top);
+			addBatchLine(right, top, right, bottom);
+			addBatchLine(right + half, bottom, left - half, bottom);
+			addBatchLine(left, bottom, left, top);
+		}
+
+		c.drawLines(mBatchLines, 0, mBatchLineCount * 4, mBarBorderPaint);
+	}
+
+	protected void addBatchLine(float x0, float y0, float x1, float y1) {
+
+		ensureBatchLines(mBatchLineCount + 1);
+
+		final int i = mBatchLineCount++ * 4;
+
+		mBatchLines[i] = x0;
+		mBatchLines[i + 1] = y0;
+		mBatchLines[i + 2] = x1;
+		mBatchLines[i + 3] = y1;
+	}
+
+	private void ensureBatchLines(int lines) {
+		if (mBatchLines.length < lines * 4) {
+			mBatchLines = Arrays.copyOf(mBatchLines, Math.max(lines * 4, mBatchLines.length * 2));
+		}
+	}
+
+	/**
+	 * Draws count lines of the batch, starting at line start, as filled bars of the given width.
+	 */
+	protected void drawBatchLines(Canvas c, int start, int count, float width, Paint paint) {
+
+		if (count == 0) {
+			return;
+		}
+
+		final Paint.Style style = paint.getStyle();
+		final Paint.Cap cap = paint.getStrokeCap();
+		final float strokeWidth = paint.getStrokeWidth();
+
+		paint.setStyle(Paint.Style.STROKE);
+		paint.setStrokeCap(Paint.Cap.BUTT);
+		paint.setStrokeWidth(width);
+
+		c.drawLines(mBatchLines, start * 4, count * 4, paint);
+
+		paint.setStyle(style);
+		paint.setStrokeCap(cap);
+		paint.setStrokeWidth(strokeWidth);
 	}
 
 	protected void prepareBarHighlight(float x, float y1, float y2, float barWidthHalf, Transformer trans) {
@@ -290,7 +508,7 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 				// if only single values are drawn (sum)
 				if (!dataSet.isStacked()) {
 
-					for (int j = 0; j < buffer.buffer.length * mAnimator.getPhaseX(); j += 4) {
+					for (int j = 0; j < buffer.getEnd(); j += 4) {
 
 						float x = (buffer.buffer[j] + buffer.buffer[j + 2]) / 2f;
 
@@ -303,7 +521,8 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 							continue;
 						}
 
-						BarEntry entry = dataSet.getEntryForIndex(j / 4);
+						final int entryIndex = buffer.getFrom() + j / 4;
+						BarEntry entry = dataSet.getEntryForIndex(entryIndex);
 						float val = entry.getY();
 
 						if (dataSet.isDrawValuesEnabled()) {
@@ -311,7 +530,7 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 									val >= 0 ?
 											(buffer.buffer[j + 1] + posOffset) :
 											(buffer.buffer[j + 3] + negOffset),
-									dataSet.getValueTextColor(j / 4));
+									dataSet.getValueTextColor(entryIndex));
 						}
 
 						if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
@@ -342,9 +561,9 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 					Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
 
 					int bufferIndex = 0;
-					int index = 0;
+					int index = buffer.getFrom();
 
-					while (index < dataSet.getEntryCount() * mAnimator.getPhaseX()) {
+					while (index < dataSet.getEntryCount() * mAnimator.getPhaseX() && index <= buffer.getTo()) {
 
 						BarEntry entry = dataSet.getEntryForIndex(index);
 
@@ -531,7 +750,7 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 			setHighlightDrawPos(high, mBarRect);
 
 			if (mDrawRoundedBars) {
-				c.drawRoundRect(new RectF(mBarRect), mRoundedBarRadius, mRoundedBarRadius, mHighlightPaint);
+				c.drawRoundRect(mBarRect, mRoundedBarRadius, mRoundedBarRadius, mHighlightPaint);
 			} else {
 				c.drawRect(mBarRect, mHighlightPaint);
 			}
@@ -12,11 +12,13 @@ import com.github.mikephil.charting.data.BubbleEntry;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.BubbleDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBubbleDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
+import java.util.HashMap;
 import java.util.List;
 
 /**
@@ -40,7 +42,7 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
     @Override
     public void initBuffers() {
-
+        mSizeFactors.clear();
     }
 
     @Override
@@ -48,6 +50,8 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
         BubbleData bubbleData = mChart.getBubbleData();
 
+        mSpriteAtlas.beginFrame();
+
         for (IBubbleDataSet set : bubbleData.getDataSets()) {
 
             if (set.isVisible())
@@ -58,6 +62,37 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
     private float[] sizeBuffer = new float[4];
     private float[] pointBuffer = new float[2];
 
+    /**
+     * positions of the visible bubbles, in values and then pixels
+     */
+    protected float[] mPixelBuffer = new float[2];
+
+    /**
+     * pre-rendered small bubbles
+     */
+    protected BubbleSpriteAtlas mSpriteAtlas = new BubbleSpriteAtlas();
+
+    /**
+     * Shape sizes of all entries of a DataSet relative to the reference size. They only change
+     * with the data, so they are reused across frames.
+     */
+    protected static final class SizeFactors {
+
+        float[] factors = new float[0];
+
+        int entryCount = -1;
+        float maxSize;
+        boolean normalizeSize;
+
+        boolean isValid(IBubbleDataSet dataSet) {
+            return entryCount == dataSet.getEntryCount()
+                    && maxSize == dataSet.getMaxSize()
+                    && normalizeSize == dataSet.isNormalizeSizeEnabled();
+        }
+    }
+
+    private final HashMap<IDataSet, SizeFactors> mSizeFactors = new HashMap<>();
+
     protected float getShapeSize(float entrySize, float maxSize, float reference, boolean normalizeSize) {
         final float factor = normalizeSize ? ((maxSize == 0f) ? 1f : (float) Math.sqrt(entrySize / maxSize)) :
                 entrySize;
@@ -65,6 +100,44 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
         return shapeSize;
     }
 
+    /**
+     * Returns the shape sizes of all entries of the DataSet for a reference size of 1, computing
+     * them if the data, the max size or the normalization changed since they were cached.
+     * getShapeSize(...) is expected to scale linearly with the reference size.
+     *
+     * @param dataSet
+     * @return
+     */
+    protected float[] getSizeFactors(IBubbleDataSet dataSet) {
+
+        SizeFactors sizes = mSizeFactors.get(dataSet);
+
+        if (sizes == null) {
+            sizes = new SizeFactors();
+            mSizeFactors.put(dataSet, sizes);
+        }
+
+        if (!sizes.isValid(dataSet)) {
+
+            final int count = dataSet.getEntryCount();
+            final float maxSize = dataSet.getMaxSize();
+            final boolean normalizeSize = dataSet.isNormalizeSizeEnabled();
+
+            if (sizes.factors.length < count)
+                sizes.factors = new float[count];
+
+            for (int j = 0; j < count; j++) {
+                sizes.factors[j] = getShapeSize(dataSet.getEntryForIndex(j).getSize(), maxSize, 1f, normalizeSize);
+            }
+
+            sizes.entryCount = count;
+            sizes.maxSize = maxSize;
+            sizes.normalizeSize = normalizeSize;
+        }
+
+        return sizes.factors;
+    }
+
     protected void drawDataSet(Canvas c, IBubbleDataSet dataSet) {
 
         if (dataSet.getEntryCount() < 1)
@@ -81,40 +154,69 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
         trans.pointValuesToPixel(sizeBuffer);
 
-        boolean normalizeSize = dataSet.isNormalizeSizeEnabled();
-
         // calcualte the full width of 1 step on the x-axis
         final float maxBubbleWidth = Math.abs(sizeBuffer[2] - sizeBuffer[0]);
         final float maxBubbleHeight = Math.abs(mViewPortHandler.contentBottom() - mViewPortHandler.contentTop());
         final float referenceSize = Math.min(maxBubbleHeight, maxBubbleWidth);
 
-        for (int j = mXBounds.min; j <= mXBounds.range + mXBounds.min; j++) {
+        final float[] factors = getSizeFactors(dataSet);
+        final int[] colors = dataSet.getColorArray();
 
-            final BubbleEntry entry = dataSet.getEntryForIndex(j);
+        // transform only the visible entries, all at once
+        final int count = mXBounds.range + 1;
 
-            pointBuffer[0] = entry.getX();
-            pointBuffer[1] = (entry.getY()) * phaseY;
-            trans.pointValuesToPixel(pointBuffer);
+        if (mPixelBuffer.length < count * 2)
+            mPixelBuffer = new float[count * 2];
 
-            float shapeHalf = getShapeSize(entry.getSize(), dataSet.getMaxSize(), referenceSize, normalizeSize) / 2f;
+        for (int i = 0; i < count; i++) {
 
-            if (!mViewPortHandler.isInBoundsTop(pointBuffer[1] + shapeHalf)
-                    || !mViewPortHandler.isInBoundsBottom(pointBuffer[1] - shapeHalf))
+            final BubbleEntry entry = dataSet.getEntryForIndex(mXBounds.min + i);
+
+            mPixelBuffer[i * 2] = entry.getX();
+            mPixelBuffer[i * 2 + 1] = entry.getY() * phaseY;
+        }
+
+        trans.pointValuesToPixel(mPixelBuffer, count);
+
+        for (int i = 0; i < count; i++) {
+
+            final int j = mXBounds.min + i;
+            final float x = mPixelBuffer[i * 2];
+            final float y = mPixelBuffer[i * 2 + 1];
+
+            final float shapeHalf = referenceSize * factors[j] / 2f;
+
+            if (!mViewPortHandler.isInBoundsTop(y + shapeHalf)
+                    || !mViewPortHandler.isInBoundsBottom(y - shapeHalf))
                 continue;
 
-            if (!mViewPortHandler.isInBoundsLeft(pointBuffer[0] + shapeHalf))
+            if (!mViewPortHandler.isInBoundsLeft(x + shapeHalf))
                 continue;
 
-            if (!mViewPortHandler.isInBoundsRight(pointBuffer[0] - shapeHalf))
+            if (!mViewPortHandler.isInBoundsRight(x - shapeHalf))
                 break;
 
-            final int color = dataSet.getColor(j);
+            final int color = colors[j % colors.length];
+
+            // small bubbles are stamped, they look the same at whole pixel diameters
+            final BubbleSpriteAtlas.Sprite sprite = mSpriteAtlas.getSprite(shapeHalf * 2f, color);
 
-            mRenderPaint.setColor(color);
-            c.drawCircle(pointBuffer[0], pointBuffer[1], shapeHalf, mRenderPaint);
+            if (sprite != null) {
+                c.drawBitmap(sprite.bitmap, Math.round(x) - sprite.offset, Math.round(y) - sprite.offset, null);
+            } else {
+                mRenderPaint.setColor(color);
+                c.drawCircle(x, y, shapeHalf, mRenderPaint);
+            }
         }
     }
 
+    /**
+     * Recycles the pre-rendered bubbles. Should be called when the chart is detached from its window.
+     */
+    public void releaseSprites() {
+        mSpriteAtlas.clear();
+    }
+
     @Override
     public void drawValues(Canvas c) {
 
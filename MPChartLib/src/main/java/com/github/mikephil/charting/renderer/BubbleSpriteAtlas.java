@@ -0,0 +1,189 @@
+package com.github.mikephil.charting.renderer;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache of pre-rendered bubbles, one bitmap per diameter (in whole pixels) and color. Stamping
+ * a bitmap is much cheaper than drawing an anti-aliased circle for every bubble. Once the atlas
+ * is full, only sprites that were not used in the current or the previous frame are replaced,
+ * other bubbles are not cached and have to be drawn as circles. Charts with more distinct
+ * bubbles than fit the atlas therefore don't render new bitmaps every frame.
+ */
+public class BubbleSpriteAtlas {
+
+    /**
+     * bubbles larger than this (in pixels) are not cached
+     */
+    public static final int MAX_DIAMETER = 64;
+
+    private final int mMaxSprites;
+
+    private final LinkedHashMap<Key, Sprite> mSprites;
+
+    private final Key mLookup = new Key();
+
+    private final Canvas mCanvas = new Canvas();
+
+    private final Paint mPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+
+    /**
+     * the current frame, see beginFrame()
+     */
+    private int mFrame = 0;
+
+    /**
+     * the last frame in which the least recently used sprite was found to be still in use, no
+     * sprite can be replaced until the next frame
+     */
+    private int mFullFrame = -1;
+
+    /**
+     * A pre-rendered bubble. The center of the bubble is at (offset, offset) in the bitmap.
+     */
+    public static final class Sprite {
+
+        public final Bitmap bitmap;
+        public final float offset;
+
+        /**
+         * the frame in which the sprite was used last
+         */
+        int lastFrame;
+
+        Sprite(Bitmap bitmap, float offset) {
+            this.bitmap = bitmap;
+            this.offset = offset;
+        }
+    }
+
+    private static final class Key {
+
+        int size;
+        int color;
+
+        Key set(int size, int color) {
+            this.size = size;
+            this.color = color;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key))
+                return false;
+
+            Key k = (Key) o;
+            return size == k.size && color == k.color;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * size + color;
+        }
+    }
+
+    public BubbleSpriteAtlas() {
+        this(64);
+    }
+
+    /**
+     * @param maxSprites the number of sprites kept at most
+     */
+    public BubbleSpriteAtlas(int maxSprites) {
+        if (maxSprites < 1)
+            throw new IllegalArgumentException("maxSprites needs to be at least 1");
+
+        mMaxSprites = maxSprites;
+        mSprites = new LinkedHashMap<>(16, 0.75f, true);
+
+        mPaint.setStyle(Paint.Style.FILL);
+    }
+
+    /**
+     * Starts a new frame, sprites not used in this or the previous frame can be replaced.
+     */
+    public void beginFrame() {
+        mFrame++;
+    }
+
+    /**
+     * Returns the sprite of a bubble with the given diameter and color, rendering it if it isn't
+     * cached yet. Returns null if the bubble is too large to be cached, or if the atlas is full
+     * of sprites that are still in use.
+     *
+     * @param diameter diameter of the bubble in pixels, rounded to whole pixels
+     * @param color
+     * @return
+     */
+    public Sprite getSprite(float diameter, int color) {
+
+        final int size = Math.round(diameter);
+
+        if (size <= 0 || size > MAX_DIAMETER)
+            return null;
+
+        Sprite sprite = mSprites.get(mLookup.set(size, color));
+
+        if (sprite == null) {
+
+            if (mSprites.size() >= mMaxSprites && !removeUnused())
+                return null;
+
+            // a pixel of room for the anti-aliased edge
+            final int offset = (size + 1) / 2 + 1;
+
+            Bitmap bitmap = Bitmap.createBitmap(offset * 2, offset * 2, Bitmap.Config.ARGB_8888);
+            mCanvas.setBitmap(bitmap);
+
+            mPaint.setColor(color);
+            mCanvas.drawCircle(offset, offset, size / 2f, mPaint);
+
+            mCanvas.setBitmap(null);
+
+            sprite = new Sprite(bitmap, offset);
+            mSprites.put(new Key().set(size, color), sprite);
+        }
+
+        sprite.lastFrame = mFrame;
+
+        return sprite;
+    }
+
+    /**
+     * Drops the least recently used sprite if it was not used in this or the previous frame.
+     * Returns false if it is still in use.
+     */
+    private boolean removeUnused() {
+
+        // all other sprites were used more recently
+        if (mFullFrame == mFrame)
+            return false;
+
+        Iterator<Map.Entry<Key, Sprite>> it = mSprites.entrySet().iterator();
+
+        if (it.next().getValue().lastFrame >= mFrame - 1) {
+            mFullFrame = mFrame;
+            return false;
+        }
+
+        // not recycled, the bitmap may still be referenced by a recorded frame
+        it.remove();
+        return true;
+    }
+
+    /**
+     * Recycles all sprites.
+     */
+    public void clear() {
+        for (Sprite sprite : mSprites.values())
+            sprite.bitmap.recycle();
+
+        mSprites.clear();
+    }
+}
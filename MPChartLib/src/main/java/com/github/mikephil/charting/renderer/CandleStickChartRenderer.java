@@ -18,18 +18,13 @@ import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
+import java.util.Arrays;
 import java.util.List;
 
 public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
 
     protected CandleDataProvider mChart;
 
-    private float[] mShadowBuffers = new float[8];
-    private float[] mBodyBuffers = new float[4];
-    private float[] mRangeBuffers = new float[4];
-    private float[] mOpenBuffers = new float[4];
-    private float[] mCloseBuffers = new float[4];
-
     public CandleStickChartRenderer(CandleDataProvider chart, ChartAnimator animator,
                                     ViewPortHandler viewPortHandler) {
         super(animator, viewPortHandler);
@@ -53,6 +48,76 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
         }
     }
 
+    /**
+     * indices of the color classes of the candles
+     */
+    protected static final int DECREASING = 0;
+    protected static final int INCREASING = 1;
+    protected static final int NEUTRAL = 2;
+
+    /**
+     * Point pairs in a shared buffer, colored by runs of equal color. The candles of a DataSet
+     * are collected into batches per color class, so that each batch can be transformed at once
+     * and drawn with one call per run.
+     */
+    protected static final class CandleBatch {
+
+        float[] points = new float[64];
+        int size = 0;
+
+        int[] runColors = new int[4];
+        int[] runEnds = new int[4];
+        int runs = 0;
+
+        void reset() {
+            size = 0;
+            runs = 0;
+        }
+
+        void add(float x0, float y0, float x1, float y1, int color) {
+
+            if (points.length < size + 4)
+                points = Arrays.copyOf(points, points.length * 2);
+
+            if (runs == 0 || runColors[runs - 1] != color) {
+
+                if (runs == runColors.length) {
+                    runColors = Arrays.copyOf(runColors, runs * 2);
+                    runEnds = Arrays.copyOf(runEnds, runs * 2);
+                }
+
+                runColors[runs++] = color;
+            }
+
+            points[size++] = x0;
+            points[size++] = y0;
+            points[size++] = x1;
+            points[size++] = y1;
+
+            runEnds[runs - 1] = size;
+        }
+    }
+
+    /**
+     * shadows, neutral bodies and open/close ticks per color class, as lines
+     */
+    protected CandleBatch[] mLineBatches = {new CandleBatch(), new CandleBatch(), new CandleBatch()};
+
+    /**
+     * decreasing and increasing bodies, as opposite corners
+     */
+    protected CandleBatch[] mBodyBatches = {new CandleBatch(), new CandleBatch()};
+
+    /**
+     * the decreasing, increasing and neutral color of the DataSet being drawn
+     */
+    private final int[] mClassColors = new int[3];
+
+    /**
+     * lines generated for drawing the bodies
+     */
+    private float[] mBodyLines = new float[64];
+
     @SuppressWarnings("ResourceAsColor")
     protected void drawDataSet(Canvas c, ICandleDataSet dataSet) {
 
@@ -64,9 +129,21 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
 
         mXBounds.set(mChart, dataSet);
 
-        mRenderPaint.setStrokeWidth(dataSet.getShadowWidth());
+        for (CandleBatch batch : mLineBatches)
+            batch.reset();
+
+        for (CandleBatch batch : mBodyBatches)
+            batch.reset();
+
+        final int[] colors = dataSet.getColorArray();
+        final int[] classColors = mClassColors;
+        classColors[DECREASING] = dataSet.getDecreasingColor();
+        classColors[INCREASING] = dataSet.getIncreasingColor();
+        classColors[NEUTRAL] = dataSet.getNeutralColor();
+        final boolean shadowSameAsCandle = dataSet.getShadowColorSameAsCandle();
+        final int shadowColor = dataSet.getShadowColor();
 
-        // draw the body
+        // collect the candles in value space
         for (int j = mXBounds.min; j <= mXBounds.range + mXBounds.min; j++) {
 
             // get the entry
@@ -77,179 +154,166 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
 
             final float xPos = e.getX();
 
-            final float open = e.getOpen();
-            final float close = e.getClose();
-            final float high = e.getHigh();
-            final float low = e.getLow();
+            final float open = e.getOpen() * phaseY;
+            final float close = e.getClose() * phaseY;
+            final float high = e.getHigh() * phaseY;
+            final float low = e.getLow() * phaseY;
+
+            final int colorClass = open > close ? DECREASING : open < close ? INCREASING : NEUTRAL;
+            final int color = classColors[colorClass] == ColorTemplate.COLOR_NONE
+                    ? colors[j % colors.length]
+                    : classColors[colorClass];
+
+            final CandleBatch lines = mLineBatches[colorClass];
 
             if (showCandleBar) {
-                // calculate the shadow
-
-                mShadowBuffers[0] = xPos;
-                mShadowBuffers[2] = xPos;
-                mShadowBuffers[4] = xPos;
-                mShadowBuffers[6] = xPos;
-
-                if (open > close) {
-                    mShadowBuffers[1] = high * phaseY;
-                    mShadowBuffers[3] = open * phaseY;
-                    mShadowBuffers[5] = low * phaseY;
-                    mShadowBuffers[7] = close * phaseY;
-                } else if (open < close) {
-                    mShadowBuffers[1] = high * phaseY;
-                    mShadowBuffers[3] = close * phaseY;
-                    mShadowBuffers[5] = low * phaseY;
-                    mShadowBuffers[7] = open * phaseY;
+
+                // the shadows, from the body to the high and the low
+                final int shadow;
+
+                if (shadowSameAsCandle)
+                    shadow = color;
+                else if (shadowColor == ColorTemplate.COLOR_NONE)
+                    shadow = colors[j % colors.length];
+                else
+                    shadow = shadowColor;
+
+                lines.add(xPos, high, xPos, Math.max(open, close), shadow);
+                lines.add(xPos, low, xPos, Math.min(open, close), shadow);
+
+                // the body
+                if (colorClass == NEUTRAL) {
+                    lines.add(xPos - 0.5f + barSpace, close, xPos + 0.5f - barSpace, open, color);
                 } else {
-                    mShadowBuffers[1] = high * phaseY;
-                    mShadowBuffers[3] = open * phaseY;
-                    mShadowBuffers[5] = low * phaseY;
-                    mShadowBuffers[7] = mShadowBuffers[3];
+                    mBodyBatches[colorClass].add(xPos - 0.5f + barSpace, close,
+                            xPos + 0.5f - barSpace, open, color);
                 }
 
-                trans.pointValuesToPixel(mShadowBuffers);
+            } else {
 
-                // draw the shadows
+                // the range and the open and close ticks
+                lines.add(xPos, high, xPos, low, color);
+                lines.add(xPos - 0.5f + barSpace, open, xPos, open, color);
+                lines.add(xPos + 0.5f - barSpace, close, xPos, close, color);
+            }
+        }
 
-                if (dataSet.getShadowColorSameAsCandle()) {
+        mRenderPaint.setStrokeWidth(dataSet.getShadowWidth());
+        mRenderPaint.setStyle(Paint.Style.STROKE);
 
-                    if (open > close)
-                        mRenderPaint.setColor(
-                                dataSet.getDecreasingColor() == ColorTemplate.COLOR_NONE ?
-                                        dataSet.getColor(j) :
-                                        dataSet.getDecreasingColor()
-                        );
+        for (CandleBatch batch : mLineBatches) {
 
-                    else if (open < close)
-                        mRenderPaint.setColor(
-                                dataSet.getIncreasingColor() == ColorTemplate.COLOR_NONE ?
-                                        dataSet.getColor(j) :
-                                        dataSet.getIncreasingColor()
-                        );
+            if (batch.size == 0)
+                continue;
 
-                    else
-                        mRenderPaint.setColor(
-                                dataSet.getNeutralColor() == ColorTemplate.COLOR_NONE ?
-                                        dataSet.getColor(j) :
-                                        dataSet.getNeutralColor()
-                        );
+            trans.pointValuesToPixel(batch.points, batch.size / 2);
 
-                } else {
-                    mRenderPaint.setColor(
-                            dataSet.getShadowColor() == ColorTemplate.COLOR_NONE ?
-                                    dataSet.getColor(j) :
-                                    dataSet.getShadowColor()
-                    );
-                }
+            for (int run = 0, start = 0; run < batch.runs; start = batch.runEnds[run++]) {
+                mRenderPaint.setColor(batch.runColors[run]);
+                c.drawLines(batch.points, start, batch.runEnds[run] - start, mRenderPaint);
+            }
+        }
 
-                mRenderPaint.setStyle(Paint.Style.STROKE);
+        drawBodies(c, mBodyBatches[DECREASING], dataSet.getDecreasingPaintStyle(), trans);
+        drawBodies(c, mBodyBatches[INCREASING], dataSet.getIncreasingPaintStyle(), trans);
+    }
 
-                c.drawLines(mShadowBuffers, mRenderPaint);
+    /**
+     * Draws the candle bodies of a batch. Filled bodies are drawn as lines as thick as the bodies
+     * are wide, stroked bodies as their four edges, both with one drawLines(...) call per run.
+     *
+     * @param c
+     * @param batch
+     * @param style the paint style of the bodies
+     * @param trans
+     */
+    protected void drawBodies(Canvas c, CandleBatch batch, Paint.Style style, Transformer trans) {
 
-                // calculate the body
+        if (batch.size == 0)
+            return;
 
-                mBodyBuffers[0] = xPos - 0.5f + barSpace;
-                mBodyBuffers[1] = close * phaseY;
-                mBodyBuffers[2] = (xPos + 0.5f - barSpace);
-                mBodyBuffers[3] = open * phaseY;
+        trans.pointValuesToPixel(batch.points, batch.size / 2);
 
-                trans.pointValuesToPixel(mBodyBuffers);
+        final float[] bodies = batch.points;
+        final float strokeWidth = mRenderPaint.getStrokeWidth();
+        final float half = strokeWidth / 2f;
+        final boolean fill = style != Paint.Style.STROKE;
 
-                // draw body differently for increasing and decreasing entry
-                if (open > close) { // decreasing
+        // outlines take four lines per body
+        final int linesSize = fill ? batch.size : batch.size * 4;
 
-                    if (dataSet.getDecreasingColor() == ColorTemplate.COLOR_NONE) {
-                        mRenderPaint.setColor(dataSet.getColor(j));
-                    } else {
-                        mRenderPaint.setColor(dataSet.getDecreasingColor());
-                    }
+        if (mBodyLines.length < linesSize)
+            mBodyLines = new float[linesSize * 2];
 
-                    mRenderPaint.setStyle(dataSet.getDecreasingPaintStyle());
+        final float[] lines = mBodyLines;
 
-                    c.drawRect(
-                            mBodyBuffers[0], mBodyBuffers[3],
-                            mBodyBuffers[2], mBodyBuffers[1],
-                            mRenderPaint);
+        // all bodies are equally wide
+        float width = Math.abs(bodies[2] - bodies[0]);
 
-                } else if (open < close) {
+        int j = 0;
 
-                    if (dataSet.getIncreasingColor() == ColorTemplate.COLOR_NONE) {
-                        mRenderPaint.setColor(dataSet.getColor(j));
-                    } else {
-                        mRenderPaint.setColor(dataSet.getIncreasingColor());
-                    }
+        for (int i = 0; i < batch.size; i += 4) {
 
-                    mRenderPaint.setStyle(dataSet.getIncreasingPaintStyle());
+            final float left = Math.min(bodies[i], bodies[i + 2]);
+            final float right = Math.max(bodies[i], bodies[i + 2]);
+            final float top = Math.min(bodies[i + 1], bodies[i + 3]);
+            final float bottom = Math.max(bodies[i + 1], bodies[i + 3]);
 
-                    c.drawRect(
-                            mBodyBuffers[0], mBodyBuffers[1],
-                            mBodyBuffers[2], mBodyBuffers[3],
-                            mRenderPaint);
-                } else { // equal values
+            if (fill) {
 
-                    if (dataSet.getNeutralColor() == ColorTemplate.COLOR_NONE) {
-                        mRenderPaint.setColor(dataSet.getColor(j));
-                    } else {
-                        mRenderPaint.setColor(dataSet.getNeutralColor());
-                    }
+                final float x = (left + right) / 2f;
+
+                // fill and stroke grows the body by half the stroke on every side
+                final float grow = style == Paint.Style.FILL ? 0f : half;
+
+                lines[j++] = x;
+                lines[j++] = top - grow;
+                lines[j++] = x;
+                lines[j++] = bottom + grow;
 
-                    c.drawLine(
-                            mBodyBuffers[0], mBodyBuffers[1],
-                            mBodyBuffers[2], mBodyBuffers[3],
-                            mRenderPaint);
-                }
             } else {
 
-                mRangeBuffers[0] = xPos;
-                mRangeBuffers[1] = high * phaseY;
-                mRangeBuffers[2] = xPos;
-                mRangeBuffers[3] = low * phaseY;
-
-                mOpenBuffers[0] = xPos - 0.5f + barSpace;
-                mOpenBuffers[1] = open * phaseY;
-                mOpenBuffers[2] = xPos;
-                mOpenBuffers[3] = open * phaseY;
-
-                mCloseBuffers[0] = xPos + 0.5f - barSpace;
-                mCloseBuffers[1] = close * phaseY;
-                mCloseBuffers[2] = xPos;
-                mCloseBuffers[3] = close * phaseY;
-
-                trans.pointValuesToPixel(mRangeBuffers);
-                trans.pointValuesToPixel(mOpenBuffers);
-                trans.pointValuesToPixel(mCloseBuffers);
-
-                // draw the ranges
-                int barColor;
-
-                if (open > close)
-                    barColor = dataSet.getDecreasingColor() == ColorTemplate.COLOR_NONE
-                            ? dataSet.getColor(j)
-                            : dataSet.getDecreasingColor();
-                else if (open < close)
-                    barColor = dataSet.getIncreasingColor() == ColorTemplate.COLOR_NONE
-                            ? dataSet.getColor(j)
-                            : dataSet.getIncreasingColor();
-                else
-                    barColor = dataSet.getNeutralColor() == ColorTemplate.COLOR_NONE
-                            ? dataSet.getColor(j)
-                            : dataSet.getNeutralColor();
-
-                mRenderPaint.setColor(barColor);
-                c.drawLine(
-                        mRangeBuffers[0], mRangeBuffers[1],
-                        mRangeBuffers[2], mRangeBuffers[3],
-                        mRenderPaint);
-                c.drawLine(
-                        mOpenBuffers[0], mOpenBuffers[1],
-                        mOpenBuffers[2], mOpenBuffers[3],
-                        mRenderPaint);
-                c.drawLine(
-                        mCloseBuffers[0], mCloseBuffers[1],
-                        mCloseBuffers[2], mCloseBuffers[3],
-                        mRenderPaint);
+                // the horizontal edges reach over the corners
+                lines[j++] = left - half;
+                lines[j++] = top;
+                lines[j++] = right + half;
+                lines[j++] = top;
+
+                lines[j++] = right;
+                lines[j++] = top;
+                lines[j++] = right;
+                lines[j++] = bottom;
+
+                lines[j++] = right + half;
+                lines[j++] = bottom;
+                lines[j++] = left - half;
+                lines[j++] = bottom;
+
+                lines[j++] = left;
+                lines[j++] = bottom;
+                lines[j++] = left;
+                lines[j++] = top;
             }
         }
+
+        final Paint.Cap cap = mRenderPaint.getStrokeCap();
+
+        mRenderPaint.setStyle(Paint.Style.STROKE);
+        mRenderPaint.setStrokeCap(Paint.Cap.BUTT);
+
+        if (fill) {
+            mRenderPaint.setStrokeWidth(style == Paint.Style.FILL ? width : width + strokeWidth);
+        }
+
+        final int factor = fill ? 1 : 4;
+
+        for (int run = 0, start = 0; run < batch.runs; start = batch.runEnds[run++]) {
+            mRenderPaint.setColor(batch.runColors[run]);
+            c.drawLines(lines, start * factor, (batch.runEnds[run] - start) * factor, mRenderPaint);
+        }
+
+        mRenderPaint.setStrokeCap(cap);
+        mRenderPaint.setStrokeWidth(strokeWidth);
     }
 
     @Override
@@ -13,7 +13,9 @@ import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.formatter.IValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.ChartInterface;
+import com.github.mikephil.charting.interfaces.datasets.IColumnarDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.utils.LabelCache;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
@@ -48,6 +50,11 @@ public abstract class DataRenderer extends Renderer {
      */
     protected Paint mValuePaint;
 
+    /**
+     * cache of the formatted values, null if values are formatted every frame
+     */
+    protected LabelCache mLabelCache = null;
+
     public DataRenderer(ChartAnimator animator, ViewPortHandler viewPortHandler) {
         super(viewPortHandler);
         this.mAnimator = animator;
@@ -102,6 +109,62 @@ public abstract class DataRenderer extends Renderer {
         return mRenderPaint;
     }
 
+    /**
+     * Sets the cache used for the formatted values, e.g. new LabelCache(). Only set one if the
+     * value formatters depend on nothing but the value, entry and DataSet index, not on e.g. the
+     * scale of the chart. Clear the cache after changing a formatter in place.
+     * Default: null
+     * @param cache
+     */
+    public void setLabelCache(LabelCache cache) {
+        mLabelCache = cache;
+    }
+
+    /**
+     * Returns the cache used for the formatted values, null if there is none.
+     *
+     * @return
+     */
+    public LabelCache getLabelCache() {
+        return mLabelCache;
+    }
+
+    /**
+     * Returns the formatted value of the given entry, from the label cache if possible.
+     *
+     * @param formatter
+     * @param value
+     * @param entry
+     * @param dataSetIndex
+     * @return
+     */
+    protected String getFormattedValue(IValueFormatter formatter, float value, Entry entry, int dataSetIndex) {
+        if (mLabelCache == null)
+            return formatter.getFormattedValue(value, entry, dataSetIndex, mViewPortHandler);
+
+        return mLabelCache.getFormattedValue(formatter, value, entry, dataSetIndex, mViewPortHandler);
+    }
+
+    /**
+     * Returns the formatted value of the given entry of a columnar DataSet, from the label cache
+     * if possible.
+     *
+     * @param formatter
+     * @param value
+     * @param entry
+     * @param dataSet
+     * @param dataSetIndex
+     * @return
+     */
+    protected String getFormattedValue(IValueFormatter formatter, float value, Entry entry,
+                                       IColumnarDataSet dataSet, int dataSetIndex) {
+        if (mLabelCache == null)
+            return formatter.getFormattedValue(value, entry, dataSetIndex, mViewPortHandler);
+
+        return mLabelCache.getFormattedValue(formatter, value, entry, dataSet, dataSetIndex,
+                mViewPortHandler);
+    }
+
     /**
      * Applies the required styling (provided by the DataSet) to the value-paint
      * object.
@@ -149,7 +212,7 @@ public abstract class DataRenderer extends Renderer {
      */
     public void drawValue(Canvas c, IValueFormatter formatter, float value, Entry entry, int dataSetIndex, float x, float y, int color) {
         mValuePaint.setColor(color);
-        c.drawText(formatter.getFormattedValue(value, entry, dataSetIndex, mViewPortHandler), x, y, mValuePaint);
+        c.drawText(getFormattedValue(formatter, value, entry, dataSetIndex), x, y, mValuePaint);
     }
 
     public void drawText(Canvas c, String text, float x, float y, int color) {
@@ -66,6 +66,14 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
 		float phaseX = mAnimator.getPhaseX();
 		float phaseY = mAnimator.getPhaseY();
 
+		// initialize the buffer
+		BarBuffer buffer = mBarBuffers[index];
+		buffer.setPhases(phaseX, phaseY);
+		buffer.setDataSet(index);
+		buffer.setInverted(mChart.isInverted(dataSet.getAxisDependency()));
+		buffer.setBarWidth(mChart.getBarData().getBarWidth());
+		limitToVisibleRange(buffer, dataSet);
+
 		// draw the bar shadow before the values
 		if (mChart.isDrawBarShadowEnabled()) {
 			mShadowPaint.setColor(dataSet.getBarShadowColor());
@@ -75,9 +83,12 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
 			final float barWidth = barData.getBarWidth();
 			final float barWidthHalf = barWidth / 2.0f;
 			float x;
+			float batchWidth = 0f;
+
+			mBatchLineCount = 0;
 
-			for (int i = 0, count = Math.min((int) (Math.ceil((float) (dataSet.getEntryCount()) * phaseX)), dataSet.getEntryCount());
-				 i < count;
+			for (int i = buffer.getFrom(), count = Math.min((int) (Math.ceil((float) (dataSet.getEntryCount()) * phaseX)), dataSet.getEntryCount());
+				 i < count && i <= buffer.getTo();
 				 i++) {
 
 				BarEntry e = dataSet.getEntryForIndex(i);
@@ -100,20 +111,17 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
 				mBarShadowRectBuffer.left = mViewPortHandler.contentLeft();
 				mBarShadowRectBuffer.right = mViewPortHandler.contentRight();
 
-				c.drawRect(mBarShadowRectBuffer, mShadowPaint);
+				addBatchLine(mBarShadowRectBuffer.left, mBarShadowRectBuffer.centerY(),
+						mBarShadowRectBuffer.right, mBarShadowRectBuffer.centerY());
+				batchWidth = Math.abs(mBarShadowRectBuffer.height());
 			}
-		}
 
-		// initialize the buffer
-		BarBuffer buffer = mBarBuffers[index];
-		buffer.setPhases(phaseX, phaseY);
-		buffer.setDataSet(index);
-		buffer.setInverted(mChart.isInverted(dataSet.getAxisDependency()));
-		buffer.setBarWidth(mChart.getBarData().getBarWidth());
+			drawBatchLines(c, 0, mBatchLineCount, batchWidth, mShadowPaint);
+		}
 
 		buffer.feed(dataSet);
 
-		trans.pointValuesToPixel(buffer.buffer);
+		trans.pointValuesToPixel(buffer.buffer, buffer.getEnd() / 2);
 
 		final boolean isCustomFill = dataSet.getFills() != null && !dataSet.getFills().isEmpty();
 		final boolean isSingleColor = dataSet.getColors().size() == 1;
@@ -123,7 +131,9 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
 			mRenderPaint.setColor(dataSet.getColor());
 		}
 
-		for (int j = 0, pos = 0; j < buffer.size(); j += 4, pos++) {
+		mBatchBarCount = 0;
+
+		for (int j = 0, pos = buffer.getBarOffset(); j < buffer.getEnd(); j += 4, pos++) {
 
             if (!mViewPortHandler.isInBoundsTop(buffer.buffer[j + 3])) {
                 break;
@@ -133,32 +143,34 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                 continue;
             }
 
+			if (!isCustomFill) {
+				addBatchBar(j);
+				continue;
+			}
+
 			if (!isSingleColor) {
 				// Set the color for the currently drawn value. If the index
 				// is out of bounds, reuse colors.
-				mRenderPaint.setColor(dataSet.getColor(j / 4));
+				mRenderPaint.setColor(dataSet.getColor(pos));
 			}
 
-			if (isCustomFill) {
-				dataSet.getFill(pos)
-						.fillRect(
-								c, mRenderPaint,
-								buffer.buffer[j],
-								buffer.buffer[j + 1],
-								buffer.buffer[j + 2],
-								buffer.buffer[j + 3],
-								isInverted ? Fill.Direction.LEFT : Fill.Direction.RIGHT,
-								0);
-			} else {
-				c.drawRect(buffer.buffer[j], buffer.buffer[j + 1], buffer.buffer[j + 2],
-						buffer.buffer[j + 3], mRenderPaint);
-			}
+			dataSet.getFill(pos)
+					.fillRect(
+							c, mRenderPaint,
+							buffer.buffer[j],
+							buffer.buffer[j + 1],
+							buffer.buffer[j + 2],
+							buffer.buffer[j + 3],
+							isInverted ? Fill.Direction.LEFT : Fill.Direction.RIGHT,
+							0);
 
 			if (drawBorder) {
 				c.drawRect(buffer.buffer[j], buffer.buffer[j + 1], buffer.buffer[j + 2],
 						buffer.buffer[j + 3], mBarBorderPaint);
 			}
 		}
+
+		drawBarBatch(c, dataSet, buffer, true, drawBorder);
 	}
 
 	@Override
@@ -203,7 +215,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
 				// if only single values are drawn (sum)
 				if (!dataSet.isStacked()) {
 
-					for (int j = 0; j < buffer.buffer.length * mAnimator.getPhaseX(); j += 4) {
+					for (int j = 0; j < buffer.getEnd(); j += 4) {
 
 						float y = (buffer.buffer[j + 1] + buffer.buffer[j + 3]) / 2f;
 
@@ -219,9 +231,10 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                             continue;
                         }
 
-						BarEntry entry = dataSet.getEntryForIndex(j / 4);
+						final int entryIndex = buffer.getFrom() + j / 4;
+						BarEntry entry = dataSet.getEntryForIndex(entryIndex);
 						float val = entry.getY();
-						String formattedValue = formatter.getFormattedValue(val, entry, i, mViewPortHandler);
+						String formattedValue = getFormattedValue(formatter, val, entry, i);
 
 						// calculate the correct offset depending on the draw position of the value
 						float valueTextWidth = Utils.calcTextWidth(mValuePaint, formattedValue);
@@ -239,7 +252,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
 									formattedValue,
 									buffer.buffer[j + 2] + (val >= 0 ? posOffset : negOffset),
 									y + halfTextHeight,
-									dataSet.getValueTextColor(j / 2));
+									dataSet.getValueTextColor(entryIndex * 2));
 						}
 
 						if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
@@ -268,9 +281,9 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
 					Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
 
 					int bufferIndex = 0;
-					int index = 0;
+					int index = buffer.getFrom();
 
-					while (index < dataSet.getEntryCount() * mAnimator.getPhaseX()) {
+					while (index < dataSet.getEntryCount() * mAnimator.getPhaseX() && index <= buffer.getTo()) {
 
 						BarEntry entry = dataSet.getEntryForIndex(index);
 
@@ -295,8 +308,8 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                             }
 
 							float val = entry.getY();
-							String formattedValue = formatter.getFormattedValue(val,
-									entry, i, mViewPortHandler);
+							String formattedValue = getFormattedValue(formatter, val,
+									entry, i);
 
 							// calculate the correct offset depending on the draw position of the value
 							float valueTextWidth = Utils.calcTextWidth(mValuePaint, formattedValue);
@@ -366,8 +379,8 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
 							for (int k = 0; k < transformed.length; k += 2) {
 
 								final float val = vals[k / 2];
-								String formattedValue = formatter.getFormattedValue(val,
-										entry, i, mViewPortHandler);
+								String formattedValue = getFormattedValue(formatter, val,
+										entry, i);
 
 								// calculate the correct offset depending on the draw position of the value
 								float valueTextWidth = Utils.calcTextWidth(mValuePaint, formattedValue);
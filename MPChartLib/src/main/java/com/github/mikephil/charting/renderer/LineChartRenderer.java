@@ -3,32 +3,42 @@ package com.github.mikephil.charting.renderer;
 import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
+import android.graphics.Matrix;
 import android.graphics.Paint;
 import android.graphics.Path;
+import android.graphics.PorterDuff;
+import android.graphics.RectF;
 import android.graphics.drawable.Drawable;
 import android.util.Log;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.charts.LineChart;
+import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.LineData;
 import com.github.mikephil.charting.data.LineDataSet;
 import com.github.mikephil.charting.data.MultiFiledData;
+import com.github.mikephil.charting.data.filter.IDecimator;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.LineDataProvider;
+import com.github.mikephil.charting.interfaces.datasets.IColumnarDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
 import com.github.mikephil.charting.utils.ColorTemplate;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.RenderBitmapPool;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.lang.ref.WeakReference;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 public class LineChartRenderer extends LineRadarRenderer {
 
@@ -41,10 +51,22 @@ public class LineChartRenderer extends LineRadarRenderer {
 
     /**
      * Bitmap object used for drawing the paths (otherwise they are too long if
-     * rendered directly on the canvas)
+     * rendered directly on the canvas), see mAcquiredBitmap
      */
     protected WeakReference<Bitmap> mDrawBitmap;
 
+    /**
+     * the bitmap acquired from the RenderBitmapPool, kept until the next frame because hardware
+     * accelerated canvases only record the bitmap and draw it later
+     */
+    protected Bitmap mAcquiredBitmap;
+
+    /**
+     * true as long as mAcquiredBitmap was only drawn onto software canvases, which copy it right
+     * away, so that it can be shared with other charts through the pool
+     */
+    protected boolean mAcquiredBitmapShareable;
+
     /**
      * on this canvas, the paths are rendered, it is initialized with the
      * pathBitmap
@@ -56,6 +78,11 @@ public class LineChartRenderer extends LineRadarRenderer {
      */
     protected Bitmap.Config mBitmapConfig = Bitmap.Config.ARGB_8888;
 
+    /**
+     * if true, the paths are drawn straight onto hardware accelerated canvases without the bitmap
+     */
+    protected boolean mDirectDrawEnabled = false;
+
     protected Path cubicPath = new Path();
     protected Path cubicFillPath = new Path();
 
@@ -63,6 +90,148 @@ public class LineChartRenderer extends LineRadarRenderer {
 
     protected float[] mGetPositionBuffer = new float[2];
 
+    /**
+     * the number of tiles kept by the tile cache, two of them are visible at a time
+     */
+    protected static final int MAX_TILES = 3;
+
+    /**
+     * if true, the data is rendered into tiles of the content width that are reused while panning
+     */
+    protected boolean mTileCacheEnabled = false;
+
+    protected Tile[] mTiles;
+
+    /**
+     * everything the tiles depend on except for the horizontal translation, of this and the
+     * previous frame
+     */
+    protected float[] mTileKey = new float[0];
+    protected float[] mPrevTileKey = new float[0];
+
+    protected Matrix mTileTouchBuffer = new Matrix();
+
+    protected float[] mMatrixValuesBuffer = new float[9];
+
+    protected static final class Tile {
+
+        int index;
+        boolean valid;
+        Bitmap bitmap;
+        Canvas canvas;
+    }
+
+    /**
+     * pixels the incremental bitmap extends beyond the content rect on both sides
+     */
+    protected static final int INCREMENTAL_MARGIN = 2;
+
+    /**
+     * if true, appended data is drawn incrementally into a bitmap that is scrolled along
+     */
+    protected boolean mIncrementalDrawEnabled = false;
+
+    protected boolean mIncrementalValid = false;
+
+    protected Bitmap mIncrementalBitmap;
+    protected Bitmap mIncrementalSpareBitmap;
+    protected Canvas mIncrementalCanvas = new Canvas();
+
+    /**
+     * horizontal translation of the value-to-pixel matrix the incremental bitmap is drawn with
+     */
+    protected float mIncrementalTransX;
+
+    protected float[] mIncrementalKey = new float[0];
+    protected float[] mPrevIncrementalKey = new float[0];
+
+    /**
+     * x, y of the last entry and the x-min of each DataSet when last drawn
+     */
+    protected float[] mIncrementalLast = new float[0];
+
+    /**
+     * entry index drawLinear(...) starts at, if greater than the visible minimum
+     */
+    protected int mIncrementalFrom = -1;
+
+    protected MPPointD mIncrementalPoint = MPPointD.getInstance(0, 0);
+
+    /**
+     * Spline of a DataSet in value space. Each entry takes 6 values: the two control points of
+     * the curve from the previous entry, followed by the entry itself. The spline only depends on
+     * the data, so it is reused across pan and zoom frames.
+     */
+    protected static final class Spline {
+
+        float[] points = new float[0];
+
+        int entryCount = -1;
+        float xMin, xMax, yMin, yMax;
+        float intensity;
+        LineDataSet.Mode mode;
+
+        /**
+         * true if the DataSet was changed since the spline was computed, see markSplinesStale()
+         */
+        boolean stale;
+
+        void set(ILineDataSet dataSet) {
+            entryCount = dataSet.getEntryCount();
+            xMin = dataSet.getXMin();
+            xMax = dataSet.getXMax();
+            yMin = dataSet.getYMin();
+            yMax = dataSet.getYMax();
+            intensity = dataSet.getCubicIntensity();
+            mode = dataSet.getMode();
+            stale = false;
+        }
+
+        boolean isValid(ILineDataSet dataSet) {
+            return !stale && entryCount == dataSet.getEntryCount()
+                    && xMin == dataSet.getXMin() && xMax == dataSet.getXMax()
+                    && yMin == dataSet.getYMin() && yMax == dataSet.getYMax()
+                    && intensity == dataSet.getCubicIntensity()
+                    && mode == dataSet.getMode();
+        }
+
+        /**
+         * Returns the index of the first entry whose curve has to be recomputed if entries were
+         * only appended to the DataSet since the spline was computed, 0 otherwise. The curve to
+         * the former last entry is included, its control points depend on the entry after it.
+         *
+         * @param dataSet
+         * @return
+         */
+        int getAppendStart(ILineDataSet dataSet) {
+
+            final int count = dataSet.getEntryCount();
+
+            if (entryCount < 2 || count <= entryCount || xMin != dataSet.getXMin()
+                    || intensity != dataSet.getCubicIntensity() || mode != dataSet.getMode())
+                return 0;
+
+            // an entry inserted before the former last one moves it to another index
+            final Entry last = dataSet.getEntryForIndex(entryCount - 1);
+
+            if (last == null || last.getX() != points[entryCount * 6 - 2]
+                    || last.getY() != points[entryCount * 6 - 1])
+                return 0;
+
+            return entryCount - 1;
+        }
+    }
+
+    /**
+     * cached splines of the cubic and horizontal bezier DataSets
+     */
+    private final HashMap<ILineDataSet, Spline> mSplines = new HashMap<>();
+
+    /**
+     * visible part of a spline, in values and then pixels
+     */
+    private float[] mSplineBuffer = new float[0];
+
     public LineChartRenderer(LineDataProvider chart, ChartAnimator animator,
                              ViewPortHandler viewPortHandler) {
         super(animator, viewPortHandler);
@@ -75,31 +244,46 @@ public class LineChartRenderer extends LineRadarRenderer {
 
     @Override
     public void initBuffers() {
+        invalidateTiles();
+        markSplinesStale();
     }
 
     @Override
     public void drawData(Canvas c) {
 
-        int width = (int) mViewPortHandler.getChartWidth();
-        int height = (int) mViewPortHandler.getChartHeight();
+        if (mIncrementalDrawEnabled && drawDataIncremental(c))
+            return;
+
+        if (mTileCacheEnabled && drawDataTiled(c))
+            return;
+
+        LineData lineData = mChart.getLineData();
 
-        Bitmap drawBitmap = mDrawBitmap == null ? null : mDrawBitmap.get();
+        if (mDirectDrawEnabled && c.isHardwareAccelerated()) {
 
-        if (drawBitmap == null
-                || (drawBitmap.getWidth() != width)
-                || (drawBitmap.getHeight() != height)) {
+            final Canvas bitmapCanvas = mBitmapCanvas;
+            mBitmapCanvas = c;
 
-            if (width > 0 && height > 0) {
-                drawBitmap = Bitmap.createBitmap(width, height, mBitmapConfig);
-                mDrawBitmap = new WeakReference<>(drawBitmap);
-                mBitmapCanvas = new Canvas(drawBitmap);
-            } else
-                return;
+            try {
+                for (ILineDataSet set : lineData.getDataSets()) {
+
+                    if (set.isVisible())
+                        drawDataSet(c, set);
+                }
+            } finally {
+                mBitmapCanvas = bitmapCanvas;
+            }
+
+            return;
         }
 
-        drawBitmap.eraseColor(Color.TRANSPARENT);
+        int width = (int) mViewPortHandler.getChartWidth();
+        int height = (int) mViewPortHandler.getChartHeight();
 
-        LineData lineData = mChart.getLineData();
+        if (width <= 0 || height <= 0)
+            return;
+
+        acquireDrawBitmap(width, height);
 
         for (ILineDataSet set : lineData.getDataSets()) {
 
@@ -107,7 +291,595 @@ public class LineChartRenderer extends LineRadarRenderer {
                 drawDataSet(c, set);
         }
 
-        c.drawBitmap(drawBitmap, 0, 0, mRenderPaint);
+        drawDrawBitmap(c, mRenderPaint);
+    }
+
+    /**
+     * Returns the erased bitmap for drawing the paths and points mBitmapCanvas to it. The bitmap
+     * of the previous frame is reused if it is still held, otherwise one is acquired from the
+     * shared RenderBitmapPool.
+     *
+     * @param width
+     * @param height
+     * @return
+     */
+    protected Bitmap acquireDrawBitmap(int width, int height) {
+
+        Bitmap drawBitmap = mAcquiredBitmap;
+
+        if (drawBitmap == null || drawBitmap.isRecycled()
+                || drawBitmap.getWidth() != width || drawBitmap.getHeight() != height
+                || drawBitmap.getConfig() != mBitmapConfig) {
+
+            releaseDrawBitmap();
+
+            drawBitmap = RenderBitmapPool.acquire(width, height, mBitmapConfig);
+            mAcquiredBitmap = drawBitmap;
+            mAcquiredBitmapShareable = true;
+            mDrawBitmap = new WeakReference<>(drawBitmap);
+        }
+
+        if (mBitmapCanvas == null)
+            mBitmapCanvas = new Canvas();
+
+        mBitmapCanvas.setBitmap(drawBitmap);
+        drawBitmap.eraseColor(Color.TRANSPARENT);
+
+        return drawBitmap;
+    }
+
+    /**
+     * Draws the bitmap returned by acquireDrawBitmap(...) onto the canvas of the view. Software
+     * canvases copy the bitmap right away, so it is returned to the pool for other charts of the
+     * same size. Hardware accelerated canvases draw it later, so it is kept by this renderer.
+     *
+     * @param c
+     * @param paint
+     */
+    protected void drawDrawBitmap(Canvas c, Paint paint) {
+
+        c.drawBitmap(mAcquiredBitmap, 0, 0, paint);
+
+        if (c.isHardwareAccelerated())
+            mAcquiredBitmapShareable = false;
+        else
+            releaseDrawBitmap();
+    }
+
+    /**
+     * Gives up the bitmap returned by acquireDrawBitmap(...). It is returned to the pool only if
+     * it was never drawn onto a hardware accelerated canvas, whose recorded drawing may still
+     * reference it, otherwise it is left to the garbage collector.
+     */
+    protected void releaseDrawBitmap() {
+
+        if (mAcquiredBitmap == null)
+            return;
+
+        if (mBitmapCanvas != null)
+            mBitmapCanvas.setBitmap(null);
+
+        if (mAcquiredBitmapShareable)
+            RenderBitmapPool.release(mAcquiredBitmap);
+
+        mAcquiredBitmap = null;
+    }
+
+    /**
+     * If enabled, the data is drawn straight onto the canvas of the view when it is hardware
+     * accelerated, without the intermediate bitmap. Hardware accelerated canvases draw long
+     * paths without the bitmap, software canvases keep using it.
+     * Default: false
+     *
+     * @param enabled
+     */
+    public void setDirectDrawEnabled(boolean enabled) {
+        mDirectDrawEnabled = enabled;
+    }
+
+    public boolean isDirectDrawEnabled() {
+        return mDirectDrawEnabled;
+    }
+
+    /**
+     * Draws the data from a bitmap that is scrolled along with the chart, only drawing what was
+     * exposed or appended since the last frame. Falls back to repainting the bitmap if anything
+     * but the horizontal translation or appended entries changed, and returns false if a DataSet
+     * can't be drawn incrementally.
+     *
+     * @param c
+     * @return
+     */
+    protected boolean drawDataIncremental(Canvas c) {
+
+        final List<ILineDataSet> dataSets = mChart.getLineData().getDataSets();
+
+        for (ILineDataSet set : dataSets) {
+            if (set.isVisible() && !isIncrementalDrawable(set)) {
+                mIncrementalValid = false;
+                return false;
+            }
+        }
+
+        final RectF content = mViewPortHandler.getContentRect();
+        final int width = (int) Math.ceil(content.width()) + 2 * INCREMENTAL_MARGIN;
+        final int height = (int) Math.ceil(content.height());
+
+        if (content.width() <= 0f || height <= 0)
+            return false;
+
+        final float transX = getValueToPixelTransX(YAxis.AxisDependency.LEFT);
+
+        boolean full = !updateIncrementalKey(transX) || !mIncrementalValid
+                || mIncrementalLast.length != dataSets.size() * 3;
+
+        if (mIncrementalBitmap == null
+                || mIncrementalBitmap.getWidth() != width || mIncrementalBitmap.getHeight() != height) {
+
+            releaseIncrementalBitmaps();
+
+            mIncrementalBitmap = Bitmap.createBitmap(width, height, mBitmapConfig);
+            mIncrementalSpareBitmap = Bitmap.createBitmap(width, height, mBitmapConfig);
+            full = true;
+        }
+
+        // whole pixels to scroll the bitmap by, moving along with appended data scrolls left
+        final int shift = Math.round(transX - mIncrementalTransX);
+
+        if (!full && (shift > 0 || -shift >= width || !isAppendOnly(dataSets)))
+            full = true;
+
+        float redrawStart = 0f;
+
+        if (full) {
+            mIncrementalTransX = transX;
+        } else {
+
+            if (shift != 0) {
+                Bitmap scrolled = mIncrementalSpareBitmap;
+                scrolled.eraseColor(Color.TRANSPARENT);
+
+                mIncrementalCanvas.setBitmap(scrolled);
+                mIncrementalCanvas.drawBitmap(mIncrementalBitmap, shift, 0, null);
+
+                mIncrementalSpareBitmap = mIncrementalBitmap;
+                mIncrementalBitmap = scrolled;
+                mIncrementalTransX += shift;
+            }
+
+            // the newly exposed strip and everything right of the previous last entries
+            final float left = content.left - INCREMENTAL_MARGIN;
+            redrawStart = width - INCREMENTAL_MARGIN + shift;
+
+            for (int i = 0; i < dataSets.size(); i++) {
+
+                ILineDataSet set = dataSets.get(i);
+
+                if (!set.isVisible())
+                    continue;
+
+                MPPointD pix = mChart.getTransformer(set.getAxisDependency())
+                        .getPixelForValues(mIncrementalLast[i * 3], mIncrementalLast[i * 3 + 1]);
+
+                redrawStart = Math.min(redrawStart, (float) pix.x + mIncrementalTransX - transX - left);
+                MPPointD.recycleInstance(pix);
+            }
+
+            redrawStart = Math.max(0f, (float) Math.floor(redrawStart) - 1f);
+        }
+
+        renderIncremental(dataSets, redrawStart, transX, width, height);
+
+        for (int i = 0; i < dataSets.size(); i++) {
+
+            ILineDataSet set = dataSets.get(i);
+            Entry last = set.getEntryCount() > 0 ? set.getEntryForIndex(set.getEntryCount() - 1) : null;
+
+            mIncrementalLast[i * 3] = last == null ? Float.NaN : last.getX();
+            mIncrementalLast[i * 3 + 1] = last == null ? Float.NaN : last.getY();
+            mIncrementalLast[i * 3 + 2] = set.getXMin();
+        }
+
+        mIncrementalValid = true;
+
+        c.drawBitmap(mIncrementalBitmap,
+                content.left - INCREMENTAL_MARGIN + transX - mIncrementalTransX, content.top, null);
+
+        return true;
+    }
+
+    /**
+     * Clears the incremental bitmap right of redrawStart and draws the data there again.
+     */
+    private void renderIncremental(List<ILineDataSet> dataSets, float redrawStart, float transX,
+                                   int width, int height) {
+
+        final RectF content = mViewPortHandler.getContentRect();
+        final float left = content.left - INCREMENTAL_MARGIN;
+        final Matrix touch = mViewPortHandler.getMatrixTouch();
+        final Canvas canvas = mIncrementalCanvas;
+        final Canvas bitmapCanvas = mBitmapCanvas;
+
+        if (mIncrementalLast.length != dataSets.size() * 3)
+            mIncrementalLast = new float[dataSets.size() * 3];
+
+        canvas.setBitmap(mIncrementalBitmap);
+
+        final int save = canvas.save();
+
+        canvas.clipRect(redrawStart, 0f, width, height);
+        canvas.drawColor(Color.TRANSPARENT, PorterDuff.Mode.CLEAR);
+        canvas.translate(-left, -content.top);
+
+        // draw as if the chart was at the translation of the bitmap
+        mTileTouchBuffer.set(touch);
+        touch.postTranslate(mIncrementalTransX - transX, 0f);
+        mBitmapCanvas = canvas;
+
+        try {
+            for (ILineDataSet set : dataSets) {
+
+                if (!set.isVisible())
+                    continue;
+
+                if (redrawStart > 0f) {
+
+                    // include the segments whose stroke reaches into the cleared area
+                    mChart.getTransformer(set.getAxisDependency()).getValuesByTouchPoint(
+                            left + redrawStart - set.getLineWidth() - 1f, content.top, mIncrementalPoint);
+
+                    mIncrementalFrom = set.getEntryIndex((float) mIncrementalPoint.x, Float.NaN,
+                            DataSet.Rounding.DOWN);
+                }
+
+                drawDataSet(canvas, set);
+            }
+        } finally {
+            mIncrementalFrom = -1;
+            touch.set(mTileTouchBuffer);
+            canvas.restoreToCount(save);
+            canvas.setBitmap(null);
+            mBitmapCanvas = bitmapCanvas;
+        }
+    }
+
+    /**
+     * Returns true if the given DataSet can be drawn incrementally, which needs appended
+     * entries to leave the already drawn part unchanged.
+     */
+    protected boolean isIncrementalDrawable(ILineDataSet set) {
+
+        final LineDataSet.Mode mode = set.getMode();
+
+        return (mode == LineDataSet.Mode.LINEAR || mode == LineDataSet.Mode.STEPPED)
+                && !set.isDashedLineEnabled()
+                && set.getDecimator() == null
+                && !set.isDrawLodEnabled()
+                && !set.isDrawMultiFilledEnable();
+    }
+
+    /**
+     * Returns true if the entries of all DataSets were only appended since the last frame. Entries
+     * removed from the front are fine as long as they are out of view.
+     */
+    private boolean isAppendOnly(List<ILineDataSet> dataSets) {
+
+        final float lowestVisibleX = mChart.getLowestVisibleX();
+
+        for (int i = 0; i < dataSets.size(); i++) {
+
+            ILineDataSet set = dataSets.get(i);
+
+            final float lastX = mIncrementalLast[i * 3];
+            final float lastY = mIncrementalLast[i * 3 + 1];
+            final float lastXMin = mIncrementalLast[i * 3 + 2];
+
+            if (set.getEntryCount() == 0 || Float.isNaN(lastX))
+                return false;
+
+            Entry e = set.getEntryForIndex(set.getEntryIndex(lastX, Float.NaN, DataSet.Rounding.CLOSEST));
+
+            if (e == null || e.getX() != lastX || e.getY() != lastY)
+                return false;
+
+            if (set.getXMin() != lastXMin && set.getXMin() > lowestVisibleX)
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Collects everything the incremental bitmap depends on except for the horizontal
+     * translation and the entries. Returns true if it is unchanged since the last call.
+     */
+    private boolean updateIncrementalKey(float transX) {
+
+        final List<ILineDataSet> dataSets = mChart.getLineData().getDataSets();
+        final int size = 2 * 9 + 1 + 4 + 2 + dataSets.size();
+
+        float[] key = mPrevIncrementalKey.length == size ? mPrevIncrementalKey : new float[size];
+
+        int i = 0;
+
+        i = putMatrix(mChart.getTransformer(YAxis.AxisDependency.LEFT).getValueToPixelMatrix(), key, i);
+        key[i - 9 + Matrix.MTRANS_X] = 0f;
+        i = putMatrix(mChart.getTransformer(YAxis.AxisDependency.RIGHT).getValueToPixelMatrix(), key, i);
+        key[i - 9 + Matrix.MTRANS_X] = 0f;
+        key[i++] = getValueToPixelTransX(YAxis.AxisDependency.RIGHT) - transX;
+
+        final RectF content = mViewPortHandler.getContentRect();
+        key[i++] = content.left;
+        key[i++] = content.top;
+        key[i++] = content.right;
+        key[i++] = content.bottom;
+        key[i++] = mAnimator.getPhaseX();
+        key[i++] = mAnimator.getPhaseY();
+
+        for (ILineDataSet set : dataSets)
+            key[i++] = set.isVisible() ? 1f : 0f;
+
+        // the x-scale is recalculated when the visible range is reapplied to growing data
+        boolean unchanged = key.length == mIncrementalKey.length;
+
+        for (int j = 0; unchanged && j < key.length; j++) {
+            final float a = key[j];
+            final float b = mIncrementalKey[j];
+            unchanged = Math.abs(a - b) <= 1e-5f * Math.max(1f, Math.max(Math.abs(a), Math.abs(b)));
+        }
+
+        mPrevIncrementalKey = mIncrementalKey;
+        mIncrementalKey = key;
+
+        return unchanged;
+    }
+
+    private float getValueToPixelTransX(YAxis.AxisDependency axis) {
+        mChart.getTransformer(axis).getValueToPixelMatrix().getValues(mMatrixValuesBuffer);
+        return mMatrixValuesBuffer[Matrix.MTRANS_X];
+    }
+
+    /**
+     * Enables incremental drawing for realtime charts. The data is drawn into a bitmap that is
+     * scrolled by whole pixels along with the chart, and only the newly exposed area and the
+     * appended entries are drawn each frame, e.g. after adding entries and moveViewToX(...).
+     * Zooming, vertical scrolling, animations and changes other than appending entries or
+     * removing them out of view repaint the whole bitmap. Changes to existing entries other than
+     * the last one and styling changes are not detected, call invalidateIncrementalDraw() after
+     * those. Only linear and stepped DataSets without dashes, decimation, LOD or multi-fill are
+     * drawn incrementally, for others the chart is drawn as usual.
+     * Default: false
+     *
+     * @param enabled
+     */
+    public void setIncrementalDrawEnabled(boolean enabled) {
+        mIncrementalDrawEnabled = enabled;
+        mIncrementalValid = false;
+
+        if (!enabled)
+            releaseIncrementalBitmaps();
+    }
+
+    public boolean isIncrementalDrawEnabled() {
+        return mIncrementalDrawEnabled;
+    }
+
+    /**
+     * Makes the next frame repaint the whole incremental bitmap.
+     */
+    public void invalidateIncrementalDraw() {
+        mIncrementalValid = false;
+    }
+
+    private void releaseIncrementalBitmaps() {
+        // not recycled, the bitmaps may still be referenced by a display list
+        mIncrementalCanvas.setBitmap(null);
+        mIncrementalBitmap = null;
+        mIncrementalSpareBitmap = null;
+        mIncrementalValid = false;
+    }
+
+    /**
+     * Draws the data from cached tiles, rendering the tiles that are missing. Returns false if
+     * the tiles can't be used in this frame because anything but the horizontal translation
+     * changed since the last frame, e.g. while zooming or animating.
+     *
+     * @param c
+     * @return
+     */
+    protected boolean drawDataTiled(Canvas c) {
+
+        final RectF content = mViewPortHandler.getContentRect();
+        final int width = (int) Math.ceil(content.width());
+        final int height = (int) Math.ceil(content.height());
+
+        if (width <= 0 || height <= 0)
+            return false;
+
+        if (!updateTileKey()) {
+            invalidateTiles();
+            return false;
+        }
+
+        final Matrix touch = mViewPortHandler.getMatrixTouch();
+        touch.getValues(mMatrixValuesBuffer);
+        final float transX = mMatrixValuesBuffer[Matrix.MTRANS_X];
+
+        // tile k holds the content the viewport shows at a translation of -k * width
+        final int first = (int) Math.floor(-transX / width);
+        final int last = (int) Math.floor((-transX + width - 1f) / width);
+
+        for (int k = first; k <= last; k++) {
+
+            Tile tile = getTile(k, width, height, transX);
+
+            c.drawBitmap(tile.bitmap, content.left + k * width + transX, content.top, null);
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the tile with the given index, rendering it into the least useful tile if it isn't cached.
+     */
+    private Tile getTile(int index, int width, int height, float transX) {
+
+        if (mTiles == null)
+            mTiles = new Tile[MAX_TILES];
+
+        Tile tile = null;
+
+        for (int i = 0; i < mTiles.length; i++) {
+
+            if (mTiles[i] == null)
+                mTiles[i] = new Tile();
+
+            Tile t = mTiles[i];
+
+            if (t.valid && t.index == index)
+                return t;
+
+            // prefer invalid tiles, then the one farthest away
+            if (tile == null
+                    || (tile.valid && (!t.valid || Math.abs(t.index - index) > Math.abs(tile.index - index))))
+                tile = t;
+        }
+
+        if (tile.bitmap == null || tile.bitmap.getWidth() != width || tile.bitmap.getHeight() != height) {
+
+            // the previous bitmap is not recycled, it may still be referenced by a display list
+            if (tile.canvas != null)
+                tile.canvas.setBitmap(null);
+
+            tile.bitmap = Bitmap.createBitmap(width, height, mBitmapConfig);
+            tile.canvas = new Canvas(tile.bitmap);
+        } else {
+            tile.bitmap.eraseColor(Color.TRANSPARENT);
+        }
+
+        final RectF content = mViewPortHandler.getContentRect();
+        final Matrix touch = mViewPortHandler.getMatrixTouch();
+        final Canvas bitmapCanvas = mBitmapCanvas;
+        final int save = tile.canvas.save();
+
+        // render as if the viewport was panned to the tile, so culling covers the whole tile
+        mTileTouchBuffer.set(touch);
+        touch.postTranslate(-index * width - transX, 0f);
+        tile.canvas.translate(-content.left, -content.top);
+        mBitmapCanvas = tile.canvas;
+
+        try {
+            for (ILineDataSet set : mChart.getLineData().getDataSets()) {
+
+                if (set.isVisible())
+                    drawDataSet(tile.canvas, set);
+            }
+        } finally {
+            touch.set(mTileTouchBuffer);
+            tile.canvas.restoreToCount(save);
+            mBitmapCanvas = bitmapCanvas;
+        }
+
+        tile.index = index;
+        tile.valid = true;
+
+        return tile;
+    }
+
+    /**
+     * Collects everything the tiles depend on except for the horizontal translation. Returns
+     * true if it is unchanged since the last call.
+     */
+    private boolean updateTileKey() {
+
+        final List<ILineDataSet> dataSets = mChart.getLineData().getDataSets();
+        final int size = 4 * 9 + 9 + 4 + 2 + dataSets.size() * 4;
+
+        float[] key = mPrevTileKey.length == size ? mPrevTileKey : new float[size];
+
+        int i = 0;
+
+        i = putMatrix(mChart.getTransformer(YAxis.AxisDependency.LEFT).getValueMatrix(), key, i);
+        i = putMatrix(mChart.getTransformer(YAxis.AxisDependency.LEFT).getOffsetMatrix(), key, i);
+        i = putMatrix(mChart.getTransformer(YAxis.AxisDependency.RIGHT).getValueMatrix(), key, i);
+        i = putMatrix(mChart.getTransformer(YAxis.AxisDependency.RIGHT).getOffsetMatrix(), key, i);
+        i = putMatrix(mViewPortHandler.getMatrixTouch(), key, i);
+        key[i - 9 + Matrix.MTRANS_X] = 0f;
+
+        final RectF content = mViewPortHandler.getContentRect();
+        key[i++] = content.left;
+        key[i++] = content.top;
+        key[i++] = content.right;
+        key[i++] = content.bottom;
+        key[i++] = mAnimator.getPhaseX();
+        key[i++] = mAnimator.getPhaseY();
+
+        for (ILineDataSet set : dataSets) {
+            key[i++] = set.getEntryCount();
+            key[i++] = set.isVisible() ? 1f : 0f;
+            key[i++] = set.getXMin();
+            key[i++] = set.getXMax();
+        }
+
+        final boolean unchanged = Arrays.equals(key, mTileKey);
+
+        mPrevTileKey = mTileKey;
+        mTileKey = key;
+
+        return unchanged;
+    }
+
+    private int putMatrix(Matrix matrix, float[] key, int offset) {
+        matrix.getValues(mMatrixValuesBuffer);
+        System.arraycopy(mMatrixValuesBuffer, 0, key, offset, 9);
+        return offset + 9;
+    }
+
+    /**
+     * Enables the tile cache. The data is rendered into bitmap tiles of the content width, which
+     * are reused while the chart is only panned horizontally, so a pan frame only renders newly
+     * exposed tiles. Frames that zoom, scroll vertically or animate are drawn directly. Only the
+     * content rect is cached, so data drawn outside of it is cut off. Tiles are invalidated by
+     * notifyDataSetChanged(), call invalidateTiles() after changing the styling of a DataSet.
+     * Default: false
+     *
+     * @param enabled
+     */
+    public void setTileCacheEnabled(boolean enabled) {
+        mTileCacheEnabled = enabled;
+
+        if (!enabled)
+            releaseTiles();
+    }
+
+    public boolean isTileCacheEnabled() {
+        return mTileCacheEnabled;
+    }
+
+    /**
+     * Discards the content of all cached tiles, they are rendered again when needed.
+     */
+    public void invalidateTiles() {
+        if (mTiles == null)
+            return;
+
+        for (Tile tile : mTiles) {
+            if (tile != null)
+                tile.valid = false;
+        }
+    }
+
+    private void releaseTiles() {
+        if (mTiles == null)
+            return;
+
+        // not recycled, the bitmaps may still be referenced by a display list
+        for (Tile tile : mTiles) {
+            if (tile != null && tile.canvas != null)
+                tile.canvas.setBitmap(null);
+        }
+
+        mTiles = null;
     }
 
     protected void drawDataSet(Canvas c, ILineDataSet dataSet) {
@@ -145,30 +917,9 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         mXBounds.set(mChart, dataSet);
 
-        cubicPath.reset();
-
-        if (mXBounds.range >= 1) {
-
-            Entry prev = dataSet.getEntryForIndex(mXBounds.min);
-            Entry cur = prev;
-
-            // let the spline start
-            cubicPath.moveTo(cur.getX(), cur.getY() * phaseY);
+        final int splineSize = fillSplineBuffer(dataSet, phaseY);
 
-            for (int j = mXBounds.min + 1; j <= mXBounds.range + mXBounds.min; j++) {
-
-                prev = cur;
-                cur = dataSet.getEntryForIndex(j);
-
-                final float cpx = (prev.getX())
-                        + (cur.getX() - prev.getX()) / 2.0f;
-
-                cubicPath.cubicTo(
-                        cpx, prev.getY() * phaseY,
-                        cpx, cur.getY() * phaseY,
-                        cur.getX(), cur.getY() * phaseY);
-            }
-        }
+        if (splineSize < 0) return;
 
         List<MultiFiledData> multiFiledDataList = dataSet.getMultiFiledDataList();
         if (dataSet.isDrawMultiFilledEnable() && multiFiledDataList != null) {
@@ -228,20 +979,11 @@ public class LineChartRenderer extends LineRadarRenderer {
             }
         } else if (dataSet.isDrawFilledEnabled()) {
             cubicFillPath.reset();
-            cubicFillPath.addPath(cubicPath);
-            // create a new path, this is bad for performance
+            addSpline(cubicFillPath, splineSize);
             drawCubicFill(mBitmapCanvas, dataSet, cubicFillPath, trans, mXBounds);
         }
 
-        mRenderPaint.setColor(dataSet.getColor());
-
-        mRenderPaint.setStyle(Paint.Style.STROKE);
-
-        trans.pathValueToPixel(cubicPath);
-
-        mBitmapCanvas.drawPath(cubicPath, mRenderPaint);
-
-        mRenderPaint.setPathEffect(null);
+        drawSpline(dataSet, trans, splineSize);
     }
 
     protected void drawCubicBezier(ILineDataSet dataSet) {
@@ -254,56 +996,14 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         float intensity = dataSet.getCubicIntensity();
 
-        cubicPath.reset();
         float prevDx;
         Entry firstPoint;
         Entry endPoint;
         Entry textPoint;
-        if (mXBounds.range >= 1) {
 
-            prevDx = 0f;
-            float prevDy = 0f;
-            float curDx = 0f;
-            float curDy = 0f;
+        final int splineSize = fillSplineBuffer(dataSet, phaseY);
 
-            // Take an extra point from the left, and an extra from the right.
-            // That's because we need 4 points for a cubic bezier (cubic=4), otherwise we get lines moving and doing weird stuff on the edges of the chart.
-            // So in the starting `prev` and `cur`, go -2, -1
-            // And in the `lastIndex`, add +1
-
-            final int firstIndex = mXBounds.min + 1;
-            final int lastIndex = mXBounds.min + mXBounds.range;
-
-            Entry prevPrev;
-            Entry prev = dataSet.getEntryForIndex(Math.max(firstIndex - 2, 0));
-            Entry cur = dataSet.getEntryForIndex(Math.max(firstIndex - 1, 0));
-            Entry next = cur;
-            int nextIndex = -1;
-
-            if (cur == null) return;
-
-            // let the spline start
-            cubicPath.moveTo(cur.getX(), cur.getY() * phaseY);
-
-            for (int j = mXBounds.min + 1; j <= mXBounds.range + mXBounds.min; j++) {
-
-                prevPrev = prev;
-                prev = cur;
-                cur = nextIndex == j ? next : dataSet.getEntryForIndex(j);
-
-                nextIndex = j + 1 < dataSet.getEntryCount() ? j + 1 : j;
-                next = dataSet.getEntryForIndex(nextIndex);
-
-                prevDx = (cur.getX() - prevPrev.getX()) * intensity;
-                prevDy = (cur.getY() - prevPrev.getY()) * intensity;
-                curDx = (next.getX() - prev.getX()) * intensity;
-                curDy = (next.getY() - prev.getY()) * intensity;
-
-                cubicPath.cubicTo(prev.getX() + prevDx, (prev.getY() + prevDy) * phaseY,
-                        cur.getX() - curDx,
-                        (cur.getY() - curDy) * phaseY, cur.getX(), cur.getY() * phaseY);
-            }
-        }
+        if (splineSize < 0) return;
 
         List<MultiFiledData> multiFiledDataList = dataSet.getMultiFiledDataList();
         if (dataSet.isDrawMultiFilledEnable() && multiFiledDataList != null) {
@@ -325,78 +1025,295 @@ public class LineChartRenderer extends LineRadarRenderer {
                     } while(data.endIndex <= this.mXBounds.min);
                 } while(data.startIndex >= this.mXBounds.max);
 
-                this.cubicMultiFillPath.reset();
-                prevDx = 0.0F;
-                float prevDy = 0.0F;
-                float curDx = 0.0F;
-                float curDy = 0.0F;
-                firstPoint = dataSet.getEntryForIndex(data.startIndex);
-                textPoint = firstPoint;
-                endPoint = dataSet.getEntryForIndex(data.endIndex);
-                float k = (endPoint.getY() - firstPoint.getY()) / (endPoint.getX() - firstPoint.getX());
-                float b = firstPoint.getY() - firstPoint.getX() * k;
-//                Log.i("multiFill", String.format("first: %s, second: %s, k: %f, b: %f", firstPoint.toString(), endPoint.toString(), k, b));
-                int minIndex = Math.max(this.mXBounds.min, data.startIndex);
-                int maxIndex = Math.min(this.mXBounds.max, data.endIndex);
-                Entry prev = dataSet.getEntryForIndex(Math.max(minIndex - 1, 0));
-                Entry cur = dataSet.getEntryForIndex(Math.max(minIndex, 0));
-                Entry next = cur;
-                int nextIndex = -1;
-                if (cur == null) {
-                    return;
-                }
+                this.cubicMultiFillPath.reset();
+                prevDx = 0.0F;
+                float prevDy = 0.0F;
+                float curDx = 0.0F;
+                float curDy = 0.0F;
+                firstPoint = dataSet.getEntryForIndex(data.startIndex);
+                textPoint = firstPoint;
+                endPoint = dataSet.getEntryForIndex(data.endIndex);
+                float k = (endPoint.getY() - firstPoint.getY()) / (endPoint.getX() - firstPoint.getX());
+                float b = firstPoint.getY() - firstPoint.getX() * k;
+//                Log.i("multiFill", String.format("first: %s, second: %s, k: %f, b: %f", firstPoint.toString(), endPoint.toString(), k, b));
+                int minIndex = Math.max(this.mXBounds.min, data.startIndex);
+                int maxIndex = Math.min(this.mXBounds.max, data.endIndex);
+                Entry prev = dataSet.getEntryForIndex(Math.max(minIndex - 1, 0));
+                Entry cur = dataSet.getEntryForIndex(Math.max(minIndex, 0));
+                Entry next = cur;
+                int nextIndex = -1;
+                if (cur == null) {
+                    return;
+                }
+
+                this.cubicMultiFillPath.moveTo(cur.getX(), cur.getY() * phaseY);
+
+                for(int j = minIndex + 1; j <= maxIndex; ++j) {
+                    Entry prevPrev = prev;
+                    prev = cur;
+                    cur = nextIndex == j ? next : dataSet.getEntryForIndex(j);
+                    if (cur.getY() > textPoint.getY()){
+                        textPoint = cur;
+                    }
+                    nextIndex = j + 1 < dataSet.getEntryCount() ? j + 1 : j;
+                    next = dataSet.getEntryForIndex(nextIndex);
+                    prevDx = (cur.getX() - prevPrev.getX()) * intensity;
+                    prevDy = (cur.getY() - prevPrev.getY()) * intensity;
+                    curDx = (next.getX() - prev.getX()) * intensity;
+                    curDy = (next.getY() - prev.getY()) * intensity;
+                    this.cubicMultiFillPath.cubicTo(prev.getX() + prevDx, (prev.getY() + prevDy) * phaseY, cur.getX() - curDx, (cur.getY() - curDy) * phaseY, cur.getX(), cur.getY() * phaseY);
+                }
+
+                float x;
+                if (this.mXBounds.max < data.endIndex) {
+                    x = endPoint.getX();
+                    this.cubicMultiFillPath.lineTo(x, (x * k + b) * phaseY);
+                }
+
+                if (this.mXBounds.min > data.startIndex) {
+                    cur = dataSet.getEntryForIndex(this.mXBounds.min - 1);
+                    x = cur.getX();
+//                    Log.i("multiFill", String.format("min: %d, startIndex: %d, x: %f,getY :%f, y: %f, phaseY: %f", this.mXBounds.min, data.startIndex, x, cur.getY(), (x * k + b) * phaseY, phaseY));
+                    this.cubicMultiFillPath.lineTo(x, (x * k + b) * phaseY);
+                }
+
+                this.cubicMultiFillPath.close();
+                this.drawCubicMultiFill(this.mBitmapCanvas, this.cubicMultiFillPath, trans, data, phaseY, textPoint);
+            }
+        } else if (dataSet.isDrawFilledEnabled()) {
+
+            cubicFillPath.reset();
+            addSpline(cubicFillPath, splineSize);
+
+            drawCubicFill(mBitmapCanvas, dataSet, cubicFillPath, trans, mXBounds);
+        }
+
+        drawSpline(dataSet, trans, splineSize);
+    }
+
+    /**
+     * Copies the visible part of the cached spline of the DataSet to the spline buffer, scaled
+     * by the animation phase.
+     *
+     * @param dataSet
+     * @param phaseY
+     * @return the number of values in the spline buffer, 0 if less than two entries are visible,
+     * -1 if the spline couldn't be created
+     */
+    protected int fillSplineBuffer(ILineDataSet dataSet, float phaseY) {
+
+        final Spline spline = getSpline(dataSet);
+
+        if (spline == null)
+            return -1;
+
+        if (mXBounds.range < 1)
+            return 0;
+
+        final int from = mXBounds.min;
+        final int to = Math.min(mXBounds.min + mXBounds.range, spline.entryCount - 1);
+
+        // the visible entry followed by the control points and entry of each following segment
+        final int offset = from * 6 + 4;
+        final int size = (to - from) * 6 + 2;
+
+        if (size <= 2)
+            return 0;
+
+        if (mSplineBuffer.length < size)
+            mSplineBuffer = new float[size * 2];
+
+        System.arraycopy(spline.points, offset, mSplineBuffer, 0, size);
+
+        if (phaseY != 1f) {
+            for (int i = 1; i < size; i += 2) {
+                mSplineBuffer[i] *= phaseY;
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * Adds the spline in the spline buffer to the given path.
+     *
+     * @param path
+     * @param size number of values in the spline buffer
+     */
+    protected void addSpline(Path path, int size) {
+
+        if (size < 8)
+            return;
+
+        final float[] points = mSplineBuffer;
+
+        path.moveTo(points[0], points[1]);
+
+        for (int i = 2; i < size; i += 6) {
+            path.cubicTo(points[i], points[i + 1], points[i + 2], points[i + 3],
+                    points[i + 4], points[i + 5]);
+        }
+    }
+
+    /**
+     * Transforms the spline in the spline buffer to pixels and strokes it.
+     *
+     * @param dataSet
+     * @param trans
+     * @param size    number of values in the spline buffer
+     */
+    protected void drawSpline(ILineDataSet dataSet, Transformer trans, int size) {
+
+        mRenderPaint.setColor(dataSet.getColor());
+
+        mRenderPaint.setStyle(Paint.Style.STROKE);
+
+        cubicPath.reset();
+
+        if (size >= 8) {
+            trans.pointValuesToPixel(mSplineBuffer, size / 2);
+            addSpline(cubicPath, size);
+        }
+
+        mBitmapCanvas.drawPath(cubicPath, mRenderPaint);
+
+        mRenderPaint.setPathEffect(null);
+    }
+
+    /**
+     * Returns the spline of the DataSet, computing it if the data, the mode or the cubic
+     * intensity changed since it was cached. If entries were only appended, just the curves to
+     * the new entries and to the former last entry are computed.
+     *
+     * @param dataSet
+     * @return null if the DataSet contains null entries
+     */
+    protected Spline getSpline(ILineDataSet dataSet) {
+
+        Spline spline = mSplines.get(dataSet);
+
+        if (spline == null) {
+            spline = new Spline();
+            mSplines.put(dataSet, spline);
+        }
+
+        if (!spline.isValid(dataSet)
+                && !computeSpline(dataSet, spline, spline.getAppendStart(dataSet))) {
+            mSplines.remove(dataSet);
+            return null;
+        }
+
+        return spline;
+    }
+
+    /**
+     * Computes the control points of the entries of the DataSet from the given index on, in
+     * value space, the points of the entries before it are kept. For cubic curves, each control
+     * point is taken from the neighbouring entries, which is why the points of the first and
+     * last entry are repeated at the edges.
+     *
+     * @param dataSet
+     * @param spline
+     * @param from    index of the first entry to compute, 0 computes the whole spline
+     * @return false if the DataSet contains null entries
+     */
+    protected boolean computeSpline(ILineDataSet dataSet, Spline spline, int from) {
+
+        final int count = dataSet.getEntryCount();
+        final float intensity = dataSet.getCubicIntensity();
+        final boolean horizontal = dataSet.getMode() == LineDataSet.Mode.HORIZONTAL_BEZIER;
+
+        // room for appended entries, so that the spline doesn't grow with every append
+        if (spline.points.length < count * 6)
+            spline.points = Arrays.copyOf(spline.points, count * 9);
+
+        final float[] points = spline.points;
+
+        if (count > 0) {
+
+            final int start = Math.max(from, 1);
+
+            Entry prev = dataSet.getEntryForIndex(Math.max(start - 2, 0));
+            Entry cur = dataSet.getEntryForIndex(start - 1);
+            Entry next = dataSet.getEntryForIndex(Math.min(start, count - 1));
+            Entry prevPrev;
+
+            if (prev == null || cur == null || next == null)
+                return false;
+
+            if (from == 0) {
+                points[0] = points[2] = points[4] = cur.getX();
+                points[1] = points[3] = points[5] = cur.getY();
+            }
+
+            for (int j = start, i = start * 6; j < count; j++, i += 6) {
+
+                prevPrev = prev;
+                prev = cur;
+                cur = next;
+                next = dataSet.getEntryForIndex(Math.min(j + 1, count - 1));
+
+                if (next == null)
+                    return false;
 
-                this.cubicMultiFillPath.moveTo(cur.getX(), cur.getY() * phaseY);
+                if (horizontal) {
 
-                for(int j = minIndex + 1; j <= maxIndex; ++j) {
-                    Entry prevPrev = prev;
-                    prev = cur;
-                    cur = nextIndex == j ? next : dataSet.getEntryForIndex(j);
-                    if (cur.getY() > textPoint.getY()){
-                        textPoint = cur;
-                    }
-                    nextIndex = j + 1 < dataSet.getEntryCount() ? j + 1 : j;
-                    next = dataSet.getEntryForIndex(nextIndex);
-                    prevDx = (cur.getX() - prevPrev.getX()) * intensity;
-                    prevDy = (cur.getY() - prevPrev.getY()) * intensity;
-                    curDx = (next.getX() - prev.getX()) * intensity;
-                    curDy = (next.getY() - prev.getY()) * intensity;
-                    this.cubicMultiFillPath.cubicTo(prev.getX() + prevDx, (prev.getY() + prevDy) * phaseY, cur.getX() - curDx, (cur.getY() - curDy) * phaseY, cur.getX(), cur.getY() * phaseY);
-                }
+                    final float cpx = prev.getX() + (cur.getX() - prev.getX()) / 2.0f;
 
-                float x;
-                if (this.mXBounds.max < data.endIndex) {
-                    x = endPoint.getX();
-                    this.cubicMultiFillPath.lineTo(x, (x * k + b) * phaseY);
-                }
+                    points[i] = cpx;
+                    points[i + 1] = prev.getY();
+                    points[i + 2] = cpx;
+                    points[i + 3] = cur.getY();
 
-                if (this.mXBounds.min > data.startIndex) {
-                    cur = dataSet.getEntryForIndex(this.mXBounds.min - 1);
-                    x = cur.getX();
-//                    Log.i("multiFill", String.format("min: %d, startIndex: %d, x: %f,getY :%f, y: %f, phaseY: %f", this.mXBounds.min, data.startIndex, x, cur.getY(), (x * k + b) * phaseY, phaseY));
-                    this.cubicMultiFillPath.lineTo(x, (x * k + b) * phaseY);
+                } else {
+
+                    points[i] = prev.getX() + (cur.getX() - prevPrev.getX()) * intensity;
+                    points[i + 1] = prev.getY() + (cur.getY() - prevPrev.getY()) * intensity;
+                    points[i + 2] = cur.getX() - (next.getX() - prev.getX()) * intensity;
+                    points[i + 3] = cur.getY() - (next.getY() - prev.getY()) * intensity;
                 }
 
-                this.cubicMultiFillPath.close();
-                this.drawCubicMultiFill(this.mBitmapCanvas, this.cubicMultiFillPath, trans, data, phaseY, textPoint);
+                points[i + 4] = cur.getX();
+                points[i + 5] = cur.getY();
             }
-        } else if (dataSet.isDrawFilledEnabled()) {
+        }
 
-            cubicFillPath.reset();
-            cubicFillPath.addPath(cubicPath);
+        spline.set(dataSet);
 
-            drawCubicFill(mBitmapCanvas, dataSet, cubicFillPath, trans, mXBounds);
-        }
+        return true;
+    }
 
-        mRenderPaint.setColor(dataSet.getColor());
+    /**
+     * Releases the cached splines, they are recomputed when drawn next.
+     */
+    public void invalidateSplines() {
+        mSplines.clear();
+    }
 
-        mRenderPaint.setStyle(Paint.Style.STROKE);
+    /**
+     * Marks the cached splines to be checked against their DataSet when drawn next. Appended
+     * entries are added to a spline, any other change recomputes it. Entries changed in place
+     * while others are appended aren't noticed, invalidateSplines() drops the splines in that
+     * case. The splines of DataSets that are no longer part of the chart are released.
+     */
+    public void markSplinesStale() {
 
-        trans.pathValueToPixel(cubicPath);
+        if (mSplines.isEmpty())
+            return;
 
-        mBitmapCanvas.drawPath(cubicPath, mRenderPaint);
+        LineData lineData = mChart.getLineData();
 
-        mRenderPaint.setPathEffect(null);
+        Iterator<Map.Entry<ILineDataSet, Spline>> it = mSplines.entrySet().iterator();
+
+        while (it.hasNext()) {
+
+            Map.Entry<ILineDataSet, Spline> e = it.next();
+
+            if (lineData == null || lineData.getIndexOfDataSet(e.getKey()) < 0)
+                it.remove();
+            else
+                e.getValue().stale = true;
+        }
     }
 
     protected void drawCubicFill(Canvas c, ILineDataSet dataSet, Path spline, Transformer trans, XBounds bounds) {
@@ -466,6 +1383,12 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         mXBounds.set(mChart, dataSet);
 
+        // only redraw what is new when drawing incrementally
+        if (mIncrementalFrom > mXBounds.min) {
+            mXBounds.range -= Math.min(mIncrementalFrom, mXBounds.max) - mXBounds.min;
+            mXBounds.min = Math.min(mIncrementalFrom, mXBounds.max);
+        }
+
         List<MultiFiledData> multiFiledDataList = dataSet.getMultiFiledDataList();
         Entry endPoint;
         float k;
@@ -555,70 +1478,49 @@ public class LineChartRenderer extends LineRadarRenderer {
         // more than 1 color
         if (dataSet.getColors().size() > 1) {
 
-            int numberOfFloats = pointsPerEntryPair * 2;
+            drawLinearColored(canvas, dataSet, trans, isDrawSteppedEnabled, phaseY);
 
-            if (mLineBuffer.length <= numberOfFloats)
-                mLineBuffer = new float[numberOfFloats * 2];
+        } else if (!isDrawSteppedEnabled && dataSet.getDecimator() != null) { // only one color, reduced to the chart width
 
-            int max = mXBounds.min + mXBounds.range;
+            int j = fillDecimatedLineBuffer(dataSet, dataSet.getDecimator(), phaseY);
 
-            for (int j = mXBounds.min; j < max; j++) {
+            if (j > 0) {
+                trans.pointValuesToPixel(mLineBuffer);
 
-                Entry e = dataSet.getEntryForIndex(j);
-                if (e == null) continue;
+                mRenderPaint.setColor(dataSet.getColor());
 
-                mLineBuffer[0] = e.getX();
-                mLineBuffer[1] = e.getY() * phaseY;
+                canvas.drawLines(mLineBuffer, 0, j, mRenderPaint);
+            }
 
-                if (j < mXBounds.max) {
+        } else if (!isDrawSteppedEnabled && dataSet.isDrawLodEnabled()
+                && getLodBucketSize() >= MIN_LOD_BUCKET_SIZE) { // only one color, zoomed out
 
-                    e = dataSet.getEntryForIndex(j + 1);
+            int j = fillLodLineBuffer(dataSet, getLodBucketSize(), phaseY);
 
-                    if (e == null) break;
+            if (j > 0) {
+                trans.pointValuesToPixel(mLineBuffer);
 
-                    if (isDrawSteppedEnabled) {
-                        mLineBuffer[2] = e.getX();
-                        mLineBuffer[3] = mLineBuffer[1];
-                        mLineBuffer[4] = mLineBuffer[2];
-                        mLineBuffer[5] = mLineBuffer[3];
-                        mLineBuffer[6] = e.getX();
-                        mLineBuffer[7] = e.getY() * phaseY;
-                    } else {
-                        mLineBuffer[2] = e.getX();
-                        mLineBuffer[3] = e.getY() * phaseY;
-                    }
+                mRenderPaint.setColor(dataSet.getColor());
 
-                } else {
-                    mLineBuffer[2] = mLineBuffer[0];
-                    mLineBuffer[3] = mLineBuffer[1];
-                }
+                canvas.drawLines(mLineBuffer, 0, j, mRenderPaint);
+            }
 
-                // Determine the start and end coordinates of the line, and make sure they differ.
-                float firstCoordinateX = mLineBuffer[0];
-                float firstCoordinateY = mLineBuffer[1];
-                float lastCoordinateX = mLineBuffer[numberOfFloats - 2];
-                float lastCoordinateY = mLineBuffer[numberOfFloats - 1];
+        } else if (dataSet instanceof IColumnarDataSet) { // only one color, values read from primitive storage
 
-                if (firstCoordinateX == lastCoordinateX &&
-                        firstCoordinateY == lastCoordinateY)
-                    continue;
+            // sized for the visible range only, as large DataSets may not be held in memory
+            final int visibleFloats = Math.max((mXBounds.range + 1) * pointsPerEntryPair, pointsPerEntryPair) * 2;
 
-                trans.pointValuesToPixel(mLineBuffer);
+            if (mLineBuffer.length < visibleFloats)
+                mLineBuffer = new float[visibleFloats * 2];
 
-                if (!mViewPortHandler.isInBoundsRight(firstCoordinateX))
-                    break;
+            int j = fillLineBuffer((IColumnarDataSet) dataSet, entryCount, isDrawSteppedEnabled, phaseY);
 
-                // make sure the lines don't do shitty things outside
-                // bounds
-                if (!mViewPortHandler.isInBoundsLeft(lastCoordinateX) ||
-                        !mViewPortHandler.isInBoundsTop(Math.max(firstCoordinateY, lastCoordinateY)) ||
-                        !mViewPortHandler.isInBoundsBottom(Math.min(firstCoordinateY, lastCoordinateY)))
-                    continue;
+            if (j > 0) {
+                trans.pointValuesToPixel(mLineBuffer);
 
-                // get the color that is set for this line-segment
-                mRenderPaint.setColor(dataSet.getColor(j));
+                mRenderPaint.setColor(dataSet.getColor());
 
-                canvas.drawLines(mLineBuffer, 0, pointsPerEntryPair * 2, mRenderPaint);
+                canvas.drawLines(mLineBuffer, 0, j, mRenderPaint);
             }
 
         } else { // only one color per dataset
@@ -669,6 +1571,331 @@ public class LineChartRenderer extends LineRadarRenderer {
         mRenderPaint.setPathEffect(null);
     }
 
+    /**
+     * Fills the line buffer with the line segments of the visible range, reading the values
+     * directly from the primitive storage of the DataSet. Returns the number of floats written.
+     *
+     * @param dataSet
+     * @param entryCount
+     * @param isDrawSteppedEnabled
+     * @param phaseY
+     * @return
+     */
+    private int fillLineBuffer(IColumnarDataSet dataSet, int entryCount, boolean isDrawSteppedEnabled, float phaseY) {
+
+        final float[] buffer = mLineBuffer;
+        final int max = Math.min(mXBounds.range + mXBounds.min, entryCount - 1);
+
+        int j = 0;
+        for (int x = mXBounds.min; x <= max; x++) {
+
+            final int prev = x == 0 ? 0 : (x - 1);
+            final float y1 = dataSet.getYForIndex(prev) * phaseY;
+            final float x2 = dataSet.getXForIndex(x);
+
+            buffer[j++] = dataSet.getXForIndex(prev);
+            buffer[j++] = y1;
+
+            if (isDrawSteppedEnabled) {
+                buffer[j++] = x2;
+                buffer[j++] = y1;
+                buffer[j++] = x2;
+                buffer[j++] = y1;
+            }
+
+            buffer[j++] = x2;
+            buffer[j++] = dataSet.getYForIndex(x) * phaseY;
+        }
+
+        return j;
+    }
+
+    /**
+     * the level-of-detail drawing is only used if buckets hold at least this many entries, below
+     * that drawing all entries is just as fast
+     */
+    private static final int MIN_LOD_BUCKET_SIZE = 4;
+
+    /**
+     * Returns the number of entries per level-of-detail bucket that matches the current scale:
+     * the largest power of two not exceeding the number of visible entries per pixel.
+     *
+     * @return
+     */
+    private int getLodBucketSize() {
+
+        final float width = mViewPortHandler.contentWidth();
+
+        if (width <= 0f)
+            return 1;
+
+        final int entriesPerPixel = (int) ((mXBounds.range + 1) / width);
+
+        return entriesPerPixel < 1 ? 1 : Integer.highestOneBit(entriesPerPixel);
+    }
+
+    /**
+     * Fills the line buffer with the line segments of the visible range at the given level of
+     * detail. Each bucket of entries is reduced to its first, lowest, highest and last value,
+     * the lowest and highest values are placed at the center of the bucket. Returns the number
+     * of floats written.
+     *
+     * @param dataSet
+     * @param bucketSize power of two
+     * @param phaseY
+     * @return
+     */
+    private int fillLodLineBuffer(ILineDataSet dataSet, int bucketSize, float phaseY) {
+
+        final IColumnarDataSet columnar = dataSet instanceof IColumnarDataSet ? (IColumnarDataSet) dataSet : null;
+
+        final int from = mXBounds.min;
+        final int to = Math.min(mXBounds.min + mXBounds.range, dataSet.getEntryCount() - 1);
+
+        if (to < from)
+            return 0;
+
+        final int points = ((to / bucketSize) - (from / bucketSize) + 1) * 4;
+
+        if (mLineBuffer.length < points * 4)
+            mLineBuffer = new float[points * 8];
+
+        final float[] buffer = mLineBuffer;
+
+        // write the polyline as points first
+        int j = 0;
+        for (int start = from; start <= to; ) {
+
+            final int end = Math.min((start / bucketSize + 1) * bucketSize - 1, to);
+
+            final float firstX = columnar != null ? columnar.getXForIndex(start) : dataSet.getEntryForIndex(start).getX();
+            final float firstY = columnar != null ? columnar.getYForIndex(start) : dataSet.getEntryForIndex(start).getY();
+            final float lastX = columnar != null ? columnar.getXForIndex(end) : dataSet.getEntryForIndex(end).getX();
+            final float lastY = columnar != null ? columnar.getYForIndex(end) : dataSet.getEntryForIndex(end).getY();
+            final float centerX = (firstX + lastX) / 2f;
+
+            buffer[j++] = firstX;
+            buffer[j++] = firstY * phaseY;
+            buffer[j++] = centerX;
+            buffer[j++] = dataSet.getYMinForIndexRange(start, end) * phaseY;
+            buffer[j++] = centerX;
+            buffer[j++] = dataSet.getYMaxForIndexRange(start, end) * phaseY;
+            buffer[j++] = lastX;
+            buffer[j++] = lastY * phaseY;
+
+            start = end + 1;
+        }
+
+        return pointsToLineSegments(buffer, j / 2);
+    }
+
+    private float[] mDecimationInput = new float[0];
+
+    /**
+     * Fills the line buffer with the line segments of the visible range, reduced by the given
+     * decimator before they are transformed. Returns the number of floats written.
+     *
+     * @param dataSet
+     * @param decimator
+     * @param phaseY
+     * @return
+     */
+    private int fillDecimatedLineBuffer(ILineDataSet dataSet, IDecimator decimator, float phaseY) {
+
+        final IColumnarDataSet columnar = dataSet instanceof IColumnarDataSet ? (IColumnarDataSet) dataSet : null;
+
+        final int from = mXBounds.min;
+        final int to = Math.min(mXBounds.min + mXBounds.range, dataSet.getEntryCount() - 1);
+
+        if (to < from)
+            return 0;
+
+        final int pointCount = to - from + 1;
+
+        if (mDecimationInput.length < pointCount * 2)
+            mDecimationInput = new float[pointCount * 4];
+
+        final float[] input = mDecimationInput;
+
+        for (int i = from, j = 0; i <= to; i++) {
+            if (columnar != null) {
+                input[j++] = columnar.getXForIndex(i);
+                input[j++] = columnar.getYForIndex(i) * phaseY;
+            } else {
+                Entry e = dataSet.getEntryForIndex(i);
+                input[j++] = e.getX();
+                input[j++] = e.getY() * phaseY;
+            }
+        }
+
+        final int width = (int) mViewPortHandler.contentWidth();
+        final int maxPoints = Math.min(decimator.getMaxPoints(width), pointCount);
+
+        if (mLineBuffer.length < maxPoints * 4)
+            mLineBuffer = new float[maxPoints * 8];
+
+        int count = decimator.decimate(input, pointCount, width, mLineBuffer);
+
+        return pointsToLineSegments(mLineBuffer, count);
+    }
+
+    /**
+     * Converts the given polyline points (x/y pairs) in the buffer into line segments as used by
+     * Canvas.drawLines(...). The buffer needs to hold 4 * (count - 1) values. Returns the
+     * number of floats written.
+     *
+     * @param buffer
+     * @param count
+     * @return
+     */
+    private static int pointsToLineSegments(float[] buffer, int count) {
+
+        if (count < 2)
+            return 0;
+
+        // expand the points into line segments in place, back to front: segment k is written
+        // to [4k, 4k + 4), which never overlaps the points not read yet
+        for (int k = count - 2; k >= 0; k--) {
+            final float x1 = buffer[2 * k], y1 = buffer[2 * k + 1];
+            final float x2 = buffer[2 * k + 2], y2 = buffer[2 * k + 3];
+
+            buffer[4 * k] = x1;
+            buffer[4 * k + 1] = y1;
+            buffer[4 * k + 2] = x2;
+            buffer[4 * k + 3] = y2;
+        }
+
+        return (count - 1) * 4;
+    }
+
+    /**
+     * end of each color run in mLineBuffer, and its color
+     */
+    private int[] mColorRunEnds = new int[16];
+    private int[] mColorRuns = new int[16];
+
+    /**
+     * Draws the visible line segments of a DataSet with more than one color. Contiguous segments
+     * of the same color are collected into runs, all segments are transformed at once and each
+     * run is drawn with a single drawLines(...) call.
+     *
+     * @param c
+     * @param dataSet
+     * @param trans
+     * @param isDrawSteppedEnabled
+     * @param phaseY
+     */
+    protected void drawLinearColored(Canvas c, ILineDataSet dataSet, Transformer trans,
+                                     boolean isDrawSteppedEnabled, float phaseY) {
+
+        final int floatsPerSegment = isDrawSteppedEnabled ? 8 : 4;
+        final int[] colors = dataSet.getColorArray();
+        final int max = Math.min(mXBounds.min + mXBounds.range, mXBounds.max);
+
+        final int size = Math.max(max - mXBounds.min, 1) * floatsPerSegment;
+
+        if (mLineBuffer.length < size)
+            mLineBuffer = new float[size * 2];
+
+        int runs = 0;
+        int j = 0;
+
+        Entry e2 = dataSet.getEntryForIndex(mXBounds.min);
+
+        for (int x = mXBounds.min; x < max && e2 != null; x++) {
+
+            final Entry e1 = e2;
+            e2 = dataSet.getEntryForIndex(x + 1);
+
+            if (e2 == null)
+                break;
+
+            final float x1 = e1.getX();
+            final float y1 = e1.getY() * phaseY;
+            final float x2 = e2.getX();
+            final float y2 = e2.getY() * phaseY;
+
+            // make sure the start and end of the line differ
+            if (x1 == x2 && y1 == y2)
+                continue;
+
+            final int color = colors[x % colors.length];
+
+            if (runs == 0 || mColorRuns[runs - 1] != color) {
+
+                if (runs == mColorRuns.length) {
+                    mColorRuns = Arrays.copyOf(mColorRuns, runs * 2);
+                    mColorRunEnds = Arrays.copyOf(mColorRunEnds, runs * 2);
+                }
+
+                mColorRuns[runs++] = color;
+            }
+
+            mLineBuffer[j++] = x1;
+            mLineBuffer[j++] = y1;
+
+            if (isDrawSteppedEnabled) {
+                mLineBuffer[j++] = x2;
+                mLineBuffer[j++] = y1;
+                mLineBuffer[j++] = x2;
+                mLineBuffer[j++] = y1;
+            }
+
+            mLineBuffer[j++] = x2;
+            mLineBuffer[j++] = y2;
+
+            mColorRunEnds[runs - 1] = j;
+        }
+
+        if (j == 0)
+            return;
+
+        trans.pointValuesToPixel(mLineBuffer, j / 2);
+
+        // the segments that are in bounds are moved to the front of their run and drawn
+        int read = 0;
+        int write = 0;
+
+        for (int run = 0; run < runs; run++) {
+
+            final int runStart = write;
+            final int runEnd = mColorRunEnds[run];
+            boolean outOfBoundsRight = false;
+
+            for (; read < runEnd; read += floatsPerSegment) {
+
+                final float firstX = mLineBuffer[read];
+                final float firstY = mLineBuffer[read + 1];
+                final float lastX = mLineBuffer[read + floatsPerSegment - 2];
+                final float lastY = mLineBuffer[read + floatsPerSegment - 1];
+
+                if (!mViewPortHandler.isInBoundsRight(firstX)) {
+                    outOfBoundsRight = true;
+                    break;
+                }
+
+                // make sure the lines don't do shitty things outside bounds
+                if (!mViewPortHandler.isInBoundsLeft(lastX) ||
+                        !mViewPortHandler.isInBoundsTop(Math.max(firstY, lastY)) ||
+                        !mViewPortHandler.isInBoundsBottom(Math.min(firstY, lastY)))
+                    continue;
+
+                if (write != read)
+                    System.arraycopy(mLineBuffer, read, mLineBuffer, write, floatsPerSegment);
+
+                write += floatsPerSegment;
+            }
+
+            if (write > runStart) {
+                mRenderPaint.setColor(mColorRuns[run]);
+                c.drawLines(mLineBuffer, runStart, write - runStart, mRenderPaint);
+            }
+
+            if (outOfBoundsRight)
+                break;
+        }
+    }
+
     protected Path mGenerateFilledPathBuffer = new Path();
 
     /**
@@ -747,6 +1974,35 @@ public class LineChartRenderer extends LineRadarRenderer {
         final Path filled = outputPath;
         filled.reset();
 
+        if (dataSet instanceof IColumnarDataSet) {
+
+            final IColumnarDataSet columnar = (IColumnarDataSet) dataSet;
+            final int end = Math.min(endIndex, dataSet.getEntryCount() - 1);
+
+            float x = columnar.getXForIndex(startIndex);
+            float previousY = columnar.getYForIndex(startIndex) * phaseY;
+
+            filled.moveTo(x, fillMin);
+            filled.lineTo(x, previousY);
+
+            for (int i = startIndex + 1; i <= end; i++) {
+
+                x = columnar.getXForIndex(i);
+
+                if (isDrawSteppedEnabled) {
+                    filled.lineTo(x, previousY);
+                }
+
+                previousY = columnar.getYForIndex(i) * phaseY;
+                filled.lineTo(x, previousY);
+            }
+
+            // close up
+            filled.lineTo(x, fillMin);
+            filled.close();
+            return;
+        }
+
         final Entry entry = dataSet.getEntryForIndex(startIndex);
 
         filled.moveTo(entry.getX(), fillMin);
@@ -830,8 +2086,15 @@ public class LineChartRenderer extends LineRadarRenderer {
 
                     if (entry != null) {
                         if (dataSet.isDrawValuesEnabled()) {
-                            drawValue(c, dataSet.getValueFormatter(), entry.getY(), entry, i, x,
-                                    y - valOffset, dataSet.getValueTextColor(j / 2));
+                            if (dataSet instanceof IColumnarDataSet) {
+                                // the entries are created per call, the labels are cached by x-value
+                                drawText(c, getFormattedValue(dataSet.getValueFormatter(), entry.getY(),
+                                        entry, (IColumnarDataSet) dataSet, i), x, y - valOffset,
+                                        dataSet.getValueTextColor(j / 2));
+                            } else {
+                                drawValue(c, dataSet.getValueFormatter(), entry.getY(), entry, i, x,
+                                        y - valOffset, dataSet.getValueTextColor(j / 2));
+                            }
                         }
 
                         if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
@@ -922,14 +2185,26 @@ public class LineChartRenderer extends LineRadarRenderer {
 
             int boundsRangeCount = mXBounds.range + mXBounds.min;
 
+            final IColumnarDataSet columnar = dataSet instanceof IColumnarDataSet ? (IColumnarDataSet) dataSet : null;
+            final int entryCount = dataSet.getEntryCount();
+
             for (int j = mXBounds.min; j <= boundsRangeCount; j++) {
 
-                Entry e = dataSet.getEntryForIndex(j);
+                if (columnar != null) {
+
+                    if (j >= entryCount) break;
+
+                    mCirclesBuffer[0] = columnar.getXForIndex(j);
+                    mCirclesBuffer[1] = columnar.getYForIndex(j) * phaseY;
+                } else {
+
+                    Entry e = dataSet.getEntryForIndex(j);
 
-                if (e == null) break;
+                    if (e == null) break;
 
-                mCirclesBuffer[0] = e.getX();
-                mCirclesBuffer[1] = e.getY() * phaseY;
+                    mCirclesBuffer[0] = e.getX();
+                    mCirclesBuffer[1] = e.getY() * phaseY;
+                }
 
                 trans.pointValuesToPixel(mCirclesBuffer);
 
@@ -1001,15 +2276,15 @@ public class LineChartRenderer extends LineRadarRenderer {
      * Releases the drawing bitmap. This should be called when {LineChart#onDetachedFromWindow()}.
      */
     public void releaseBitmap() {
-        if (mBitmapCanvas != null) {
-            mBitmapCanvas.setBitmap(null);
-            mBitmapCanvas = null;
-        }
+        releaseTiles();
+        releaseIncrementalBitmaps();
+
+        // the drawing bitmap is never recycled, it may still be referenced by the pool or a display list
+        releaseDrawBitmap();
+
+        mBitmapCanvas = null;
+
         if (mDrawBitmap != null) {
-            Bitmap drawBitmap = mDrawBitmap.get();
-            if (drawBitmap != null) {
-                drawBitmap.recycle();
-            }
             mDrawBitmap.clear();
             mDrawBitmap = null;
         }
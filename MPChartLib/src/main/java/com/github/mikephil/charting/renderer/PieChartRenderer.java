@@ -27,10 +27,12 @@ import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.datasets.IPieDataSet;
 import com.github.mikephil.charting.utils.ColorTemplate;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.RenderBitmapPool;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.lang.ref.WeakReference;
+import java.util.Arrays;
 import java.util.List;
 
 public class PieChartRenderer extends DataRenderer {
@@ -62,12 +64,45 @@ public class PieChartRenderer extends DataRenderer {
     private RectF[] mRectBuffer = {new RectF(), new RectF(), new RectF()};
 
     /**
-     * Bitmap for drawing the center hole
+     * Bitmap for drawing the center hole, acquired in drawData(...) and drawn in
+     * drawExtras(...), see mAcquiredBitmap
      */
     protected WeakReference<Bitmap> mDrawBitmap;
 
+    /**
+     * the bitmap acquired from the RenderBitmapPool, kept until the next frame because hardware
+     * accelerated canvases only record the bitmap and draw it later
+     */
+    protected Bitmap mAcquiredBitmap;
+
+    /**
+     * true as long as mAcquiredBitmap was only drawn onto software canvases, which copy it right
+     * away, so that it can be shared with other charts through the pool
+     */
+    protected boolean mAcquiredBitmapShareable;
+
     protected Canvas mBitmapCanvas;
 
+    /**
+     * the bitmap configuration to be used
+     */
+    protected Bitmap.Config mBitmapConfig = Bitmap.Config.ARGB_4444;
+
+    /**
+     * if true, the slices are drawn straight onto hardware accelerated canvases without the bitmap
+     */
+    protected boolean mDirectDrawEnabled = false;
+
+    /**
+     * the canvas of the view while the current frame is drawn without the bitmap, null otherwise
+     */
+    private Canvas mDirectCanvas;
+
+    /**
+     * mBitmapCanvas while the current frame is drawn without the bitmap
+     */
+    private Canvas mDirectBitmapCanvas;
+
     public PieChartRenderer(PieChart chart, ChartAnimator animator,
                             ViewPortHandler viewPortHandler) {
         super(animator, viewPortHandler);
@@ -117,30 +152,34 @@ public class PieChartRenderer extends DataRenderer {
 
     @Override
     public void initBuffers() {
-        // TODO Auto-generated method stub
+        mSliceCache.reset(0);
+        mSliceCache.dataSet = null;
     }
 
     @Override
     public void drawData(Canvas c) {
 
-        int width = (int) mViewPortHandler.getChartWidth();
-        int height = (int) mViewPortHandler.getChartHeight();
+        endDirectDraw();
+
+        if (mDirectDrawEnabled && c.isHardwareAccelerated()) {
 
-        Bitmap drawBitmap = mDrawBitmap == null ? null : mDrawBitmap.get();
+            releaseDrawBitmap();
 
-        if (drawBitmap == null
-                || (drawBitmap.getWidth() != width)
-                || (drawBitmap.getHeight() != height)) {
+            // slices, highlights and the hole are drawn onto the view until drawExtras(...)
+            mDirectCanvas = c;
+            mDirectBitmapCanvas = mBitmapCanvas;
+            mBitmapCanvas = c;
 
-            if (width > 0 && height > 0) {
-                drawBitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_4444);
-                mDrawBitmap = new WeakReference<>(drawBitmap);
-                mBitmapCanvas = new Canvas(drawBitmap);
-            } else
+        } else {
+
+            int width = (int) mViewPortHandler.getChartWidth();
+            int height = (int) mViewPortHandler.getChartHeight();
+
+            if (width <= 0 || height <= 0)
                 return;
-        }
 
-        drawBitmap.eraseColor(Color.TRANSPARENT);
+            acquireDrawBitmap(width, height);
+        }
 
         PieData pieData = mChart.getData();
 
@@ -153,6 +192,61 @@ public class PieChartRenderer extends DataRenderer {
 
     private Path mPathBuffer = new Path();
     private RectF mInnerRectBuffer = new RectF();
+    private RectF mRoundedCircleBoxBuffer = new RectF();
+
+    /**
+     * Slice paths of the last drawn DataSet, without the rotation of the chart. Rebuilt when the
+     * angles, the size or the styling of the slices change, not for highlighting or rotating.
+     */
+    private SliceCache mSliceCache = new SliceCache();
+
+    private static class SliceCache {
+
+        private IPieDataSet dataSet;
+        private float centerX;
+        private float centerY;
+        private float radius;
+        private float userInnerRadius;
+        private float phaseY;
+        private float sliceSpace;
+        private int visibleAngleCount;
+        private boolean drawInnerArc;
+        private boolean drawRoundedSlices;
+
+        private Path[] paths = new Path[0];
+
+        /**
+         * start and slice angle each path was built for, NaN if it was not built yet
+         */
+        private float[] angles = new float[0];
+        private float[] sliceAngles = new float[0];
+
+        private void reset(int size) {
+
+            if (paths.length != size) {
+                Path[] old = paths;
+                paths = new Path[size];
+                angles = new float[size];
+                sliceAngles = new float[size];
+
+                // keep the already allocated paths
+                for (int i = 0; i < size; i++)
+                    paths[i] = i < old.length ? old[i] : new Path();
+            }
+
+            Arrays.fill(angles, Float.NaN);
+            Arrays.fill(sliceAngles, Float.NaN);
+        }
+
+        private boolean isValid(int index, float angle, float sliceAngle) {
+            return angles[index] == angle && sliceAngles[index] == sliceAngle;
+        }
+
+        private void validate(int index, float angle, float sliceAngle) {
+            angles[index] = angle;
+            sliceAngles[index] = sliceAngle;
+        }
+    }
 
     protected float calculateMinimumRadiusForSpacedSlice(
             MPPointF center,
@@ -221,8 +315,6 @@ public class PieChartRenderer extends DataRenderer {
         float phaseX = mAnimator.getPhaseX();
         float phaseY = mAnimator.getPhaseY();
 
-        final RectF circleBox = mChart.getCircleBox();
-
         final int entryCount = dataSet.getEntryCount();
         final float[] drawAngles = mChart.getDrawAngles();
         final MPPointF center = mChart.getCenterCircleBox();
@@ -231,8 +323,6 @@ public class PieChartRenderer extends DataRenderer {
         final float userInnerRadius = drawInnerArc
                 ? radius * (mChart.getHoleRadius() / 100.f)
                 : 0.f;
-        final float roundedRadius = (radius - (radius * mChart.getHoleRadius() / 100f)) / 2f;
-        final RectF roundedCircleBox = new RectF();
         final boolean drawRoundedSlices = drawInnerArc && mChart.isDrawRoundedSlicesEnabled();
 
         int visibleAngleCount = 0;
@@ -245,10 +335,16 @@ public class PieChartRenderer extends DataRenderer {
 
         final float sliceSpace = visibleAngleCount <= 1 ? 0.f : getSliceSpace(dataSet);
 
+        SliceCache cache = getSliceCache(dataSet, center, radius, userInnerRadius, phaseY, sliceSpace,
+                visibleAngleCount, drawInnerArc, drawRoundedSlices);
+
+        // the slice paths are built without rotation, the rotation is applied by the canvas
+        mBitmapCanvas.save();
+        mBitmapCanvas.rotate(rotationAngle, center.x, center.y);
+
         for (int j = 0; j < entryCount; j++) {
 
             float sliceAngle = drawAngles[j];
-            float innerRadius = userInnerRadius;
 
             Entry e = dataSet.getEntryForIndex(j);
 
@@ -264,144 +360,225 @@ public class PieChartRenderer extends DataRenderer {
                 continue;
             }
 
-            final boolean accountForSliceSpacing = sliceSpace > 0.f && sliceAngle <= 180.f;
-
             mRenderPaint.setColor(dataSet.getColor(j));
 
-            final float sliceSpaceAngleOuter = visibleAngleCount == 1 ?
-                    0.f :
-                    sliceSpace / (Utils.FDEG2RAD * radius);
-            final float startAngleOuter = rotationAngle + (angle + sliceSpaceAngleOuter / 2.f) * phaseY;
-            float sweepAngleOuter = (sliceAngle - sliceSpaceAngleOuter) * phaseY;
-            if (sweepAngleOuter < 0.f) {
-                sweepAngleOuter = 0.f;
+            Path path = cache.paths[j];
+
+            if (!cache.isValid(j, angle, sliceAngle)) {
+
+                buildSlicePath(path, center, radius, userInnerRadius, angle, sliceAngle, phaseY,
+                        sliceSpace, visibleAngleCount, drawInnerArc, drawRoundedSlices);
+
+                cache.validate(j, angle, sliceAngle);
             }
 
-            mPathBuffer.reset();
+            mBitmapCanvas.drawPath(path, mRenderPaint);
+
+            angle += sliceAngle * phaseX;
+        }
+
+        mBitmapCanvas.restore();
+
+        MPPointF.recycleInstance(center);
+    }
+
+    /**
+     * Returns the slice path cache for the given DataSet, cleared if any of the values the
+     * paths are built from changed since the last frame.
+     */
+    private SliceCache getSliceCache(IPieDataSet dataSet, MPPointF center, float radius,
+                                     float userInnerRadius, float phaseY, float sliceSpace,
+                                     int visibleAngleCount, boolean drawInnerArc,
+                                     boolean drawRoundedSlices) {
+
+        SliceCache cache = mSliceCache;
+
+        if (cache.dataSet != dataSet
+                || cache.paths.length != dataSet.getEntryCount()
+                || cache.centerX != center.x
+                || cache.centerY != center.y
+                || cache.radius != radius
+                || cache.userInnerRadius != userInnerRadius
+                || cache.phaseY != phaseY
+                || cache.sliceSpace != sliceSpace
+                || cache.visibleAngleCount != visibleAngleCount
+                || cache.drawInnerArc != drawInnerArc
+                || cache.drawRoundedSlices != drawRoundedSlices) {
+
+            cache.reset(dataSet.getEntryCount());
+
+            cache.dataSet = dataSet;
+            cache.centerX = center.x;
+            cache.centerY = center.y;
+            cache.radius = radius;
+            cache.userInnerRadius = userInnerRadius;
+            cache.phaseY = phaseY;
+            cache.sliceSpace = sliceSpace;
+            cache.visibleAngleCount = visibleAngleCount;
+            cache.drawInnerArc = drawInnerArc;
+            cache.drawRoundedSlices = drawRoundedSlices;
+        }
+
+        return cache;
+    }
+
+    /**
+     * Builds the path of a single slice into the given path, starting at the given angle without
+     * the rotation of the chart.
+     *
+     * @param path
+     * @param center
+     * @param radius
+     * @param userInnerRadius
+     * @param angle           start angle of the slice, before the animation phase
+     * @param sliceAngle
+     * @param phaseY
+     * @param sliceSpace
+     * @param visibleAngleCount
+     * @param drawInnerArc
+     * @param drawRoundedSlices
+     */
+    protected void buildSlicePath(Path path, MPPointF center, float radius, float userInnerRadius,
+                                  float angle, float sliceAngle, float phaseY, float sliceSpace,
+                                  int visibleAngleCount, boolean drawInnerArc,
+                                  boolean drawRoundedSlices) {
+
+        float innerRadius = userInnerRadius;
+
+        final RectF circleBox = mChart.getCircleBox();
+
+        final float roundedRadius = (radius - (radius * mChart.getHoleRadius() / 100f)) / 2f;
+        final RectF roundedCircleBox = mRoundedCircleBoxBuffer;
+
+        final boolean accountForSliceSpacing = sliceSpace > 0.f && sliceAngle <= 180.f;
+
+        final float sliceSpaceAngleOuter = visibleAngleCount == 1 ?
+                0.f :
+                sliceSpace / (Utils.FDEG2RAD * radius);
+        final float startAngleOuter = (angle + sliceSpaceAngleOuter / 2.f) * phaseY;
+        float sweepAngleOuter = (sliceAngle - sliceSpaceAngleOuter) * phaseY;
+        if (sweepAngleOuter < 0.f) {
+            sweepAngleOuter = 0.f;
+        }
+
+        path.reset();
+
+        if (drawRoundedSlices) {
+            float x = center.x + (radius - roundedRadius) * (float) Math.cos(startAngleOuter * Utils.FDEG2RAD);
+            float y = center.y + (radius - roundedRadius) * (float) Math.sin(startAngleOuter * Utils.FDEG2RAD);
+            roundedCircleBox.set(x - roundedRadius, y - roundedRadius, x + roundedRadius, y + roundedRadius);
+        }
+
+        float arcStartPointX = center.x + radius * (float) Math.cos(startAngleOuter * Utils.FDEG2RAD);
+        float arcStartPointY = center.y + radius * (float) Math.sin(startAngleOuter * Utils.FDEG2RAD);
+
+        if (sweepAngleOuter >= 360.f && sweepAngleOuter % 360f <= Utils.FLOAT_EPSILON) {
+            // Android is doing "mod 360"
+            path.addCircle(center.x, center.y, radius, Path.Direction.CW);
+        } else {
 
             if (drawRoundedSlices) {
-                float x = center.x + (radius - roundedRadius) * (float) Math.cos(startAngleOuter * Utils.FDEG2RAD);
-                float y = center.y + (radius - roundedRadius) * (float) Math.sin(startAngleOuter * Utils.FDEG2RAD);
-                roundedCircleBox.set(x - roundedRadius, y - roundedRadius, x + roundedRadius, y + roundedRadius);
+                path.arcTo(roundedCircleBox, startAngleOuter + 180, -180);
             }
 
-            float arcStartPointX = center.x + radius * (float) Math.cos(startAngleOuter * Utils.FDEG2RAD);
-            float arcStartPointY = center.y + radius * (float) Math.sin(startAngleOuter * Utils.FDEG2RAD);
+            path.arcTo(
+                    circleBox,
+                    startAngleOuter,
+                    sweepAngleOuter
+            );
+        }
+
+        // API < 21 does not receive floats in addArc, but a RectF
+        mInnerRectBuffer.set(
+                center.x - innerRadius,
+                center.y - innerRadius,
+                center.x + innerRadius,
+                center.y + innerRadius);
+
+        if (drawInnerArc && (innerRadius > 0.f || accountForSliceSpacing)) {
+
+            if (accountForSliceSpacing) {
+                float minSpacedRadius =
+                        calculateMinimumRadiusForSpacedSlice(
+                                center, radius,
+                                sliceAngle * phaseY,
+                                arcStartPointX, arcStartPointY,
+                                startAngleOuter,
+                                sweepAngleOuter);
+
+                if (minSpacedRadius < 0.f)
+                    minSpacedRadius = -minSpacedRadius;
+
+                innerRadius = Math.max(innerRadius, minSpacedRadius);
+            }
+
+            final float sliceSpaceAngleInner = visibleAngleCount == 1 || innerRadius == 0.f ?
+                    0.f :
+                    sliceSpace / (Utils.FDEG2RAD * innerRadius);
+            final float startAngleInner = (angle + sliceSpaceAngleInner / 2.f) * phaseY;
+            float sweepAngleInner = (sliceAngle - sliceSpaceAngleInner) * phaseY;
+            if (sweepAngleInner < 0.f) {
+                sweepAngleInner = 0.f;
+            }
+            final float endAngleInner = startAngleInner + sweepAngleInner;
 
             if (sweepAngleOuter >= 360.f && sweepAngleOuter % 360f <= Utils.FLOAT_EPSILON) {
                 // Android is doing "mod 360"
-                mPathBuffer.addCircle(center.x, center.y, radius, Path.Direction.CW);
+                path.addCircle(center.x, center.y, innerRadius, Path.Direction.CCW);
             } else {
 
                 if (drawRoundedSlices) {
-                    mPathBuffer.arcTo(roundedCircleBox, startAngleOuter + 180, -180);
-                }
+                    float x = center.x + (radius - roundedRadius) * (float) Math.cos(endAngleInner * Utils.FDEG2RAD);
+                    float y = center.y + (radius - roundedRadius) * (float) Math.sin(endAngleInner * Utils.FDEG2RAD);
+                    roundedCircleBox.set(x - roundedRadius, y - roundedRadius, x + roundedRadius, y + roundedRadius);
+                    path.arcTo(roundedCircleBox, endAngleInner, 180);
+                } else
+                    path.lineTo(
+                            center.x + innerRadius * (float) Math.cos(endAngleInner * Utils.FDEG2RAD),
+                            center.y + innerRadius * (float) Math.sin(endAngleInner * Utils.FDEG2RAD));
 
-                mPathBuffer.arcTo(
-                        circleBox,
-                        startAngleOuter,
-                        sweepAngleOuter
+                path.arcTo(
+                        mInnerRectBuffer,
+                        endAngleInner,
+                        -sweepAngleInner
                 );
             }
+        } else {
 
-            // API < 21 does not receive floats in addArc, but a RectF
-            mInnerRectBuffer.set(
-                    center.x - innerRadius,
-                    center.y - innerRadius,
-                    center.x + innerRadius,
-                    center.y + innerRadius);
+            if (sweepAngleOuter % 360f > Utils.FLOAT_EPSILON) {
+                if (accountForSliceSpacing) {
 
-            if (drawInnerArc && (innerRadius > 0.f || accountForSliceSpacing)) {
+                    float angleMiddle = startAngleOuter + sweepAngleOuter / 2.f;
 
-                if (accountForSliceSpacing) {
-                    float minSpacedRadius =
+                    float sliceSpaceOffset =
                             calculateMinimumRadiusForSpacedSlice(
-                                    center, radius,
+                                    center,
+                                    radius,
                                     sliceAngle * phaseY,
-                                    arcStartPointX, arcStartPointY,
+                                    arcStartPointX,
+                                    arcStartPointY,
                                     startAngleOuter,
                                     sweepAngleOuter);
 
-                    if (minSpacedRadius < 0.f)
-                        minSpacedRadius = -minSpacedRadius;
-
-                    innerRadius = Math.max(innerRadius, minSpacedRadius);
-                }
+                    float arcEndPointX = center.x +
+                            sliceSpaceOffset * (float) Math.cos(angleMiddle * Utils.FDEG2RAD);
+                    float arcEndPointY = center.y +
+                            sliceSpaceOffset * (float) Math.sin(angleMiddle * Utils.FDEG2RAD);
 
-                final float sliceSpaceAngleInner = visibleAngleCount == 1 || innerRadius == 0.f ?
-                        0.f :
-                        sliceSpace / (Utils.FDEG2RAD * innerRadius);
-                final float startAngleInner = rotationAngle + (angle + sliceSpaceAngleInner / 2.f) * phaseY;
-                float sweepAngleInner = (sliceAngle - sliceSpaceAngleInner) * phaseY;
-                if (sweepAngleInner < 0.f) {
-                    sweepAngleInner = 0.f;
-                }
-                final float endAngleInner = startAngleInner + sweepAngleInner;
+                    path.lineTo(
+                            arcEndPointX,
+                            arcEndPointY);
 
-                if (sweepAngleOuter >= 360.f && sweepAngleOuter % 360f <= Utils.FLOAT_EPSILON) {
-                    // Android is doing "mod 360"
-                    mPathBuffer.addCircle(center.x, center.y, innerRadius, Path.Direction.CCW);
                 } else {
-
-                    if (drawRoundedSlices) {
-                        float x = center.x + (radius - roundedRadius) * (float) Math.cos(endAngleInner * Utils.FDEG2RAD);
-                        float y = center.y + (radius - roundedRadius) * (float) Math.sin(endAngleInner * Utils.FDEG2RAD);
-                        roundedCircleBox.set(x - roundedRadius, y - roundedRadius, x + roundedRadius, y + roundedRadius);
-                        mPathBuffer.arcTo(roundedCircleBox, endAngleInner, 180);
-                    } else
-                        mPathBuffer.lineTo(
-                                center.x + innerRadius * (float) Math.cos(endAngleInner * Utils.FDEG2RAD),
-                                center.y + innerRadius * (float) Math.sin(endAngleInner * Utils.FDEG2RAD));
-
-                    mPathBuffer.arcTo(
-                            mInnerRectBuffer,
-                            endAngleInner,
-                            -sweepAngleInner
-                    );
+                    path.lineTo(
+                            center.x,
+                            center.y);
                 }
-            } else {
-
-                if (sweepAngleOuter % 360f > Utils.FLOAT_EPSILON) {
-                    if (accountForSliceSpacing) {
-
-                        float angleMiddle = startAngleOuter + sweepAngleOuter / 2.f;
-
-                        float sliceSpaceOffset =
-                                calculateMinimumRadiusForSpacedSlice(
-                                        center,
-                                        radius,
-                                        sliceAngle * phaseY,
-                                        arcStartPointX,
-                                        arcStartPointY,
-                                        startAngleOuter,
-                                        sweepAngleOuter);
-
-                        float arcEndPointX = center.x +
-                                sliceSpaceOffset * (float) Math.cos(angleMiddle * Utils.FDEG2RAD);
-                        float arcEndPointY = center.y +
-                                sliceSpaceOffset * (float) Math.sin(angleMiddle * Utils.FDEG2RAD);
-
-                        mPathBuffer.lineTo(
-                                arcEndPointX,
-                                arcEndPointY);
-
-                    } else {
-                        mPathBuffer.lineTo(
-                                center.x,
-                                center.y);
-                    }
-                }
-
             }
 
-            mPathBuffer.close();
-
-            mBitmapCanvas.drawPath(mPathBuffer, mRenderPaint);
-
-            angle += sliceAngle * phaseX;
         }
 
-        MPPointF.recycleInstance(center);
+        path.close();
     }
 
     @Override
@@ -676,10 +853,133 @@ public class PieChartRenderer extends DataRenderer {
     @Override
     public void drawExtras(Canvas c) {
         drawHole(c);
-        c.drawBitmap(mDrawBitmap.get(), 0, 0, null);
+
+        if (mDirectCanvas != null) {
+            endDirectDraw();
+        } else if (mAcquiredBitmap != null) {
+            drawDrawBitmap(c, null);
+        }
+
         drawCenterText(c);
     }
 
+    private void endDirectDraw() {
+
+        if (mDirectCanvas == null)
+            return;
+
+        mBitmapCanvas = mDirectBitmapCanvas;
+        mDirectBitmapCanvas = null;
+        mDirectCanvas = null;
+    }
+
+    /**
+     * Returns the erased bitmap for drawing the slices and points mBitmapCanvas to it. The bitmap
+     * of the previous frame is reused if it is still held, otherwise one is acquired from the
+     * shared RenderBitmapPool.
+     *
+     * @param width
+     * @param height
+     * @return
+     */
+    protected Bitmap acquireDrawBitmap(int width, int height) {
+
+        Bitmap drawBitmap = mAcquiredBitmap;
+
+        if (drawBitmap == null || drawBitmap.isRecycled()
+                || drawBitmap.getWidth() != width || drawBitmap.getHeight() != height
+                || drawBitmap.getConfig() != mBitmapConfig) {
+
+            releaseDrawBitmap();
+
+            drawBitmap = RenderBitmapPool.acquire(width, height, mBitmapConfig);
+            mAcquiredBitmap = drawBitmap;
+            mAcquiredBitmapShareable = true;
+            mDrawBitmap = new WeakReference<>(drawBitmap);
+        }
+
+        if (mBitmapCanvas == null)
+            mBitmapCanvas = new Canvas();
+
+        mBitmapCanvas.setBitmap(drawBitmap);
+        drawBitmap.eraseColor(Color.TRANSPARENT);
+
+        return drawBitmap;
+    }
+
+    /**
+     * Draws the bitmap returned by acquireDrawBitmap(...) onto the canvas of the view. Software
+     * canvases copy the bitmap right away, so it is returned to the pool for other charts of the
+     * same size. Hardware accelerated canvases draw it later, so it is kept by this renderer.
+     *
+     * @param c
+     * @param paint
+     */
+    protected void drawDrawBitmap(Canvas c, Paint paint) {
+
+        c.drawBitmap(mAcquiredBitmap, 0, 0, paint);
+
+        if (c.isHardwareAccelerated())
+            mAcquiredBitmapShareable = false;
+        else
+            releaseDrawBitmap();
+    }
+
+    /**
+     * Gives up the bitmap returned by acquireDrawBitmap(...). It is returned to the pool only if
+     * it was never drawn onto a hardware accelerated canvas, whose recorded drawing may still
+     * reference it, otherwise it is left to the garbage collector.
+     */
+    protected void releaseDrawBitmap() {
+
+        if (mAcquiredBitmap == null)
+            return;
+
+        if (mBitmapCanvas != null)
+            mBitmapCanvas.setBitmap(null);
+
+        if (mAcquiredBitmapShareable)
+            RenderBitmapPool.release(mAcquiredBitmap);
+
+        mAcquiredBitmap = null;
+    }
+
+    /**
+     * Sets the Bitmap.Config to be used by this renderer.
+     * Default: Bitmap.Config.ARGB_4444
+     * Use Bitmap.Config.ARGB_8888 for smoother slice edges.
+     *
+     * @param config
+     */
+    public void setBitmapConfig(Bitmap.Config config) {
+        mBitmapConfig = config;
+        releaseBitmap();
+    }
+
+    /**
+     * Returns the Bitmap.Config that is used by this renderer.
+     *
+     * @return
+     */
+    public Bitmap.Config getBitmapConfig() {
+        return mBitmapConfig;
+    }
+
+    /**
+     * If enabled, the slices, highlights and the hole are drawn straight onto the canvas of the
+     * view when it is hardware accelerated, without the intermediate bitmap.
+     * Default: false
+     *
+     * @param enabled
+     */
+    public void setDirectDrawEnabled(boolean enabled) {
+        mDirectDrawEnabled = enabled;
+    }
+
+    public boolean isDirectDrawEnabled() {
+        return mDirectDrawEnabled;
+    }
+
     private Path mHoleCirclePath = new Path();
 
     /**
@@ -1058,15 +1358,14 @@ public class PieChartRenderer extends DataRenderer {
      * Releases the drawing bitmap. This should be called when .
      */
     public void releaseBitmap() {
-        if (mBitmapCanvas != null) {
-            mBitmapCanvas.setBitmap(null);
-            mBitmapCanvas = null;
-        }
+        endDirectDraw();
+
+        // the drawing bitmap is never recycled, it may still be referenced by the pool or a display list
+        releaseDrawBitmap();
+
+        mBitmapCanvas = null;
+
         if (mDrawBitmap != null) {
-            Bitmap drawBitmap = mDrawBitmap.get();
-            if (drawBitmap != null) {
-                drawBitmap.recycle();
-            }
             mDrawBitmap.clear();
             mDrawBitmap = null;
         }
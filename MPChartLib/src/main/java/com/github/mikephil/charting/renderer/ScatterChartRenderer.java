@@ -11,7 +11,9 @@ import com.github.mikephil.charting.data.ScatterData;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.ScatterDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
+import com.github.mikephil.charting.renderer.scatter.IBatchShapeRenderer;
 import com.github.mikephil.charting.renderer.scatter.IShapeRenderer;
+import com.github.mikephil.charting.renderer.scatter.ShapeSpriteAtlas;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Transformer;
@@ -38,6 +40,8 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
 
         ScatterData scatterData = mChart.getScatterData();
 
+        mSpriteAtlas.beginFrame();
+
         for (IScatterDataSet set : scatterData.getDataSets()) {
 
             if (set.isVisible())
@@ -47,6 +51,16 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
 
     float[] mPixelBuffer = new float[2];
 
+    /**
+     * pixel positions of the visible points of one color, handed to IBatchShapeRenderers
+     */
+    protected float[] mBatchBuffer = new float[2];
+
+    /**
+     * pre-rendered shapes that can't be batched
+     */
+    protected ShapeSpriteAtlas mSpriteAtlas = new ShapeSpriteAtlas();
+
     protected void drawDataSet(Canvas c, IScatterDataSet dataSet) {
 
         if (dataSet.getEntryCount() < 1)
@@ -64,34 +78,124 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
             return;
         }
 
-        int max = (int)(Math.min(
-                Math.ceil((float)dataSet.getEntryCount() * mAnimator.getPhaseX()),
-                (float)dataSet.getEntryCount()));
+        mXBounds.set(mChart, dataSet);
+
+        // transform only the visible entries, all at once
+        final int count = mXBounds.range + 1;
+
+        if (mPixelBuffer.length < count * 2)
+            mPixelBuffer = new float[count * 2];
 
-        for (int i = 0; i < max; i++) {
+        for (int i = 0; i < count; i++) {
 
-            Entry e = dataSet.getEntryForIndex(i);
+            Entry e = dataSet.getEntryForIndex(mXBounds.min + i);
+
+            mPixelBuffer[i * 2] = e.getX();
+            mPixelBuffer[i * 2 + 1] = e.getY() * phaseY;
+        }
+
+        trans.pointValuesToPixel(mPixelBuffer, count);
+
+        if (renderer instanceof IBatchShapeRenderer) {
+            drawBatched(c, dataSet, (IBatchShapeRenderer) renderer, count);
+            return;
+        }
 
-            mPixelBuffer[0] = e.getX();
-            mPixelBuffer[1] = e.getY() * phaseY;
+        for (int i = 0; i < count; i++) {
 
-            trans.pointValuesToPixel(mPixelBuffer);
+            final float x = mPixelBuffer[i * 2];
+            final float y = mPixelBuffer[i * 2 + 1];
 
-            if (!viewPortHandler.isInBoundsRight(mPixelBuffer[0]))
+            if (!viewPortHandler.isInBoundsRight(x))
                 break;
 
-            if (!viewPortHandler.isInBoundsLeft(mPixelBuffer[0])
-                    || !viewPortHandler.isInBoundsY(mPixelBuffer[1]))
+            if (!viewPortHandler.isInBoundsLeft(x)
+                    || !viewPortHandler.isInBoundsY(y))
                 continue;
 
-            mRenderPaint.setColor(dataSet.getColor(i / 2));
+            mRenderPaint.setColor(dataSet.getColor((mXBounds.min + i) / 2));
             renderer.renderShape(
                     c, dataSet, mViewPortHandler,
-                    mPixelBuffer[0], mPixelBuffer[1],
+                    x, y,
                     mRenderPaint);
         }
     }
 
+    /**
+     * Draws the visible points of the pixel buffer in runs of the same color. Each run is drawn
+     * by the renderer in one batch, or stamped from a sprite if the shape can't be batched.
+     *
+     * @param c
+     * @param dataSet
+     * @param renderer
+     * @param count the number of points in the pixel buffer
+     */
+    protected void drawBatched(Canvas c, IScatterDataSet dataSet, IBatchShapeRenderer renderer, int count) {
+
+        if (mBatchBuffer.length < count * 2)
+            mBatchBuffer = new float[count * 2];
+
+        int runColor = 0;
+        int run = 0;
+
+        for (int i = 0; i < count; i++) {
+
+            final float x = mPixelBuffer[i * 2];
+            final float y = mPixelBuffer[i * 2 + 1];
+
+            if (!mViewPortHandler.isInBoundsRight(x))
+                break;
+
+            if (!mViewPortHandler.isInBoundsLeft(x)
+                    || !mViewPortHandler.isInBoundsY(y))
+                continue;
+
+            final int color = dataSet.getColor((mXBounds.min + i) / 2);
+
+            if (run > 0 && color != runColor) {
+                drawRun(c, dataSet, renderer, runColor, run);
+                run = 0;
+            }
+
+            runColor = color;
+            mBatchBuffer[run++] = x;
+            mBatchBuffer[run++] = y;
+        }
+
+        if (run > 0)
+            drawRun(c, dataSet, renderer, runColor, run);
+    }
+
+    private void drawRun(Canvas c, IScatterDataSet dataSet, IBatchShapeRenderer renderer, int color, int run) {
+
+        mRenderPaint.setColor(color);
+
+        if (renderer.renderShapes(c, dataSet, mViewPortHandler, mBatchBuffer, run, mRenderPaint))
+            return;
+
+        ShapeSpriteAtlas.Sprite sprite = mSpriteAtlas.getSprite(renderer, dataSet, mViewPortHandler,
+                color, mRenderPaint);
+
+        for (int j = 0; j < run; j += 2) {
+
+            if (sprite != null) {
+                c.drawBitmap(sprite.bitmap, mBatchBuffer[j] - sprite.offset,
+                        mBatchBuffer[j + 1] - sprite.offset, null);
+            } else {
+                mRenderPaint.setColor(color);
+                renderer.renderShape(c, dataSet, mViewPortHandler,
+                        mBatchBuffer[j], mBatchBuffer[j + 1], mRenderPaint);
+            }
+        }
+    }
+
+    /**
+     * Recycles the pre-rendered shapes. Should be called when the chart is detached from its window.
+     */
+    public void releaseSprites() {
+        mSpriteAtlas.clear();
+    }
+
     @Override
     public void drawValues(Canvas c) {
 
@@ -206,8 +206,8 @@ public class XAxisRenderer extends AxisRenderer {
             if (mViewPortHandler.isInBoundsX(x)) {
 
                 String label = mXAxis.isShowSpecificPositions() ?
-                        mXAxis.getValueFormatter().getFormattedValue(mXAxis.getSpecificPositions()[i / 2], mXAxis)
-                        : mXAxis.getValueFormatter().getFormattedValue(mXAxis.mEntries[i / 2], mXAxis);
+                        getFormattedValue(mXAxis.getSpecificPositions()[i / 2])
+                        : getFormattedValue(mXAxis.mEntries[i / 2]);
 
                 if (mXAxis.isAvoidFirstLastClippingEnabled()) {
 
@@ -154,7 +154,7 @@ public class XAxisRendererHorizontalBarChart extends XAxisRenderer {
 
             if (mViewPortHandler.isInBoundsY(y)) {
 
-                String label = mXAxis.getValueFormatter().getFormattedValue(mXAxis.mEntries[i / 2], mXAxis);
+                String label = getFormattedValue(mXAxis.mEntries[i / 2]);
                 drawLabel(c, label, pos, y, anchor, labelRotationAngleDegrees);
             }
         }
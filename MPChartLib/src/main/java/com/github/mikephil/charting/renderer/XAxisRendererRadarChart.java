@@ -43,7 +43,7 @@ public class XAxisRendererRadarChart extends XAxisRenderer {
         MPPointF pOut = MPPointF.getInstance(0,0);
         for (int i = 0; i < mChart.getData().getMaxEntryCountSet().getEntryCount(); i++) {
 
-            String label = mXAxis.getValueFormatter().getFormattedValue(i, mXAxis);
+            String label = getFormattedValue(i);
 
             float angle = (sliceangle * i + mChart.getRotationAngle()) % 360f;
 
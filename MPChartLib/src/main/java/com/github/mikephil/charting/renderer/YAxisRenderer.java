@@ -141,9 +141,9 @@ public class YAxisRenderer extends AxisRenderer {
         for (int i = from; i < to; i++) {
             String text;
             if (mYAxis.isShowSpecificPositions()) {
-                text = mYAxis.getValueFormatter().getFormattedValue(mYAxis.getSpecificPositions()[i], mYAxis);
+                text = getFormattedValue(mYAxis.getSpecificPositions()[i]);
             } else {
-                text = mYAxis.getFormattedLabel(i);
+                text = getFormattedLabel(i);
             }
 
             c.drawText(text,
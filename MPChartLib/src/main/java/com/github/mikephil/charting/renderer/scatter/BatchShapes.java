@@ -0,0 +1,62 @@
+package com.github.mikephil.charting.renderer.scatter;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+/**
+ * Helpers for the IBatchShapeRenderer implementations.
+ */
+final class BatchShapes {
+
+    private BatchShapes() {
+    }
+
+    /**
+     * Draws a dot of the given size at each position with a single drawPoints(...) call.
+     */
+    static void drawDots(Canvas c, float[] positions, int count, float size, Paint.Cap cap, Paint renderPaint) {
+
+        final Paint.Cap previousCap = renderPaint.getStrokeCap();
+
+        renderPaint.setStyle(Paint.Style.STROKE);
+        renderPaint.setStrokeWidth(size);
+        renderPaint.setStrokeCap(cap);
+
+        c.drawPoints(positions, 0, count, renderPaint);
+
+        renderPaint.setStrokeCap(previousCap);
+    }
+
+    /**
+     * Draws the line segments of the given pattern at each position with a single
+     * drawLines(...) call. The pattern holds x/y pairs relative to the position, which are
+     * scaled by the given factor.
+     *
+     * @return the buffer that was used, grown if necessary, to be passed again next time
+     */
+    static float[] drawLines(Canvas c, float[] positions, int count, float[] pattern, float scale,
+                             float[] buffer, Paint renderPaint) {
+
+        final int size = count / 2 * pattern.length;
+
+        if (buffer == null || buffer.length < size)
+            buffer = new float[size];
+
+        int j = 0;
+
+        for (int i = 0; i < count; i += 2) {
+
+            final float x = positions[i];
+            final float y = positions[i + 1];
+
+            for (int k = 0; k < pattern.length; k += 2) {
+                buffer[j++] = x + pattern[k] * scale;
+                buffer[j++] = y + pattern[k + 1] * scale;
+            }
+        }
+
+        c.drawLines(buffer, 0, size, renderPaint);
+
+        return buffer;
+    }
+}
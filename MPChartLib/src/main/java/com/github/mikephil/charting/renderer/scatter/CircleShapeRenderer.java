@@ -12,7 +12,7 @@ import com.github.mikephil.charting.utils.ViewPortHandler;
  * Created by wajdic on 15/06/2016.
  * Created at Time 09:08
  */
-public class CircleShapeRenderer implements IShapeRenderer
+public class CircleShapeRenderer implements IBatchShapeRenderer
 {
 
     @Override
@@ -60,4 +60,17 @@ public class CircleShapeRenderer implements IShapeRenderer
 
     }
 
+    @Override
+    public boolean renderShapes(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+                                float[] positions, int count, Paint renderPaint) {
+
+        // shapes with a hole are drawn as rings
+        if (dataSet.getScatterShapeHoleRadius() > 0f)
+            return false;
+
+        BatchShapes.drawDots(c, positions, count,
+                Utils.convertDpToPixel(dataSet.getScatterShapeSize()), Paint.Cap.ROUND, renderPaint);
+
+        return true;
+    }
 }
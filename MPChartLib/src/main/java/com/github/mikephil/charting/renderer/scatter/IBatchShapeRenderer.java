@@ -0,0 +1,30 @@
+package com.github.mikephil.charting.renderer.scatter;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+/**
+ * IShapeRenderer that can draw many shapes of the same color at once. Shapes drawn by an
+ * IBatchShapeRenderer only depend on their position through translation, so the
+ * ScatterChartRenderer may also stamp them from pre-rendered sprites if they can't be batched.
+ */
+public interface IBatchShapeRenderer extends IShapeRenderer {
+
+    /**
+     * Draws the shape at all given positions with as few draw calls as possible, in the color
+     * currently set on the paint.
+     *
+     * @param c               Canvas object for drawing the shapes
+     * @param dataSet         The DataSet to be drawn
+     * @param viewPortHandler Contains information about the current state of the view
+     * @param positions       Pixel positions as x/y pairs
+     * @param count           The number of values (not points) to read from positions
+     * @param renderPaint     Paint object used for styling and drawing
+     * @return false if the shape of the DataSet can't be batched (e.g. because it has a hole), in which case nothing is drawn
+     */
+    boolean renderShapes(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+                         float[] positions, int count, Paint renderPaint);
+}
@@ -0,0 +1,208 @@
+package com.github.mikephil.charting.renderer.scatter;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
+import com.github.mikephil.charting.utils.Utils;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache of pre-rendered scatter shapes, one bitmap per shape renderer, size, hole and color.
+ * Stamping a bitmap is much cheaper than drawing paths or rings for every point. Once the atlas
+ * is full, only sprites that were not used in the current or the previous frame are replaced,
+ * other shapes are not cached and have to be rendered for every point.
+ */
+public class ShapeSpriteAtlas {
+
+    /**
+     * shapes larger than this (in pixels) are not cached
+     */
+    public static final int MAX_SHAPE_SIZE = 128;
+
+    private final int mMaxSprites;
+
+    private final LinkedHashMap<Key, Sprite> mSprites;
+
+    private final Key mLookup = new Key();
+
+    private final Canvas mCanvas = new Canvas();
+
+    /**
+     * the current frame, see beginFrame()
+     */
+    private int mFrame = 0;
+
+    /**
+     * the last frame in which the least recently used sprite was found to be still in use, no
+     * sprite can be replaced until the next frame
+     */
+    private int mFullFrame = -1;
+
+    /**
+     * A pre-rendered shape. The shape's position is at (offset, offset) in the bitmap.
+     */
+    public static final class Sprite {
+
+        public final Bitmap bitmap;
+        public final float offset;
+
+        /**
+         * the frame in which the sprite was used last
+         */
+        int lastFrame;
+
+        Sprite(Bitmap bitmap, float offset) {
+            this.bitmap = bitmap;
+            this.offset = offset;
+        }
+    }
+
+    private static final class Key {
+
+        IShapeRenderer renderer;
+        float size;
+        float holeRadius;
+        int holeColor;
+        int color;
+
+        Key set(IShapeRenderer renderer, float size, float holeRadius, int holeColor, int color) {
+            this.renderer = renderer;
+            this.size = size;
+            this.holeRadius = holeRadius;
+            this.holeColor = holeColor;
+            this.color = color;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key))
+                return false;
+
+            Key k = (Key) o;
+            return renderer == k.renderer && size == k.size && holeRadius == k.holeRadius
+                    && holeColor == k.holeColor && color == k.color;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(renderer);
+            result = 31 * result + Float.floatToIntBits(size);
+            result = 31 * result + Float.floatToIntBits(holeRadius);
+            result = 31 * result + holeColor;
+            result = 31 * result + color;
+            return result;
+        }
+    }
+
+    public ShapeSpriteAtlas() {
+        this(32);
+    }
+
+    /**
+     * @param maxSprites the number of sprites kept at most
+     */
+    public ShapeSpriteAtlas(int maxSprites) {
+        if (maxSprites < 1)
+            throw new IllegalArgumentException("maxSprites needs to be at least 1");
+
+        mMaxSprites = maxSprites;
+        mSprites = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Starts a new frame, sprites not used in this or the previous frame can be replaced.
+     */
+    public void beginFrame() {
+        mFrame++;
+    }
+
+    /**
+     * Returns the sprite of the given renderer for the shape settings of the DataSet in the
+     * given color, rendering it if it isn't cached yet. Returns null if the shape is too large
+     * to be cached, or if the atlas is full of sprites that are still in use.
+     *
+     * @param renderer    renderer of the shape, only depending on the position through translation
+     * @param dataSet
+     * @param viewPortHandler
+     * @param color
+     * @param renderPaint paint the sprite is rendered with, its color is changed
+     * @return
+     */
+    public Sprite getSprite(IBatchShapeRenderer renderer, IScatterDataSet dataSet,
+                            ViewPortHandler viewPortHandler, int color, Paint renderPaint) {
+
+        final float size = Utils.convertDpToPixel(dataSet.getScatterShapeSize());
+
+        if (size <= 0f || size > MAX_SHAPE_SIZE)
+            return null;
+
+        mLookup.set(renderer, dataSet.getScatterShapeSize(), dataSet.getScatterShapeHoleRadius(),
+                dataSet.getScatterShapeHoleColor(), color);
+
+        Sprite sprite = mSprites.get(mLookup);
+
+        if (sprite == null) {
+
+            if (mSprites.size() >= mMaxSprites && !removeUnused())
+                return null;
+
+            // room for shapes extending a full size from their position (chevrons) and strokes
+            final int offset = (int) Math.ceil(size) + 2;
+
+            Bitmap bitmap = Bitmap.createBitmap(offset * 2, offset * 2, Bitmap.Config.ARGB_8888);
+            mCanvas.setBitmap(bitmap);
+
+            renderPaint.setColor(color);
+            renderer.renderShape(mCanvas, dataSet, viewPortHandler, offset, offset, renderPaint);
+
+            mCanvas.setBitmap(null);
+
+            sprite = new Sprite(bitmap, offset);
+            mSprites.put(new Key().set(renderer, mLookup.size, mLookup.holeRadius,
+                    mLookup.holeColor, color), sprite);
+        }
+
+        sprite.lastFrame = mFrame;
+
+        return sprite;
+    }
+
+    /**
+     * Drops the least recently used sprite if it was not used in this or the previous frame.
+     * Returns false if it is still in use.
+     */
+    private boolean removeUnused() {
+
+        // all other sprites were used more recently
+        if (mFullFrame == mFrame)
+            return false;
+
+        Iterator<Map.Entry<Key, Sprite>> it = mSprites.entrySet().iterator();
+
+        if (it.next().getValue().lastFrame >= mFrame - 1) {
+            mFullFrame = mFrame;
+            return false;
+        }
+
+        // not recycled, the bitmap may still be referenced by a recorded frame
+        it.remove();
+        return true;
+    }
+
+    /**
+     * Recycles all sprites.
+     */
+    public void clear() {
+        for (Sprite sprite : mSprites.values())
+            sprite.bitmap.recycle();
+
+        mSprites.clear();
+    }
+}
@@ -13,7 +13,7 @@ import com.github.mikephil.charting.utils.ViewPortHandler;
  * Created by wajdic on 15/06/2016.
  * Created at Time 09:08
  */
-public class TriangleShapeRenderer implements IShapeRenderer
+public class TriangleShapeRenderer implements IBatchShapeRenderer
 {
 
     protected Path mTrianglePathBuffer = new Path();
@@ -77,4 +77,10 @@ public class TriangleShapeRenderer implements IShapeRenderer
 
     }
 
-}
\ No newline at end of file
+    @Override
+    public boolean renderShapes(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+                                float[] positions, int count, Paint renderPaint) {
+        // filled paths can't be batched, the triangles are stamped from sprites instead
+        return false;
+    }
+}
@@ -11,9 +11,18 @@ import com.github.mikephil.charting.utils.ViewPortHandler;
  * Created by wajdic on 15/06/2016.
  * Created at Time 09:08
  */
-public class XShapeRenderer implements IShapeRenderer
+public class XShapeRenderer implements IBatchShapeRenderer
 {
 
+    /**
+     * line segments of the shape relative to its position, in units of half the shape size
+     */
+    private static final float[] SEGMENTS = {
+            -1f, -1f, 1f, 1f,
+            1f, -1f, -1f, 1f
+    };
+
+    private float[] mLineBuffer;
 
     @Override
     public void renderShape(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
@@ -39,4 +48,17 @@ public class XShapeRenderer implements IShapeRenderer
 
     }
 
-}
\ No newline at end of file
+    @Override
+    public boolean renderShapes(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+                                float[] positions, int count, Paint renderPaint) {
+
+        final float shapeHalf = Utils.convertDpToPixel(dataSet.getScatterShapeSize()) / 2f;
+
+        renderPaint.setStyle(Paint.Style.STROKE);
+        renderPaint.setStrokeWidth(Utils.convertDpToPixel(1f));
+
+        mLineBuffer = BatchShapes.drawLines(c, positions, count, SEGMENTS, shapeHalf, mLineBuffer, renderPaint);
+
+        return true;
+    }
+}
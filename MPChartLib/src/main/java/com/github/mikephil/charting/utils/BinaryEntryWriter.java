@@ -0,0 +1,174 @@
+package com.github.mikephil.charting.utils;
+
+import com.github.mikephil.charting.data.MappedLineDataSet;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * Writes x- and y-values into the binary file format read by MappedLineDataSet. Values are
+ * streamed to the file, so files with millions of values can be written without holding them in
+ * memory. The values need to be written in ascending x-order. The header is written on close(),
+ * if writing fails, abort() deletes the incomplete file instead.
+ */
+public class BinaryEntryWriter implements Closeable {
+
+    private final File mPath;
+    private final RandomAccessFile mFile;
+    private final FileChannel mChannel;
+    private final ByteBuffer mBuffer;
+    private final boolean mDoublePrecision;
+
+    private int mCount = 0;
+
+    private double mXMin = Double.MAX_VALUE;
+    private double mXMax = -Double.MAX_VALUE;
+    private double mYMin = Double.MAX_VALUE;
+    private double mYMax = -Double.MAX_VALUE;
+
+    private double mFirstX;
+    private double mXStep;
+    private boolean mUniform = true;
+
+    /**
+     * Creates a writer for the given file, existing content is overwritten.
+     *
+     * @param file
+     * @param doublePrecision if true, values are stored as 64 bit doubles, otherwise as 32 bit
+     *                        floats
+     * @throws IOException
+     */
+    public BinaryEntryWriter(File file, boolean doublePrecision) throws IOException {
+        mPath = file;
+        mFile = new RandomAccessFile(file, "rw");
+        mFile.setLength(0);
+        mChannel = mFile.getChannel();
+        mDoublePrecision = doublePrecision;
+
+        mBuffer = ByteBuffer.allocateDirect(64 * 1024).order(ByteOrder.LITTLE_ENDIAN);
+
+        // room for the header, written on close
+        mChannel.position(MappedLineDataSet.HEADER_SIZE);
+    }
+
+    /**
+     * Returns the number of values written so far.
+     *
+     * @return
+     */
+    public int getCount() {
+        return mCount;
+    }
+
+    /**
+     * Appends the given values. The x-value must not be lower than the previous one.
+     *
+     * @param x
+     * @param y
+     * @throws IOException
+     */
+    public void write(double x, double y) throws IOException {
+
+        if (mCount > 0 && x < mXMax)
+            throw new IllegalArgumentException("x-values need to be written in ascending order");
+
+        if (mCount == Integer.MAX_VALUE)
+            throw new IllegalStateException("too many values");
+
+        if (mBuffer.remaining() < 16)
+            flush();
+
+        if (mDoublePrecision) {
+            mBuffer.putDouble(x);
+            mBuffer.putDouble(y);
+        } else {
+            mBuffer.putFloat((float) x);
+            mBuffer.putFloat((float) y);
+        }
+
+        if (mCount == 0) {
+            mFirstX = x;
+        } else if (mCount == 1) {
+            mXStep = x - mFirstX;
+            mUniform = mXStep > 0.0;
+        } else if (mUniform) {
+            mUniform = Math.abs(x - (mFirstX + mCount * mXStep)) <= mXStep * 0.001;
+        }
+
+        mXMin = Math.min(mXMin, x);
+        mXMax = Math.max(mXMax, x);
+        mYMin = Math.min(mYMin, y);
+        mYMax = Math.max(mYMax, y);
+
+        mCount++;
+    }
+
+    private void flush() throws IOException {
+        mBuffer.flip();
+
+        while (mBuffer.hasRemaining())
+            mChannel.write(mBuffer);
+
+        mBuffer.clear();
+    }
+
+    /**
+     * Writes the remaining values and the header, and closes the file.
+     *
+     * @throws IOException
+     */
+    @Override
+    public void close() throws IOException {
+
+        try {
+            flush();
+
+            int flags = 0;
+
+            if (mDoublePrecision)
+                flags |= MappedLineDataSet.FLAG_DOUBLE_PRECISION;
+
+            if (mUniform && mCount > 1)
+                flags |= MappedLineDataSet.FLAG_UNIFORM_X;
+
+            mBuffer.putInt(MappedLineDataSet.MAGIC);
+            mBuffer.putInt(MappedLineDataSet.VERSION);
+            mBuffer.putInt(flags);
+            mBuffer.putInt(mCount);
+            mBuffer.putDouble(mXMin);
+            mBuffer.putDouble(mXMax);
+            mBuffer.putDouble(mYMin);
+            mBuffer.putDouble(mYMax);
+            mBuffer.flip();
+
+            mChannel.position(0);
+
+            while (mBuffer.hasRemaining())
+                mChannel.write(mBuffer);
+
+        } finally {
+            mFile.close();
+        }
+    }
+
+    /**
+     * Closes and deletes the file without writing the header, used if writing the values failed.
+     * The file can't be mistaken for a complete one afterwards.
+     *
+     * @throws IOException
+     */
+    public void abort() throws IOException {
+
+        try {
+            mFile.close();
+        } finally {
+            if (mPath.exists() && !mPath.delete())
+                throw new IOException("Can't delete " + mPath);
+        }
+    }
+}
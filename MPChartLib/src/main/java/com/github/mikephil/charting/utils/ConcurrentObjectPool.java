@@ -0,0 +1,243 @@
+package com.github.mikephil.charting.utils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An object pool for Poolable instances that are requested from several threads, e.g. the
+ * points handed out by MPPointF and MPPointD. Each thread gets and recycles objects through a
+ * small cache of its own, which is filled from and drained to a shared ObjectPool in batches.
+ * Most calls therefore run without taking a lock, and the lock of the shared pool is only taken
+ * once per batch.
+ *
+ * Objects in a thread cache belong to the shared pool, so recycling an object twice, or into a
+ * different pool, still fails the same way as with ObjectPool. The pool keeps no reference to
+ * the thread caches, objects left in the cache of a thread that ended are garbage collected
+ * with it and replaced by replenishing the shared pool.
+ */
+public class ConcurrentObjectPool<T extends ObjectPool.Poolable> {
+
+    /**
+     * default number of objects a thread cache can hold
+     */
+    public static final int DEFAULT_CACHE_SIZE = 16;
+
+    private final ObjectPool<T> mShared;
+
+    private final int mCacheSize;
+
+    private final AtomicLong mHitCount = new AtomicLong();
+
+    private final AtomicLong mMissCount = new AtomicLong();
+
+    private final ThreadLocal<Cache> mCache = new ThreadLocal<Cache>() {
+        @Override
+        protected Cache initialValue() {
+            return new Cache(mCacheSize);
+        }
+    };
+
+    private static final class Cache {
+
+        final Object[] objects;
+        int count;
+
+        /**
+         * hits not yet added to mHitCount, added whenever the cache goes to the shared pool
+         */
+        long hits;
+
+        Cache(int size) {
+            objects = new Object[size];
+        }
+    }
+
+    /**
+     * Returns a ConcurrentObjectPool, of a given starting capacity, that recycles instances of a
+     * given Poolable object.
+     *
+     * @param withCapacity A positive integer value.
+     * @param object An instance of the object that the pool should recycle.
+     * @return
+     */
+    public static ConcurrentObjectPool create(int withCapacity, ObjectPool.Poolable object) {
+        return new ConcurrentObjectPool(withCapacity, DEFAULT_CACHE_SIZE, object);
+    }
+
+    /**
+     * Returns a ConcurrentObjectPool, of a given starting capacity, that recycles instances of a
+     * given Poolable object.
+     *
+     * @param withCapacity A positive integer value.
+     * @param cacheSize the number of objects each thread can hold without taking a lock, at least 2
+     * @param object An instance of the object that the pool should recycle.
+     * @return
+     */
+    public static ConcurrentObjectPool create(int withCapacity, int cacheSize, ObjectPool.Poolable object) {
+        return new ConcurrentObjectPool(withCapacity, cacheSize, object);
+    }
+
+    private ConcurrentObjectPool(int withCapacity, int cacheSize, T object) {
+        if (cacheSize < 2) {
+            throw new IllegalArgumentException("The thread cache of a ConcurrentObjectPool must hold at least 2 objects!");
+        }
+
+        mShared = ObjectPool.create(withCapacity, object);
+        mCacheSize = cacheSize;
+    }
+
+    /**
+     * Returns the id of the given pool instance.
+     *
+     * @return an integer ID belonging to this pool instance.
+     */
+    public int getPoolId() {
+        return mShared.getPoolId();
+    }
+
+    /**
+     * Set the percentage of the shared pool to replenish on empty.  Valid values are between
+     * 0.00f and 1.00f
+     *
+     * @param percentage a value between 0 and 1, representing the percentage of the pool to replenish.
+     */
+    public void setReplenishPercentage(float percentage) {
+        mShared.setReplenishPercentage(percentage);
+    }
+
+    public float getReplenishPercentage() {
+        return mShared.getReplenishPercentage();
+    }
+
+    /**
+     * Returns an instance of Poolable. If the cache of the calling thread is empty, it is
+     * refilled with half its size from the shared pool, which is replenished if necessary.
+     *
+     * @return An instance of Poolable object T
+     */
+    public T get() {
+
+        final Cache cache = mCache.get();
+
+        if (cache.count == 0) {
+            cache.count = mShared.take(cache.objects, mCacheSize / 2);
+            mMissCount.incrementAndGet();
+            flushHits(cache);
+        } else {
+            cache.hits++;
+        }
+
+        T result = (T) cache.objects[--cache.count];
+        cache.objects[cache.count] = null;
+        result.currentOwnerId = ObjectPool.Poolable.NO_OWNER;
+
+        return result;
+    }
+
+    /**
+     * Recycle an instance of Poolable that this pool is capable of generating.
+     * The T instance passed must not already exist inside this or any other pool instance.
+     * If the cache of the calling thread is full, half of it is moved to the shared pool.
+     *
+     * @param object An object of type T to recycle
+     */
+    public void recycle(T object) {
+
+        final int poolId = mShared.getPoolId();
+
+        if (object.currentOwnerId != ObjectPool.Poolable.NO_OWNER) {
+            if (object.currentOwnerId == poolId) {
+                throw new IllegalArgumentException("The object passed is already stored in this pool!");
+            } else {
+                throw new IllegalArgumentException("The object to recycle already belongs to poolId " + object.currentOwnerId + ".  Object cannot belong to two different pool instances simultaneously!");
+            }
+        }
+
+        final Cache cache = mCache.get();
+
+        if (cache.count == mCacheSize) {
+            final int keep = mCacheSize / 2;
+            mShared.put(cache.objects, keep, mCacheSize - keep);
+
+            for (int i = keep; i < mCacheSize; i++)
+                cache.objects[i] = null;
+
+            cache.count = keep;
+            flushHits(cache);
+        }
+
+        object.currentOwnerId = poolId;
+        cache.objects[cache.count++] = object;
+    }
+
+    private void flushHits(Cache cache) {
+        if (cache.hits > 0) {
+            mHitCount.addAndGet(cache.hits);
+            cache.hits = 0;
+        }
+    }
+
+    /**
+     * Recycle a List of Poolables that this pool is capable of generating.
+     * The T instances passed must not already exist inside this or any other pool instance.
+     *
+     * @param objects A list of objects of type T to recycle
+     */
+    public void recycle(List<T> objects) {
+        final int objectsListSize = objects.size();
+
+        for (int i = 0; i < objectsListSize; i++) {
+            recycle(objects.get(i));
+        }
+    }
+
+    /**
+     * Returns the capacity of the shared pool.
+     *
+     * @return The capacity of the shared pool.
+     */
+    public int getPoolCapacity() {
+        return mShared.getPoolCapacity();
+    }
+
+    /**
+     * Returns the number of objects remaining in the shared pool and the cache of the calling
+     * thread, for diagnostic purposes. Objects in the caches of other threads are not counted.
+     *
+     * @return The number of objects available to the calling thread.
+     */
+    public int getPoolCount() {
+        return mShared.getPoolCount() + mCache.get().count;
+    }
+
+    /**
+     * Returns the number of get() calls served from a thread cache, for diagnostic purposes.
+     * Hits are counted in the thread caches and added up whenever a cache goes to the shared
+     * pool, hits of other threads since then are not counted yet.
+     *
+     * @return the number of hits
+     */
+    public long getHitCount() {
+        return mHitCount.get() + mCache.get().hits;
+    }
+
+    /**
+     * Returns the number of get() calls that found the thread cache empty and had to go to the
+     * shared pool, for diagnostic purposes.
+     *
+     * @return the number of misses
+     */
+    public long getMissCount() {
+        return mMissCount.get();
+    }
+
+    /**
+     * Returns how often new objects were instantiated to replenish the shared pool, including
+     * the initial fill, for diagnostic purposes.
+     *
+     * @return the number of replenishments
+     */
+    public long getReplenishCount() {
+        return mShared.getReplenishCount();
+    }
+}
@@ -14,10 +14,10 @@ public final class FSize extends ObjectPool.Poolable{
     public float width;
     public float height;
 
-    private static ObjectPool<FSize> pool;
+    private static ConcurrentObjectPool<FSize> pool;
 
     static {
-        pool = ObjectPool.create(256, new FSize(0,0));
+        pool = ConcurrentObjectPool.create(256, new FSize(0,0));
         pool.setReplenishPercentage(0.5f);
     }
 
@@ -227,6 +227,86 @@ public class FileUtils {
         }
     }
 
+    /**
+     * Converts a textfile in the format written by saveToSdCard(...) (one "y#x" line per Entry,
+     * stacked values as "y1#y2#...#x") into the binary format read by MappedLineDataSet. Stacked
+     * values are stored as their sum. The file is converted line by line, without loading it into
+     * memory. The entries need to be sorted by x-value. Returns true if successful, otherwise the
+     * binary file is deleted.
+     *
+     * @param textFile
+     * @param binaryFile
+     * @param doublePrecision if true, values are stored as doubles instead of floats
+     * @return
+     */
+    public static boolean convertToBinaryFile(File textFile, File binaryFile, boolean doublePrecision) {
+
+        BufferedReader reader = null;
+        BinaryEntryWriter writer = null;
+
+        try {
+            reader = new BufferedReader(new FileReader(textFile));
+            writer = new BinaryEntryWriter(binaryFile, doublePrecision);
+
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+
+                String[] split = line.split("#");
+
+                if (split.length < 2)
+                    continue;
+
+                if (split.length <= 2) {
+                    writer.write(Double.parseDouble(split[1]), Double.parseDouble(split[0]));
+                } else {
+
+                    double sum = 0.0;
+
+                    for (int i = 0; i < split.length - 1; i++) {
+                        sum += Double.parseDouble(split[i]);
+                    }
+
+                    writer.write(Double.parseDouble(split[split.length - 1]), sum);
+                }
+            }
+
+            // the header is only written once all values are, if that fails the file is deleted
+            writer.close();
+            writer = null;
+
+            return true;
+
+        } catch (IOException e) {
+            Log.e(LOG, e.toString());
+            return false;
+
+        } catch (IllegalArgumentException e) {
+            // not a number, or not sorted by x-value
+            Log.e(LOG, e.toString());
+            return false;
+
+        } finally {
+
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    Log.e(LOG, e.toString());
+                }
+            }
+
+            // conversion failed, don't leave a truncated file behind
+            if (writer != null) {
+                try {
+                    writer.abort();
+                } catch (IOException e) {
+                    Log.e(LOG, e.toString());
+                }
+            }
+        }
+    }
+
     public static List<BarEntry> loadBarEntriesFromAssets(AssetManager am, String path) {
 
         List<BarEntry> entries = new ArrayList<BarEntry>();
@@ -52,6 +52,11 @@ public class Fill
      */
     private int mAlpha = 255;
 
+    /**
+     * rect reused for drawing rounded bars
+     */
+    private final RectF mRectBuffer = new RectF();
+
     public Fill()
     {
     }
@@ -190,7 +195,8 @@ public class Fill
                     paint.setStyle(Paint.Style.FILL);
                     paint.setColor(mFinalColor);
 
-                    c.drawRoundRect(new RectF(left, top, right, bottom), mRoundedBarRadius, mRoundedBarRadius, paint);
+                    mRectBuffer.set(left, top, right, bottom);
+                    c.drawRoundRect(mRectBuffer, mRoundedBarRadius, mRoundedBarRadius, paint);
 
                     // restore
                     paint.setColor(previousColor);
@@ -230,7 +236,8 @@ public class Fill
 
                 paint.setShader(gradient);
 
-                c.drawRoundRect(new RectF(left, top, right, bottom), mRoundedBarRadius, mRoundedBarRadius, paint);
+                mRectBuffer.set(left, top, right, bottom);
+                c.drawRoundRect(mRectBuffer, mRoundedBarRadius, mRoundedBarRadius, paint);
             }
             break;
 
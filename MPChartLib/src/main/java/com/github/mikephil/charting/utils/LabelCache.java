@@ -0,0 +1,230 @@
+package com.github.mikephil.charting.utils;
+
+import com.github.mikephil.charting.components.AxisBase;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.formatter.IAxisValueFormatter;
+import com.github.mikephil.charting.formatter.IValueFormatter;
+import com.github.mikephil.charting.interfaces.datasets.IColumnarDataSet;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of formatted value and axis labels, so that labels which did not change are
+ * not formatted again every frame. Labels are keyed by the formatter instance, the entry or
+ * axis they belong to and the bits of the formatted value. Entries of an IColumnarDataSet are
+ * created for every lookup, their labels are keyed by the DataSet and the x-value instead. The
+ * least recently used labels are dropped once the cache is full.
+ *
+ * Formatters whose output depends on anything else (e.g. the scale of the chart) must not be
+ * used with a cache, and the cache has to be cleared after a formatter is changed in place.
+ * Renderers don't use a cache unless one is set.
+ */
+public class LabelCache {
+
+    private final int mMaxLabels;
+
+    private final LinkedHashMap<Key, String> mLabels;
+
+    private final Key mLookup = new Key();
+
+    private long mHits = 0;
+
+    private long mMisses = 0;
+
+    private long mEvictions = 0;
+
+    private static final class Key {
+
+        Object formatter;
+        Object owner;
+        int xBits;
+        int valueBits;
+        int dataSetIndex;
+
+        Key set(Object formatter, Object owner, int xBits, int valueBits, int dataSetIndex) {
+            this.formatter = formatter;
+            this.owner = owner;
+            this.xBits = xBits;
+            this.valueBits = valueBits;
+            this.dataSetIndex = dataSetIndex;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key))
+                return false;
+
+            Key k = (Key) o;
+            return formatter == k.formatter && owner == k.owner && xBits == k.xBits
+                    && valueBits == k.valueBits && dataSetIndex == k.dataSetIndex;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(formatter);
+            result = 31 * result + System.identityHashCode(owner);
+            result = 31 * result + xBits;
+            result = 31 * result + valueBits;
+            result = 31 * result + dataSetIndex;
+            return result;
+        }
+    }
+
+    public LabelCache() {
+        this(512);
+    }
+
+    /**
+     * @param maxLabels the number of labels kept before the least recently used is dropped
+     */
+    public LabelCache(int maxLabels) {
+        if (maxLabels < 1)
+            throw new IllegalArgumentException("maxLabels needs to be at least 1");
+
+        mMaxLabels = maxLabels;
+        mLabels = new LinkedHashMap<Key, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, String> eldest) {
+                if (size() > mMaxLabels) {
+                    mEvictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the label of the given value of an entry, formatting it if it isn't cached yet.
+     *
+     * @param formatter
+     * @param value
+     * @param entry
+     * @param dataSetIndex
+     * @param viewPortHandler
+     * @return
+     */
+    public String getFormattedValue(IValueFormatter formatter, float value, Entry entry,
+                                    int dataSetIndex, ViewPortHandler viewPortHandler) {
+        return getFormattedValue(formatter, value, entry, entry, 0, dataSetIndex, viewPortHandler);
+    }
+
+    /**
+     * Returns the label of the given value of an entry of a columnar DataSet, formatting it if it
+     * isn't cached yet. The label is keyed by the DataSet and the x-value of the entry, as the
+     * entry is a new object on every lookup.
+     *
+     * @param formatter
+     * @param value
+     * @param entry
+     * @param dataSet the DataSet the entry belongs to
+     * @param dataSetIndex
+     * @param viewPortHandler
+     * @return
+     */
+    public String getFormattedValue(IValueFormatter formatter, float value, Entry entry,
+                                    IColumnarDataSet dataSet, int dataSetIndex,
+                                    ViewPortHandler viewPortHandler) {
+        return getFormattedValue(formatter, value, entry, dataSet,
+                Float.floatToIntBits(entry.getX()), dataSetIndex, viewPortHandler);
+    }
+
+    private String getFormattedValue(IValueFormatter formatter, float value, Entry entry,
+                                     Object owner, int xBits, int dataSetIndex,
+                                     ViewPortHandler viewPortHandler) {
+
+        final int valueBits = Float.floatToIntBits(value);
+
+        String label = mLabels.get(mLookup.set(formatter, owner, xBits, valueBits, dataSetIndex));
+
+        if (label != null) {
+            mHits++;
+            return label;
+        }
+
+        mMisses++;
+        label = formatter.getFormattedValue(value, entry, dataSetIndex, viewPortHandler);
+
+        if (label != null)
+            mLabels.put(new Key().set(formatter, owner, xBits, valueBits, dataSetIndex), label);
+
+        return label;
+    }
+
+    /**
+     * Returns the label of the given value of an axis, formatting it if it isn't cached yet.
+     *
+     * @param formatter
+     * @param value
+     * @param axis
+     * @return
+     */
+    public String getFormattedValue(IAxisValueFormatter formatter, float value, AxisBase axis) {
+
+        final int valueBits = Float.floatToIntBits(value);
+
+        String label = mLabels.get(mLookup.set(formatter, axis, 0, valueBits, -1));
+
+        if (label != null) {
+            mHits++;
+            return label;
+        }
+
+        mMisses++;
+        label = formatter.getFormattedValue(value, axis);
+
+        if (label != null)
+            mLabels.put(new Key().set(formatter, axis, 0, valueBits, -1), label);
+
+        return label;
+    }
+
+    /**
+     * Drops all labels, e.g. after a formatter was changed in place. The counters are kept.
+     */
+    public void clear() {
+        mLabels.clear();
+    }
+
+    /**
+     * Returns the number of cached labels.
+     *
+     * @return
+     */
+    public int size() {
+        return mLabels.size();
+    }
+
+    public long getHitCount() {
+        return mHits;
+    }
+
+    public long getMissCount() {
+        return mMisses;
+    }
+
+    public long getEvictionCount() {
+        return mEvictions;
+    }
+
+    /**
+     * Returns the share of lookups that were served from the cache, between 0 and 1.
+     *
+     * @return
+     */
+    public float getHitRate() {
+        final long lookups = mHits + mMisses;
+        return lookups == 0 ? 0f : (float) mHits / lookups;
+    }
+
+    /**
+     * Resets the hit, miss and eviction counters.
+     */
+    public void resetStats() {
+        mHits = 0;
+        mMisses = 0;
+        mEvictions = 0;
+    }
+}
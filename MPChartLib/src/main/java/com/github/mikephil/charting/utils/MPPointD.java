@@ -10,10 +10,10 @@ import java.util.List;
  */
 public class MPPointD extends ObjectPool.Poolable {
 
-    private static ObjectPool<MPPointD> pool;
+    private static ConcurrentObjectPool<MPPointD> pool;
 
     static {
-        pool = ObjectPool.create(64, new MPPointD(0,0));
+        pool = ConcurrentObjectPool.create(64, new MPPointD(0,0));
         pool.setReplenishPercentage(0.5f);
     }
 
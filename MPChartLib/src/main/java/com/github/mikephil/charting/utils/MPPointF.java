@@ -10,13 +10,13 @@ import java.util.List;
  */
 public class MPPointF extends ObjectPool.Poolable {
 
-    private static ObjectPool<MPPointF> pool;
+    private static ConcurrentObjectPool<MPPointF> pool;
 
     public float x;
     public float y;
 
     static {
-        pool = ObjectPool.create(32, new MPPointF(0,0));
+        pool = ConcurrentObjectPool.create(32, new MPPointF(0,0));
         pool.setReplenishPercentage(0.5f);
     }
 
@@ -0,0 +1,155 @@
+package com.github.mikephil.charting.utils;
+
+import java.util.Arrays;
+
+/**
+ * Segment tree over a list of value ranges (one minimum and one maximum per index) that answers
+ * "lowest minimum / highest maximum between index from and index to" in O(log n). Setting a value
+ * or appending one is O(log n) as well, the tree grows by doubling its capacity.
+ */
+public class MinMaxSegmentTree {
+
+    /**
+     * number of leaves, always a power of two
+     */
+    private int mCapacity;
+
+    /**
+     * number of values that have been added
+     */
+    private int mSize = 0;
+
+    /**
+     * node arrays, node i has the children 2i and 2i + 1, the leaves start at mCapacity
+     */
+    private float[] mMin;
+    private float[] mMax;
+
+    public MinMaxSegmentTree(int initialCapacity) {
+        allocate(Math.max(1, Integer.highestOneBit(Math.max(1, initialCapacity - 1)) << 1));
+    }
+
+    private void allocate(int capacity) {
+        mCapacity = capacity;
+        mMin = new float[capacity * 2];
+        mMax = new float[capacity * 2];
+        Arrays.fill(mMin, Float.MAX_VALUE);
+        Arrays.fill(mMax, -Float.MAX_VALUE);
+    }
+
+    /**
+     * Returns the number of values in the tree.
+     *
+     * @return
+     */
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * Removes all values.
+     */
+    public void clear() {
+        Arrays.fill(mMin, Float.MAX_VALUE);
+        Arrays.fill(mMax, -Float.MAX_VALUE);
+        mSize = 0;
+    }
+
+    /**
+     * Appends the given range.
+     *
+     * @param min
+     * @param max
+     */
+    public void add(float min, float max) {
+        set(mSize, min, max);
+    }
+
+    /**
+     * Sets the range at the given index, growing the tree if needed.
+     *
+     * @param index
+     * @param min
+     * @param max
+     */
+    public void set(int index, float min, float max) {
+
+        if (index >= mCapacity)
+            grow(index + 1);
+
+        if (index >= mSize)
+            mSize = index + 1;
+
+        int node = index + mCapacity;
+        mMin[node] = min;
+        mMax[node] = max;
+
+        for (node >>= 1; node > 0; node >>= 1) {
+            mMin[node] = Math.min(mMin[2 * node], mMin[2 * node + 1]);
+            mMax[node] = Math.max(mMax[2 * node], mMax[2 * node + 1]);
+        }
+    }
+
+    private void grow(int minCapacity) {
+
+        final float[] oldMin = mMin;
+        final float[] oldMax = mMax;
+        final int oldCapacity = mCapacity;
+
+        int capacity = oldCapacity;
+        while (capacity < minCapacity)
+            capacity <<= 1;
+
+        allocate(capacity);
+
+        System.arraycopy(oldMin, oldCapacity, mMin, capacity, oldCapacity);
+        System.arraycopy(oldMax, oldCapacity, mMax, capacity, oldCapacity);
+
+        for (int node = capacity - 1; node > 0; node--) {
+            mMin[node] = Math.min(mMin[2 * node], mMin[2 * node + 1]);
+            mMax[node] = Math.max(mMax[2 * node], mMax[2 * node + 1]);
+        }
+    }
+
+    /**
+     * Returns the lowest minimum between the given indices (both inclusive).
+     *
+     * @param from
+     * @param to
+     * @return
+     */
+    public float getMin(int from, int to) {
+
+        float min = Float.MAX_VALUE;
+
+        for (int l = from + mCapacity, r = to + mCapacity + 1; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1)
+                min = Math.min(min, mMin[l++]);
+            if ((r & 1) == 1)
+                min = Math.min(min, mMin[--r]);
+        }
+
+        return min;
+    }
+
+    /**
+     * Returns the highest maximum between the given indices (both inclusive).
+     *
+     * @param from
+     * @param to
+     * @return
+     */
+    public float getMax(int from, int to) {
+
+        float max = -Float.MAX_VALUE;
+
+        for (int l = from + mCapacity, r = to + mCapacity + 1; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1)
+                max = Math.max(max, mMax[l++]);
+            if ((r & 1) == 1)
+                max = Math.max(max, mMax[--r]);
+        }
+
+        return max;
+    }
+}
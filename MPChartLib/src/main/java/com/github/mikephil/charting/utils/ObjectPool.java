@@ -26,6 +26,9 @@ public class ObjectPool<T extends ObjectPool.Poolable> {
     private T modelObject;
     private float replenishPercentage;
 
+    private long hitCount;
+    private long missCount;
+    private long replenishCount;
 
     /**
      * Returns the id of the given pool instance.
@@ -101,6 +104,7 @@ public class ObjectPool<T extends ObjectPool.Poolable> {
             this.objects[i] = modelObject.instantiate();
         }
         objectsPointer = portionOfCapacity - 1;
+        replenishCount++;
     }
 
     /**
@@ -114,6 +118,9 @@ public class ObjectPool<T extends ObjectPool.Poolable> {
 
         if(this.objectsPointer == -1 && this.replenishPercentage > 0.0f){
             this.refillPool();
+            missCount++;
+        }else{
+            hitCount++;
         }
 
         T result = (T)objects[this.objectsPointer];
@@ -176,6 +183,47 @@ public class ObjectPool<T extends ObjectPool.Poolable> {
         this.objectsPointer += objectsListSize;
     }
 
+    /**
+     * Moves up to count objects from this pool into the given array, replenishing the pool
+     * if it is empty. The objects keep this pool as their owner. Used by ConcurrentObjectPool
+     * to fill its thread caches.
+     *
+     * @return the number of objects moved
+     */
+    synchronized int take(Object[] into, int count){
+
+        if(this.objectsPointer == -1){
+            this.refillPool();
+            missCount++;
+        }else{
+            hitCount++;
+        }
+
+        int taken = Math.min(count, this.objectsPointer + 1);
+
+        for(int i = 0 ; i < taken ; i++){
+            Poolable object = (Poolable) objects[this.objectsPointer];
+            object.currentOwnerId = this.poolId;
+            objects[this.objectsPointer--] = null;
+            into[i] = object;
+        }
+
+        return taken;
+    }
+
+    /**
+     * Moves count objects, already owned by this pool, from the given array back into
+     * the pool. Used by ConcurrentObjectPool to drain its thread caches.
+     */
+    synchronized void put(Object[] from, int offset, int count){
+        while(count + this.objectsPointer + 1 > this.objects.length){
+            this.resizePool();
+        }
+
+        System.arraycopy(from, offset, this.objects, this.objectsPointer + 1, count);
+        this.objectsPointer += count;
+    }
+
     private void resizePool() {
         final int oldCapacity = this.desiredCapacity;
         this.desiredCapacity *= 2;
@@ -206,6 +254,35 @@ public class ObjectPool<T extends ObjectPool.Poolable> {
         return this.objectsPointer + 1;
     }
 
+    /**
+     * Returns the number of get() calls that were served from the pool without replenishing
+     * it, for diagnostic purposes.
+     *
+     * @return the number of hits
+     */
+    public long getHitCount(){
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of get() calls that found the pool empty, for diagnostic purposes.
+     *
+     * @return the number of misses
+     */
+    public long getMissCount(){
+        return missCount;
+    }
+
+    /**
+     * Returns how often new objects were instantiated to replenish the pool, including the
+     * initial fill, for diagnostic purposes.
+     *
+     * @return the number of replenishments
+     */
+    public long getReplenishCount(){
+        return replenishCount;
+    }
+
 
     public static abstract class Poolable{
 
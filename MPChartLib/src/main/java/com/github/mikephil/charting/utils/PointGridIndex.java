@@ -0,0 +1,333 @@
+package com.github.mikephil.charting.utils;
+
+import java.util.Arrays;
+
+/**
+ * Uniform grid over points in value space that answers "closest point to a position" by only
+ * looking at the cells around it. Distances are measured after scaling both axes, so that the
+ * closest point in pixels can be found without transforming every point. Points are appended in
+ * O(1), the cells are kept in a hash table so points outside the initial bounds are fine.
+ */
+public class PointGridIndex {
+
+    /**
+     * targeted average number of points per cell
+     */
+    private static final int POINTS_PER_CELL = 4;
+
+    private float mOriginX;
+    private float mOriginY;
+    private float mCellWidth = 1f;
+    private float mCellHeight = 1f;
+
+    /**
+     * number of points the cell size was chosen for
+     */
+    private int mTunedSize = 0;
+
+    /**
+     * point coordinates, and for each point the next point in the same cell or -1
+     */
+    private float[] mX;
+    private float[] mY;
+    private int[] mNext;
+    private int mSize = 0;
+
+    /**
+     * open addressing hash table of the occupied cells, mapping the packed cell coordinates to
+     * the last point added to the cell
+     */
+    private long[] mCellKeys;
+    private int[] mCellHeads;
+    private int mCellCount = 0;
+
+    public PointGridIndex(int initialCapacity) {
+        initialCapacity = Math.max(16, initialCapacity);
+
+        mX = new float[initialCapacity];
+        mY = new float[initialCapacity];
+        mNext = new int[initialCapacity];
+
+        allocateCells(16);
+    }
+
+    private void allocateCells(int capacity) {
+        mCellKeys = new long[capacity];
+        mCellHeads = new int[capacity];
+        Arrays.fill(mCellHeads, -1);
+        mCellCount = 0;
+    }
+
+    /**
+     * Removes all points and chooses the cell size for the given bounds and expected number of
+     * points.
+     *
+     * @param xMin
+     * @param xMax
+     * @param yMin
+     * @param yMax
+     * @param expectedSize
+     */
+    public void reset(float xMin, float xMax, float yMin, float yMax, int expectedSize) {
+
+        mSize = 0;
+        mTunedSize = Math.max(1, expectedSize);
+        allocateCells(Math.max(16, Integer.highestOneBit(mTunedSize / POINTS_PER_CELL * 2 + 1) << 1));
+
+        final int cells = (int) Math.ceil(Math.sqrt(mTunedSize / (double) POINTS_PER_CELL));
+
+        mOriginX = xMin <= xMax ? xMin : 0f;
+        mOriginY = yMin <= yMax ? yMin : 0f;
+        mCellWidth = cellSize(xMin, xMax, cells);
+        mCellHeight = cellSize(yMin, yMax, cells);
+    }
+
+    private static float cellSize(float min, float max, int cells) {
+        final float size = (max - min) / cells;
+        return size > 0f && !Float.isInfinite(size) ? size : 1f;
+    }
+
+    /**
+     * Returns the number of points in the index.
+     *
+     * @return
+     */
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * Returns the number of points the cell size was chosen for in the last reset.
+     *
+     * @return
+     */
+    public int getTunedSize() {
+        return mTunedSize;
+    }
+
+    public float getCellWidth() {
+        return mCellWidth;
+    }
+
+    public float getCellHeight() {
+        return mCellHeight;
+    }
+
+    /**
+     * Appends a point, its index is the number of points added before it.
+     *
+     * @param x
+     * @param y
+     */
+    public void add(float x, float y) {
+
+        if (mSize == mX.length) {
+            final int capacity = mSize * 2;
+            mX = Arrays.copyOf(mX, capacity);
+            mY = Arrays.copyOf(mY, capacity);
+            mNext = Arrays.copyOf(mNext, capacity);
+        }
+
+        mX[mSize] = x;
+        mY[mSize] = y;
+
+        // NaN values cannot be highlighted, keep their index but leave them out of the cells
+        if (Float.isNaN(x) || Float.isNaN(y)) {
+            mNext[mSize] = -1;
+        } else {
+            final int slot = findOrAddCell(cellX(x), cellY(y));
+            mNext[mSize] = mCellHeads[slot];
+            mCellHeads[slot] = mSize;
+        }
+
+        mSize++;
+    }
+
+    /**
+     * Returns the index of the point closest to the given position, -1 if there is no point
+     * closer than maxDistance. The distance of a point is hypot(dx * scaleX, dy * scaleY), with
+     * scaleX and scaleY e.g. the pixels per value on each axis.
+     *
+     * @param x
+     * @param y
+     * @param scaleX
+     * @param scaleY
+     * @param maxDistance
+     * @return
+     */
+    public int getClosest(float x, float y, float scaleX, float scaleY, float maxDistance) {
+
+        if (mSize == 0 || Float.isNaN(x) || Float.isNaN(y))
+            return -1;
+
+        scaleX = Math.abs(scaleX);
+        scaleY = Math.abs(scaleY);
+
+        final float cellPxWidth = mCellWidth * scaleX;
+        final float cellPxHeight = mCellHeight * scaleY;
+
+        // cells around the center that can contain a point closer than maxDistance
+        final long rangeX = cellPxWidth > 0f ? (long) Math.ceil(maxDistance / cellPxWidth) : Long.MAX_VALUE;
+        final long rangeY = cellPxHeight > 0f ? (long) Math.ceil(maxDistance / cellPxHeight) : Long.MAX_VALUE;
+
+        // fewer points than cells to look at, checking all points is cheaper
+        if (rangeX > mSize || rangeY > mSize || 2 * rangeX + 1 > mSize / (2 * rangeY + 1))
+            return getClosestLinear(x, y, scaleX, scaleY, maxDistance);
+
+        final int centerX = cellX(x);
+        final int centerY = cellY(y);
+        final float ringDistance = Math.min(cellPxWidth, cellPxHeight);
+        final int rings = (int) Math.max(rangeX, rangeY);
+
+        int closest = -1;
+        float distance = maxDistance;
+
+        for (int r = 0; r <= rings; r++) {
+
+            // every point in ring r is at least r - 1 whole cells away from the position
+            if (r > 0 && (r - 1) * ringDistance >= distance)
+                break;
+
+            final int fromX = (int) -Math.min(r, rangeX);
+            final int toX = (int) Math.min(r, rangeX);
+            final int fromY = (int) -Math.min(r, rangeY);
+            final int toY = (int) Math.min(r, rangeY);
+
+            for (int dy = fromY; dy <= toY; dy++) {
+
+                // inner cells were visited by previous rings, only the edge rows are complete
+                final boolean edgeRow = dy == -r || dy == r;
+                final int step = edgeRow || r == 0 ? 1 : 2 * r;
+
+                for (int dx = edgeRow ? fromX : -r; dx <= toX; dx += step) {
+
+                    if (dx < fromX)
+                        continue;
+
+                    final int slot = findCell(centerX + dx, centerY + dy);
+
+                    if (slot < 0)
+                        continue;
+
+                    for (int i = mCellHeads[slot]; i >= 0; i = mNext[i]) {
+
+                        final float d = (float) Math.hypot((mX[i] - x) * scaleX, (mY[i] - y) * scaleY);
+
+                        if (d < distance) {
+                            closest = i;
+                            distance = d;
+                        }
+                    }
+                }
+            }
+        }
+
+        return closest;
+    }
+
+    private int getClosestLinear(float x, float y, float scaleX, float scaleY, float maxDistance) {
+
+        int closest = -1;
+        float distance = maxDistance;
+
+        for (int i = 0; i < mSize; i++) {
+
+            final float d = (float) Math.hypot((mX[i] - x) * scaleX, (mY[i] - y) * scaleY);
+
+            // NaN distances never compare smaller
+            if (d < distance) {
+                closest = i;
+                distance = d;
+            }
+        }
+
+        return closest;
+    }
+
+    private int cellX(float x) {
+        return clampCell(Math.floor((x - (double) mOriginX) / mCellWidth));
+    }
+
+    private int cellY(float y) {
+        return clampCell(Math.floor((y - (double) mOriginY) / mCellHeight));
+    }
+
+    /**
+     * keeps far away positions from overflowing when neighbouring cells are addressed
+     */
+    private static int clampCell(double cell) {
+        return (int) Math.max(-(1 << 29), Math.min(1 << 29, cell));
+    }
+
+    private static long key(int cellX, int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xffffffffL);
+    }
+
+    private static int hash(long key) {
+        key *= 0x9E3779B97F4A7C15L;
+        return (int) (key ^ (key >>> 32));
+    }
+
+    private int findCell(int cellX, int cellY) {
+
+        final long key = key(cellX, cellY);
+        final int mask = mCellKeys.length - 1;
+
+        for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+
+            if (mCellHeads[slot] < 0)
+                return -1;
+
+            if (mCellKeys[slot] == key)
+                return slot;
+        }
+    }
+
+    private int findOrAddCell(int cellX, int cellY) {
+
+        if ((mCellCount + 1) * 2 > mCellKeys.length)
+            growCells();
+
+        final long key = key(cellX, cellY);
+        final int mask = mCellKeys.length - 1;
+
+        int slot = hash(key) & mask;
+
+        while (mCellHeads[slot] >= 0) {
+
+            if (mCellKeys[slot] == key)
+                return slot;
+
+            slot = (slot + 1) & mask;
+        }
+
+        mCellKeys[slot] = key;
+        mCellCount++;
+        return slot;
+    }
+
+    private void growCells() {
+
+        final long[] keys = mCellKeys;
+        final int[] heads = mCellHeads;
+
+        allocateCells(keys.length * 2);
+
+        final int mask = mCellKeys.length - 1;
+
+        for (int i = 0; i < keys.length; i++) {
+
+            if (heads[i] < 0)
+                continue;
+
+            int slot = hash(keys[i]) & mask;
+
+            while (mCellHeads[slot] >= 0)
+                slot = (slot + 1) & mask;
+
+            mCellKeys[slot] = keys[i];
+            mCellHeads[slot] = heads[i];
+            mCellCount++;
+        }
+    }
+}
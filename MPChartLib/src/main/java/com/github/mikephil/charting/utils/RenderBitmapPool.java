@@ -0,0 +1,148 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Bitmap;
+
+import java.util.Arrays;
+
+/**
+ * Pool of the off-screen bitmaps renderers draw their data into, shared by all charts. A renderer
+ * acquires a bitmap before drawing its data. After drawing the bitmap onto a software canvas,
+ * which copies it right away, it releases the bitmap, so that charts of the same size share a
+ * single bitmap instead of each holding their own. Bitmaps drawn onto hardware accelerated
+ * canvases must not be released, the recorded drawing references them until it is rendered.
+ * Bitmaps are matched by width, height and config. Released bitmaps are kept until the pool
+ * exceeds its size, the least recently released ones are dropped first. Dropped bitmaps are
+ * left to the garbage collector instead of being recycled.
+ */
+public final class RenderBitmapPool {
+
+    /**
+     * released bitmaps, the least recently released first, and their sizes taken when released
+     * (a bitmap recycled elsewhere doesn't report its size anymore)
+     */
+    private static Bitmap[] sIdle = new Bitmap[8];
+    private static int[] sIdleBytes = new int[8];
+    private static int sIdleCount = 0;
+
+    private static long sMaxSize = 16 * 1024 * 1024;
+
+    private static long sSize = 0;
+
+    private RenderBitmapPool() {
+    }
+
+    /**
+     * Returns a bitmap of the given size and config, reused from the pool if possible. The content
+     * of a reused bitmap is undefined, it has to be erased before drawing.
+     *
+     * @param width
+     * @param height
+     * @param config
+     * @return
+     */
+    public static synchronized Bitmap acquire(int width, int height, Bitmap.Config config) {
+
+        if (width <= 0 || height <= 0)
+            throw new IllegalArgumentException("Bitmap size must be positive, was " + width + "x" + height);
+
+        for (int i = sIdleCount - 1; i >= 0; i--) {
+
+            Bitmap bitmap = sIdle[i];
+
+            if (bitmap.isRecycled()) {
+                remove(i);
+                continue;
+            }
+
+            if (bitmap.getWidth() == width && bitmap.getHeight() == height
+                    && bitmap.getConfig() == config) {
+
+                remove(i);
+                return bitmap;
+            }
+        }
+
+        return Bitmap.createBitmap(width, height, config);
+    }
+
+    /**
+     * Returns a bitmap acquired from the pool. It must not be used by the caller afterwards, and
+     * must not be referenced by a hardware accelerated canvas that is still to be rendered.
+     *
+     * @param bitmap
+     */
+    public static synchronized void release(Bitmap bitmap) {
+
+        if (bitmap == null || bitmap.isRecycled())
+            return;
+
+        for (int i = 0; i < sIdleCount; i++) {
+            if (sIdle[i] == bitmap)
+                return;
+        }
+
+        if (sIdleCount == sIdle.length) {
+            sIdle = Arrays.copyOf(sIdle, sIdleCount * 2);
+            sIdleBytes = Arrays.copyOf(sIdleBytes, sIdleCount * 2);
+        }
+
+        sIdle[sIdleCount] = bitmap;
+        sIdleBytes[sIdleCount] = bitmap.getAllocationByteCount();
+        sSize += sIdleBytes[sIdleCount];
+        sIdleCount++;
+
+        trimToSize(sMaxSize);
+    }
+
+    /**
+     * Sets the maximum number of bytes of the bitmaps kept in the pool, default 16 MB.
+     * Bitmaps currently acquired don't count towards it.
+     *
+     * @param bytes
+     */
+    public static synchronized void setMaxSize(long bytes) {
+
+        if (bytes < 0)
+            throw new IllegalArgumentException("Max size must not be negative, was " + bytes);
+
+        sMaxSize = bytes;
+        trimToSize(sMaxSize);
+    }
+
+    public static synchronized long getMaxSize() {
+        return sMaxSize;
+    }
+
+    /**
+     * Returns the number of bytes of the bitmaps kept in the pool.
+     *
+     * @return
+     */
+    public static synchronized long getSize() {
+        return sSize;
+    }
+
+    /**
+     * Drops all bitmaps kept in the pool, e.g. when the app is asked to trim its memory.
+     */
+    public static synchronized void clear() {
+        trimToSize(0);
+    }
+
+    private static void trimToSize(long bytes) {
+
+        while (sSize > bytes && sIdleCount > 0)
+            remove(0);
+    }
+
+    private static void remove(int index) {
+
+        sSize -= sIdleBytes[index];
+        sIdleCount--;
+
+        System.arraycopy(sIdle, index + 1, sIdle, index, sIdleCount - index);
+        System.arraycopy(sIdleBytes, index + 1, sIdleBytes, index, sIdleCount - index);
+
+        sIdle[sIdleCount] = null;
+    }
+}
@@ -9,6 +9,7 @@ import com.github.mikephil.charting.data.CandleEntry;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.interfaces.datasets.IBubbleDataSet;
 import com.github.mikephil.charting.interfaces.datasets.ICandleDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IColumnarDataSet;
 import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
 
@@ -181,6 +182,29 @@ public class Transformer {
         }
         float[] valuePoints = valuePointsForGenerateTransformedValuesLine;
 
+        if (data instanceof IColumnarDataSet) {
+
+            IColumnarDataSet columnar = (IColumnarDataSet) data;
+            int entryCount = data.getEntryCount();
+
+            for (int j = 0; j < count; j += 2) {
+
+                int index = j / 2 + min;
+
+                if (index < entryCount) {
+                    valuePoints[j] = columnar.getXForIndex(index);
+                    valuePoints[j + 1] = columnar.getYForIndex(index) * phaseY;
+                } else {
+                    valuePoints[j] = 0;
+                    valuePoints[j + 1] = 0;
+                }
+            }
+
+            getValueToPixelMatrix().mapPoints(valuePoints);
+
+            return valuePoints;
+        }
+
         for (int j = 0; j < count; j += 2) {
 
             Entry e = data.getEntryForIndex(j / 2 + min);
@@ -274,6 +298,17 @@ public class Transformer {
         mMatrixOffset.mapPoints(pts);
     }
 
+    /**
+     * Transforms the first pointCount points of the given array with all matrices, concatenated
+     * into one, so the whole array is mapped in a single call.
+     *
+     * @param pts
+     * @param pointCount the number of points (not values) to transform
+     */
+    public void pointValuesToPixel(float[] pts, int pointCount) {
+        getValueToPixelMatrix().mapPoints(pts, 0, pts, 0, pointCount);
+    }
+
     /**
      * Transform a rectangle with all matrices.
      *
@@ -17,4 +17,72 @@ class ApproximationTest {
 
         Assert.assertEquals(18, reduced.size)
     }
+
+    @Test
+    fun testLongInput() {
+        val count = 30000
+        val points = FloatArray(count * 2)
+        val random = java.util.Random(29)
+
+        for (i in 0 until count) {
+            points[i * 2] = i.toFloat()
+            points[i * 2 + 1] = (Math.sin(i / 700.0) * 50.0 + random.nextGaussian()).toFloat()
+        }
+
+        val tolerance = 1.5f
+        val reduced = Approximator().reduceWithDouglasPeucker(points, tolerance)
+
+        Assert.assertTrue(reduced.size < points.size)
+        Assert.assertEquals(points[0], reduced[0], 0f)
+        Assert.assertEquals(points[points.size - 2], reduced[reduced.size - 2], 0f)
+
+        // every removed point is within the tolerance of the line between the kept points around it
+        var k = 0
+        for (i in 0 until count) {
+            val x = points[i * 2]
+
+            while (reduced[(k + 1) * 2] < x)
+                k++
+
+            val x1 = reduced[k * 2]
+            val y1 = reduced[k * 2 + 1]
+            val x2 = reduced[(k + 1) * 2]
+            val y2 = reduced[(k + 1) * 2 + 1]
+
+            val distance = Math.abs((y1 - y2) * x - (x1 - x2) * points[i * 2 + 1] + x1 * y2 - x2 * y1) /
+                    Math.sqrt(((x1 - x2) * (x1 - x2) + (y1 - y2) * (y1 - y2)).toDouble())
+
+            Assert.assertTrue(distance <= tolerance + 0.001)
+        }
+    }
+
+    /**
+     * Reduces in parallel regardless of the size of the input and the API level.
+     */
+    private class ParallelApproximator : Approximator() {
+        override fun isParallel(pointCount: Int) = true
+    }
+
+    private class SequentialApproximator : Approximator() {
+        override fun isParallel(pointCount: Int) = false
+    }
+
+    @Test
+    fun testParallel() {
+        // large enough to be split into several tasks
+        val count = 300000
+        val points = FloatArray(count * 2)
+        val random = java.util.Random(31)
+
+        for (i in 0 until count) {
+            points[i * 2] = i.toFloat()
+            points[i * 2 + 1] = (Math.sin(i / 5000.0) * 50.0 + random.nextGaussian()).toFloat()
+        }
+
+        val sequential = SequentialApproximator().reduceWithDouglasPeucker(points, 1.5f)
+        val parallel = ParallelApproximator().reduceWithDouglasPeucker(points, 1.5f)
+
+        Assert.assertTrue(sequential.size < points.size)
+        Assert.assertArrayEquals(sequential, parallel, 0f)
+    }
 }
@@ -0,0 +1,80 @@
+package com.github.mikephil.charting.test
+
+import com.github.mikephil.charting.buffer.BarBuffer
+import com.github.mikephil.charting.buffer.HorizontalBarBuffer
+import com.github.mikephil.charting.data.BarDataSet
+import com.github.mikephil.charting.data.BarEntry
+import org.junit.Assert
+import org.junit.Test
+
+class BarBufferTest {
+
+    private fun dataSet(stacked: Boolean): BarDataSet {
+        val entries = ArrayList<BarEntry>()
+        for (i in 0 until 1000) {
+            if (stacked) {
+                entries.add(BarEntry(i.toFloat(), floatArrayOf(1f, 2f, 3f)))
+            } else {
+                entries.add(BarEntry(i.toFloat(), i.toFloat()))
+            }
+        }
+        return BarDataSet(entries, "")
+    }
+
+    @Test
+    fun testFeedAll() {
+        val set = dataSet(false)
+        val buffer = BarBuffer(set.entryCount * 4, 1, false)
+
+        buffer.feed(set)
+
+        Assert.assertEquals(0, buffer.from)
+        Assert.assertEquals(0, buffer.barOffset)
+        Assert.assertEquals(4000, buffer.end)
+        Assert.assertEquals(999f - 0.5f, buffer.buffer[3996], 0.0001f)
+    }
+
+    @Test
+    fun testFeedLimited() {
+        val set = dataSet(false)
+        val buffer = BarBuffer(set.entryCount * 4, 1, false)
+
+        buffer.limitFrom(100)
+        buffer.limitTo(149)
+        buffer.feed(set)
+
+        Assert.assertEquals(100, buffer.from)
+        Assert.assertEquals(100, buffer.barOffset)
+        Assert.assertEquals(50 * 4, buffer.end)
+
+        // left, top, right, bottom of entry 100
+        Assert.assertEquals(99.5f, buffer.buffer[0], 0.0001f)
+        Assert.assertEquals(100f, buffer.buffer[1], 0.0001f)
+        Assert.assertEquals(100.5f, buffer.buffer[2], 0.0001f)
+        Assert.assertEquals(0f, buffer.buffer[3], 0.0001f)
+
+        // limits past the end of the data
+        buffer.limitFrom(990)
+        buffer.limitTo(2000)
+        buffer.feed(set)
+
+        Assert.assertEquals(10 * 4, buffer.end)
+    }
+
+    @Test
+    fun testFeedLimitedStacked() {
+        val set = dataSet(true)
+        val buffer = HorizontalBarBuffer(set.entryCount * 4 * 3, 1, true)
+
+        buffer.limitFrom(10)
+        buffer.limitTo(19)
+        buffer.feed(set)
+
+        Assert.assertEquals(30, buffer.barOffset)
+        Assert.assertEquals(10 * 3 * 4, buffer.end)
+
+        // bottom and top of entry 10
+        Assert.assertEquals(9.5f, buffer.buffer[3], 0.0001f)
+        Assert.assertEquals(10.5f, buffer.buffer[1], 0.0001f)
+    }
+}
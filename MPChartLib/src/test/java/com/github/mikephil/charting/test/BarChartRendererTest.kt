@@ -0,0 +1,108 @@
+package com.github.mikephil.charting.test
+
+import android.graphics.Canvas
+import android.graphics.Color
+import com.github.mikephil.charting.animation.ChartAnimator
+import com.github.mikephil.charting.data.BarData
+import com.github.mikephil.charting.data.BarDataSet
+import com.github.mikephil.charting.data.BarEntry
+import com.github.mikephil.charting.highlight.Highlight
+import com.github.mikephil.charting.renderer.BarChartRenderer
+import com.github.mikephil.charting.renderer.HorizontalBarChartRenderer
+import org.junit.Assert
+import org.junit.Test
+
+class BarChartRendererTest {
+
+    /**
+     * 2000 bars, all of them inside the view port. Values are used as pixels, the bars start at
+     * x = 1 so that the first horizontal bar isn't above the view port.
+     */
+    private fun data(): BarData {
+        val entries = ArrayList<BarEntry>()
+        for (i in 0 until 2000) {
+            entries.add(BarEntry(1f + i * 0.2f, (i % 50).toFloat() - 10f))
+        }
+
+        val set = BarDataSet(entries, "")
+        set.setColors(Color.RED, Color.GREEN, Color.BLUE)
+        set.barBorderWidth = 1f
+
+        val data = BarData(set)
+        data.barWidth = 0.15f
+        return data
+    }
+
+    /**
+     * Draws frames after a warm-up frame and returns the bytes allocated per frame, the least of a
+     * few runs.
+     */
+    private fun allocationsPerFrame(renderer: BarChartRenderer, canvas: Canvas): Long {
+        val highlights = arrayOf(Highlight(10f, 0f, 0))
+        val frames = 50
+
+        renderer.initBuffers()
+        renderer.drawData(canvas)
+        renderer.drawHighlighted(canvas, highlights)
+
+        return minAllocated {
+            for (i in 0 until frames) {
+                renderer.drawData(canvas)
+                renderer.drawHighlighted(canvas, highlights)
+            }
+        } / frames
+    }
+
+    @Test
+    fun testBatchedBars() {
+        val viewPortHandler = TestViewPortHandler()
+        val data = data()
+        val renderer = BarChartRenderer(TestBarDataProvider(data, viewPortHandler), ChartAnimator(), viewPortHandler)
+        val canvas = CountingCanvas()
+
+        Assert.assertTrue(allocationsPerFrame(renderer, canvas) < 64)
+
+        canvas.reset()
+        renderer.drawData(canvas)
+
+        // one batch per color, the shadows and the borders
+        Assert.assertEquals(0, canvas.rects)
+        Assert.assertEquals(5, canvas.lines)
+
+        // all bars are drawn: a line for each shadow and bar, four for each border
+        Assert.assertEquals(2000 * 6 * 4, canvas.values)
+    }
+
+    @Test
+    fun testRoundedBars() {
+        val viewPortHandler = TestViewPortHandler()
+        val data = data()
+        val renderer = BarChartRenderer(TestBarDataProvider(data, viewPortHandler), ChartAnimator(), viewPortHandler, true, 5f)
+        val canvas = CountingCanvas()
+
+        Assert.assertTrue(allocationsPerFrame(renderer, canvas) < 64)
+
+        canvas.reset()
+        renderer.drawData(canvas)
+
+        // the shadow, the bar and the border of each bar
+        Assert.assertEquals(2000 * 3, canvas.rects)
+    }
+
+    @Test
+    fun testHorizontalBars() {
+        val viewPortHandler = TestViewPortHandler()
+        val data = data()
+        val renderer = HorizontalBarChartRenderer(TestBarDataProvider(data, viewPortHandler), ChartAnimator(), viewPortHandler)
+        val canvas = CountingCanvas()
+
+        Assert.assertTrue(allocationsPerFrame(renderer, canvas) < 64)
+
+        canvas.reset()
+        renderer.drawData(canvas)
+
+        Assert.assertEquals(0, canvas.rects)
+        Assert.assertEquals(5, canvas.lines)
+        Assert.assertEquals(2000 * 6 * 4, canvas.values)
+    }
+}
@@ -0,0 +1,117 @@
+package com.github.mikephil.charting.test
+
+import com.github.mikephil.charting.data.ColumnarLineDataSet
+import com.github.mikephil.charting.data.Entry
+import com.github.mikephil.charting.data.LineData
+import com.github.mikephil.charting.data.LineDataSet
+import com.github.mikephil.charting.data.RingBufferLineDataSet
+import com.github.mikephil.charting.interfaces.datasets.IDataSet
+import org.junit.Assert
+import org.junit.Test
+import java.util.Random
+
+class BulkEntriesTest {
+    @Test
+    fun testAddEntriesOrdered() {
+        val random = Random(3)
+
+        val initial: MutableList<Entry> = ArrayList()
+        for (i in 0 until 100) {
+            initial.add(Entry(i * 2f, random.nextFloat() * 10f))
+        }
+
+        val batch: MutableList<Entry> = ArrayList()
+        for (i in 0 until 60) {
+            batch.add(Entry(random.nextFloat() * 250f - 10f, random.nextFloat() * 30f - 10f))
+        }
+
+        val sets = listOf<IDataSet<Entry>>(
+            LineDataSet(ArrayList(initial), ""),
+            ColumnarLineDataSet(initial, ""),
+            RingBufferLineDataSet(200, initial, "")
+        )
+
+        val sorted = ArrayList(initial)
+        sorted.addAll(batch)
+        sorted.sortBy { it.x }
+
+        for (set in sets) {
+            set.addEntriesOrdered(batch)
+
+            Assert.assertEquals(sorted.size, set.entryCount)
+
+            for (i in sorted.indices) {
+                Assert.assertEquals(sorted[i].x, set.getEntryForIndex(i).x, 0f)
+            }
+
+            Assert.assertEquals(sorted.minOf { it.y }, set.yMin, 0f)
+            Assert.assertEquals(sorted.maxOf { it.y }, set.yMax, 0f)
+            Assert.assertEquals(sorted.first().x, set.xMin, 0f)
+            Assert.assertEquals(sorted.last().x, set.xMax, 0f)
+        }
+
+        // over capacity, only the latest values are kept
+        val ring = RingBufferLineDataSet(120, initial, "")
+        ring.addEntriesOrdered(batch)
+
+        Assert.assertEquals(120, ring.entryCount)
+        Assert.assertEquals(sorted[sorted.size - 120].x, ring.getXForIndex(0), 0f)
+        Assert.assertEquals(sorted.last().x, ring.xMax, 0f)
+    }
+
+    @Test
+    fun testReplaceRange() {
+        val entries: MutableList<Entry> = ArrayList()
+        for (i in 0 until 10) {
+            entries.add(Entry(i.toFloat(), i.toFloat()))
+        }
+
+        val replacement = listOf(Entry(3f, -5f), Entry(3.5f, 1f), Entry(4f, 2f))
+
+        val sets = listOf<IDataSet<Entry>>(
+            LineDataSet(ArrayList(entries), ""),
+            ColumnarLineDataSet(entries, ""),
+            RingBufferLineDataSet(10, entries, "")
+        )
+
+        for (set in sets) {
+            // replaces the entries at x = 3, 4, 5 and 6
+            set.replaceRange(3, 7, replacement)
+
+            Assert.assertEquals(9, set.entryCount)
+            Assert.assertEquals(3.5f, set.getEntryForIndex(4).x, 0f)
+            Assert.assertEquals(7f, set.getEntryForIndex(6).x, 0f)
+            Assert.assertEquals(-5f, set.yMin, 0f)
+            Assert.assertEquals(9f, set.yMax, 0f)
+
+            set.replaceRange(8, 9, listOf(Entry(8f, 1f), Entry(8.5f, 1f)))
+
+            Assert.assertEquals(10, set.entryCount)
+            Assert.assertEquals(8f, set.yMax, 0f)
+        }
+    }
+
+    @Test
+    fun testChartData() {
+        val left = LineDataSet(ArrayList(), "")
+        val data = LineData(left)
+
+        data.addEntries(listOf(Entry(0f, 4f), Entry(1f, -2f), Entry(2f, 7f)), 0)
+
+        Assert.assertEquals(3, left.entryCount)
+        Assert.assertEquals(-2f, data.yMin, 0f)
+        Assert.assertEquals(7f, data.yMax, 0f)
+        Assert.assertEquals(2f, data.xMax, 0f)
+
+        data.addEntriesOrdered(listOf(Entry(0.5f, 12f), Entry(5f, 1f)), 0)
+
+        Assert.assertEquals(0.5f, left.getEntryForIndex(1).x, 0f)
+        Assert.assertEquals(12f, data.yMax, 0f)
+        Assert.assertEquals(5f, data.xMax, 0f)
+
+        data.replaceRange(0, 2, listOf(Entry(0f, 0f)), 0)
+
+        Assert.assertEquals(4, left.entryCount)
+        Assert.assertEquals(7f, data.yMax, 0f)
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.mikephil.charting.test
+
+import android.graphics.Color
+import com.github.mikephil.charting.animation.ChartAnimator
+import com.github.mikephil.charting.data.CandleData
+import com.github.mikephil.charting.data.CandleDataSet
+import com.github.mikephil.charting.data.CandleEntry
+import com.github.mikephil.charting.renderer.CandleStickChartRenderer
+import com.github.mikephil.charting.utils.ColorTemplate
+import org.junit.Assert
+import org.junit.Test
+
+class CandleStickChartRendererTest {
+
+    /**
+     * Decreasing, increasing and neutral candles in turn.
+     */
+    private fun dataSet(): CandleDataSet {
+        val entries = ArrayList<CandleEntry>()
+
+        for (i in 0 until 5001) {
+            val open = 10f + i % 3
+            entries.add(CandleEntry(i.toFloat(), 20f, 0f, open, 11f))
+        }
+
+        val set = CandleDataSet(entries, "")
+        set.decreasingColor = Color.RED
+        set.increasingColor = Color.GREEN
+        set.neutralColor = Color.BLUE
+        return set
+    }
+
+    private fun draw(set: CandleDataSet): CountingCanvas {
+        val viewPortHandler = TestViewPortHandler()
+        val renderer = CandleStickChartRenderer(TestCandleDataProvider(CandleData(set), viewPortHandler),
+            ChartAnimator(), viewPortHandler)
+        val canvas = CountingCanvas()
+
+        renderer.drawData(canvas)
+        return canvas
+    }
+
+    @Test
+    fun testBatchedCandles() {
+        val set = dataSet()
+        set.shadowColorSameAsCandle = true
+
+        val canvas = draw(set)
+
+        // shadows per color class, then the filled and the stroked bodies
+        Assert.assertEquals(0, canvas.rects)
+        Assert.assertEquals(5, canvas.lines)
+
+        // two shadows per candle, one line per filled and neutral body, four per stroked body
+        Assert.assertEquals(1667 * 4 * (3 * 2 + 1 + 1 + 4), canvas.values)
+    }
+
+    @Test
+    fun testBatchedOhlc() {
+        val set = dataSet()
+        set.showCandleBar = false
+
+        val canvas = draw(set)
+
+        // range, open and close per candle, one call per color class
+        Assert.assertEquals(3, canvas.lines)
+        Assert.assertEquals(5001 * 3 * 4, canvas.values)
+    }
+
+    @Test
+    fun testFallbackColors() {
+        val set = dataSet()
+        set.decreasingColor = ColorTemplate.COLOR_NONE
+        set.setColors(Color.BLACK, Color.WHITE)
+        set.shadowColor = Color.GRAY
+
+        val canvas = draw(set)
+
+        // decreasing candles alternate between both colors, all shadows are gray
+        Assert.assertEquals(0, canvas.rects)
+        Assert.assertTrue(canvas.lines > 1667)
+    }
+}
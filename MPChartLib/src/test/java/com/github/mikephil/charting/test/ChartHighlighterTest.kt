@@ -0,0 +1,106 @@
+package com.github.mikephil.charting.test
+
+import com.github.mikephil.charting.components.YAxis.AxisDependency
+import com.github.mikephil.charting.data.Entry
+import com.github.mikephil.charting.data.LineData
+import com.github.mikephil.charting.data.LineDataSet
+import com.github.mikephil.charting.highlight.ChartHighlighter
+import com.github.mikephil.charting.highlight.Highlight
+import org.junit.Assert
+import org.junit.Test
+
+class ChartHighlighterTest {
+
+    private fun data(): LineData {
+        val low = ArrayList<Entry>()
+        val high = ArrayList<Entry>()
+        for (i in 0 until 1000) {
+            low.add(Entry(i.toFloat(), 0f))
+            high.add(Entry(i.toFloat(), 100f))
+        }
+        return LineData(LineDataSet(low, "low"), LineDataSet(high, "high"))
+    }
+
+    private fun highlighter() = ChartHighlighter(TestDataProvider(data(), TestViewPortHandler(), Float.MAX_VALUE))
+
+    /**
+     * Simulates a drag across the chart the way BarLineChartTouchListener handles it: the reused
+     * highlight is only copied when the entry changes. Returns the number of changes.
+     */
+    private fun drag(highlighter: ChartHighlighter<*>, moves: Int, wiggle: Boolean = false): Int {
+        var last: Highlight? = null
+        var changes = 0
+
+        for (i in 0 until moves) {
+            // four move events around each entry, alternating between both DataSets, or moves
+            // around a single entry
+            val x = if (wiggle) 500f + (i % 4) * 0.1f else (i / 4) + (i % 4) * 0.1f
+            val y = if (wiggle || i % 8 < 4) 10f else 90f
+
+            val h = highlighter.getHighlight(x, y)
+
+            if (h == null || h.isSameEntry(last))
+                continue
+
+            last = Highlight(h)
+            changes++
+        }
+
+        return changes
+    }
+
+    @Test
+    fun testDragHighlightAllocations() {
+        val highlighter = highlighter()
+
+        // warm-up fills the Highlight and MPPointD pools and lets the JIT settle
+        for (i in 0 until 10) {
+            drag(highlighter, 4000)
+            drag(highlighter, 4000, true)
+        }
+
+        // moving over the same entry only copies the highlight of the first move
+        var changes = 0
+        var allocated = minAllocated { changes = drag(highlighter, 4000, true) }
+        Assert.assertEquals(1, changes)
+        Assert.assertTrue("allocated $allocated bytes", allocated <= 64L)
+
+        // the entry changes once per x-value, the moves around it don't cause a change
+        allocated = minAllocated { changes = drag(highlighter, 4000) }
+        Assert.assertEquals(1000, changes)
+
+        // only the copies handed to the chart are allocated
+        Assert.assertTrue("allocated $allocated bytes", allocated <= changes * 64L)
+    }
+
+    @Test
+    fun testHighlightValues() {
+        val highlighter = highlighter()
+
+        val h = highlighter.getHighlight(10.2f, 80f)!!
+        Assert.assertEquals(10f, h.x)
+        Assert.assertEquals(100f, h.y)
+        Assert.assertEquals(1, h.dataSetIndex)
+        Assert.assertEquals(AxisDependency.LEFT, h.axis)
+
+        val copy = Highlight(h)
+
+        // the highlighter reuses its objects, the copy keeps the values
+        highlighter.getHighlight(500f, 5f)
+        Assert.assertEquals(10f, copy.x)
+        Assert.assertEquals(1, copy.dataSetIndex)
+        Assert.assertTrue(copy.isSameEntry(highlighter.getHighlight(10.4f, 70f)))
+        Assert.assertFalse(copy.isSameEntry(highlighter.getHighlight(10.4f, 20f)))
+    }
+
+    @Test
+    fun testSameEntry() {
+        val a = Highlight(1f, 2f, 0f, 0f, 0, AxisDependency.LEFT)
+
+        // equalTo ignores the y-value, entries sharing an x-value are still told apart
+        Assert.assertTrue(a.equalTo(Highlight(1f, 3f, 0f, 0f, 0, AxisDependency.LEFT)))
+        Assert.assertFalse(a.isSameEntry(Highlight(1f, 3f, 0f, 0f, 0, AxisDependency.LEFT)))
+        Assert.assertTrue(a.isSameEntry(Highlight(1f, 2f, 5f, 5f, 0, AxisDependency.LEFT)))
+        Assert.assertFalse(a.isSameEntry(null))
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.mikephil.charting.test
+
+import com.github.mikephil.charting.data.ColumnarLineDataSet
+import com.github.mikephil.charting.data.DataSet
+import com.github.mikephil.charting.data.Entry
+import com.github.mikephil.charting.data.LineDataSet
+import org.junit.Assert
+import org.junit.Test
+
+class ColumnarLineDataSetTest {
+    @Test
+    fun testMatchesLineDataSet() {
+        val entries: MutableList<Entry> = ArrayList()
+        entries.add(Entry(1f, 10f))
+        entries.add(Entry(2f, 5f))
+        entries.add(Entry(2f, 7f))
+        entries.add(Entry(4f, -3f))
+        entries.add(Entry(7f, 12f))
+        entries.add(Entry(9f, 1f))
+
+        val set = LineDataSet(entries, "")
+        val columnar = ColumnarLineDataSet(entries, "")
+
+        Assert.assertEquals(set.entryCount, columnar.entryCount)
+        Assert.assertEquals(set.xMin, columnar.xMin, 0.01f)
+        Assert.assertEquals(set.xMax, columnar.xMax, 0.01f)
+        Assert.assertEquals(set.yMin, columnar.yMin, 0.01f)
+        Assert.assertEquals(set.yMax, columnar.yMax, 0.01f)
+
+        val xs = floatArrayOf(-1f, 0.5f, 1f, 1.5f, 2f, 2.4f, 3f, 3.1f, 5.5f, 6f, 8f, 9f, 12f)
+
+        for (x in xs) {
+            for (rounding in DataSet.Rounding.values()) {
+                Assert.assertEquals(
+                    "x: $x, rounding: $rounding",
+                    set.getEntryIndex(x, Float.NaN, rounding),
+                    columnar.getEntryIndex(x, Float.NaN, rounding)
+                )
+            }
+            Assert.assertEquals(set.getEntriesForXValue(x).size, columnar.getEntriesForXValue(x).size)
+        }
+
+        Assert.assertEquals(2, columnar.getEntryIndex(2f, 7f, DataSet.Rounding.CLOSEST))
+        Assert.assertEquals(1, columnar.getEntryIndex(2f, 5f, DataSet.Rounding.CLOSEST))
+
+        columnar.calcMinMaxY(1.5f, 4f)
+        set.calcMinMaxY(1.5f, 4f)
+
+        Assert.assertEquals(set.yMin, columnar.yMin, 0.01f)
+        Assert.assertEquals(set.yMax, columnar.yMax, 0.01f)
+    }
+
+    @Test
+    fun testAddRemove() {
+        val set = ColumnarLineDataSet(1, "")
+
+        set.add(10f, 10f)
+        set.add(15f, 2f)
+        set.add(21f, 5f)
+
+        Assert.assertEquals(3, set.entryCount)
+
+        set.addEntryOrdered(Entry(5f, 1f))
+
+        Assert.assertEquals(4, set.entryCount)
+        Assert.assertEquals(5f, set.xMin, 0.01f)
+        Assert.assertEquals(1f, set.yMin, 0.01f)
+        Assert.assertEquals(5f, set.getEntryForIndex(0).x, 0.01f)
+        Assert.assertEquals(10f, set.getXForIndex(1), 0.01f)
+
+        Assert.assertTrue(set.contains(Entry(15f, 2f)))
+        Assert.assertFalse(set.contains(Entry(15f, 3f)))
+
+        Assert.assertTrue(set.removeEntry(Entry(5f, 1f)))
+
+        Assert.assertEquals(3, set.entryCount)
+        Assert.assertEquals(10f, set.xMin, 0.01f)
+        Assert.assertEquals(2f, set.yMin, 0.01f)
+
+        Assert.assertTrue(set.removeLast())
+
+        Assert.assertEquals(2, set.entryCount)
+        Assert.assertEquals(15f, set.xMax, 0.01f)
+        Assert.assertEquals(10f, set.yMax, 0.01f)
+
+        val reuse = Entry()
+        Assert.assertSame(reuse, set.getEntryForIndex(1, reuse))
+        Assert.assertEquals(15f, reuse.x, 0.01f)
+        Assert.assertNull(set.getEntryForIndex(2, reuse))
+
+        set.clear()
+
+        Assert.assertEquals(0, set.entryCount)
+        Assert.assertEquals(-1, set.getEntryIndex(1f, Float.NaN, DataSet.Rounding.CLOSEST))
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.mikephil.charting.test
+
+import com.github.mikephil.charting.data.filter.LttbDecimator
+import com.github.mikephil.charting.data.filter.M4Decimator
+import org.junit.Assert
+import org.junit.Test
+import java.util.Random
+
+class DecimatorTest {
+
+    private fun points(count: Int, spikeAt: Int): FloatArray {
+        val random = Random(23)
+        val points = FloatArray(count * 2)
+
+        for (i in 0 until count) {
+            points[i * 2] = i.toFloat()
+            points[i * 2 + 1] = random.nextFloat()
+        }
+
+        points[spikeAt * 2 + 1] = 100f
+        points[(spikeAt + 1) * 2 + 1] = -100f
+        return points
+    }
+
+    @Test
+    fun testLttb() {
+        val points = points(10000, 4321)
+        val decimator = LttbDecimator()
+        val output = FloatArray(decimator.getMaxPoints(200) * 2)
+
+        val count = decimator.decimate(points, 10000, 200, output)
+
+        Assert.assertEquals(200, count)
+        Assert.assertEquals(0f, output[0], 0f)
+        Assert.assertEquals(9999f, output[(count - 1) * 2], 0f)
+
+        var max = -Float.MAX_VALUE
+        for (i in 1 until count) {
+            Assert.assertTrue(output[i * 2] > output[(i - 1) * 2])
+            max = Math.max(max, Math.abs(output[i * 2 + 1]))
+        }
+
+        // the peak is kept, both spikes fall into one bucket
+        Assert.assertEquals(100f, max, 0f)
+
+        // nothing to reduce
+        Assert.assertEquals(50, decimator.decimate(points, 50, 200, output))
+        Assert.assertEquals(points[49 * 2 + 1], output[49 * 2 + 1], 0f)
+    }
+
+    @Test
+    fun testM4() {
+        val points = points(10000, 4321)
+        val decimator = M4Decimator()
+        val width = 100
+        val output = FloatArray(decimator.getMaxPoints(width) * 2)
+
+        val count = decimator.decimate(points, 10000, width, output)
+
+        Assert.assertTrue(count <= 4 * width)
+        Assert.assertEquals(0f, output[0], 0f)
+        Assert.assertEquals(9999f, output[(count - 1) * 2], 0f)
+
+        // per column, min and max of the output match the input
+        val span = 9999f
+        for (column in 0 until width) {
+            var inMin = Float.MAX_VALUE
+            var inMax = -Float.MAX_VALUE
+            var outMin = Float.MAX_VALUE
+            var outMax = -Float.MAX_VALUE
+
+            for (i in 0 until 10000) {
+                if (Math.min((points[i * 2] / span * width).toInt(), width - 1) == column) {
+                    inMin = Math.min(inMin, points[i * 2 + 1])
+                    inMax = Math.max(inMax, points[i * 2 + 1])
+                }
+            }
+
+            for (i in 0 until count) {
+                if (Math.min((output[i * 2] / span * width).toInt(), width - 1) == column) {
+                    outMin = Math.min(outMin, output[i * 2 + 1])
+                    outMax = Math.max(outMax, output[i * 2 + 1])
+                }
+            }
+
+            Assert.assertEquals(inMin, outMin, 0f)
+            Assert.assertEquals(inMax, outMax, 0f)
+        }
+
+        for (i in 1 until count) {
+            Assert.assertTrue(output[i * 2] > output[(i - 1) * 2])
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.github.mikephil.charting.test
+
+import com.github.mikephil.charting.components.AxisBase
+import com.github.mikephil.charting.components.XAxis
+import com.github.mikephil.charting.data.ColumnarLineDataSet
+import com.github.mikephil.charting.data.Entry
+import com.github.mikephil.charting.formatter.DefaultValueFormatter
+import com.github.mikephil.charting.formatter.IAxisValueFormatter
+import com.github.mikephil.charting.formatter.IValueFormatter
+import com.github.mikephil.charting.utils.LabelCache
+import com.github.mikephil.charting.utils.ViewPortHandler
+import org.junit.Assert
+import org.junit.Test
+
+class LabelCacheTest {
+
+    private class CountingFormatter : IValueFormatter {
+        var calls = 0
+
+        override fun getFormattedValue(value: Float, entry: Entry?, dataSetIndex: Int, viewPortHandler: ViewPortHandler?): String {
+            calls++
+            return value.toString()
+        }
+    }
+
+    @Test
+    fun testValueLabels() {
+        val cache = LabelCache(4)
+        val formatter = CountingFormatter()
+        val entries = (0 until 4).map { Entry(it.toFloat(), it * 2f) }
+
+        for (frame in 0 until 10) {
+            for (e in entries) {
+                Assert.assertEquals(e.y.toString(), cache.getFormattedValue(formatter, e.y, e, 0, null))
+            }
+        }
+
+        // formatted once, served from the cache for every other frame
+        Assert.assertEquals(4, formatter.calls)
+        Assert.assertEquals(36, cache.hitCount)
+        Assert.assertEquals(4, cache.missCount)
+        Assert.assertEquals(0.9f, cache.hitRate, 0.0001f)
+        Assert.assertEquals(0, cache.evictionCount)
+
+        // a changed value, another DataSet index or another formatter is a new label
+        entries[0].y = 5f
+        Assert.assertEquals("5.0", cache.getFormattedValue(formatter, entries[0].y, entries[0], 0, null))
+        cache.getFormattedValue(formatter, entries[1].y, entries[1], 1, null)
+        cache.getFormattedValue(CountingFormatter(), entries[2].y, entries[2], 0, null)
+
+        Assert.assertEquals(6, formatter.calls)
+        Assert.assertEquals(3, cache.evictionCount)
+        Assert.assertEquals(4, cache.size())
+    }
+
+    @Test
+    fun testInvalidation() {
+        val cache = LabelCache()
+        val formatter = DefaultValueFormatter(0)
+        val entry = Entry(0f, 1.25f)
+
+        Assert.assertEquals("1", cache.getFormattedValue(formatter, entry.y, entry, 0, null))
+
+        // formatters changed in place need the cache to be cleared
+        formatter.setup(2)
+        cache.clear()
+        Assert.assertEquals("1.25", cache.getFormattedValue(formatter, entry.y, entry, 0, null))
+        Assert.assertEquals(2, cache.missCount)
+    }
+
+    @Test
+    fun testAxisLabels() {
+        val cache = LabelCache()
+        val axis = XAxis()
+        var calls = 0
+        val formatter = object : IAxisValueFormatter {
+            override fun getFormattedValue(value: Float, axis: AxisBase?): String {
+                calls++
+                return "x$value"
+            }
+        }
+
+        for (frame in 0 until 3) {
+            Assert.assertEquals("x1.0", cache.getFormattedValue(formatter, 1f, axis))
+            Assert.assertEquals("x2.0", cache.getFormattedValue(formatter, 2f, axis))
+        }
+
+        Assert.assertEquals(2, calls)
+
+        // the same value on another axis is another label
+        cache.getFormattedValue(formatter, 1f, XAxis())
+        Assert.assertEquals(3, calls)
+    }
+
+    @Test
+    fun testColumnarLabels() {
+        val cache = LabelCache()
+        val formatter = CountingFormatter()
+        val set = ColumnarLineDataSet(floatArrayOf(0f, 1f, 2f), floatArrayOf(5f, 5f, 7f), "")
+
+        for (frame in 0 until 10) {
+            for (i in 0 until set.entryCount) {
+                // a new Entry for every call
+                val e = set.getEntryForIndex(i)
+                Assert.assertEquals(e.y.toString(), cache.getFormattedValue(formatter, e.y, e, set, 0, null))
+            }
+        }
+
+        // equal values at other x-positions are other labels
+        Assert.assertEquals(3, formatter.calls)
+        Assert.assertEquals(3, cache.size())
+        Assert.assertEquals(27, cache.hitCount)
+
+        // another DataSet with the same values is another label
+        val other = ColumnarLineDataSet(floatArrayOf(0f), floatArrayOf(5f), "")
+        cache.getFormattedValue(formatter, 5f, other.getEntryForIndex(0), other, 0, null)
+        Assert.assertEquals(4, formatter.calls)
+    }
+}
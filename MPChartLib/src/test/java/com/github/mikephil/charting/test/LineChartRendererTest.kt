@@ -0,0 +1,176 @@
+package com.github.mikephil.charting.test
+
+import android.graphics.Canvas
+import android.graphics.Color
+import com.github.mikephil.charting.animation.ChartAnimator
+import com.github.mikephil.charting.data.Entry
+import com.github.mikephil.charting.data.LineData
+import com.github.mikephil.charting.data.LineDataSet
+import com.github.mikephil.charting.data.filter.LttbDecimator
+import com.github.mikephil.charting.interfaces.dataprovider.LineDataProvider
+import com.github.mikephil.charting.interfaces.datasets.ILineDataSet
+import com.github.mikephil.charting.renderer.LineChartRenderer
+import com.github.mikephil.charting.utils.ViewPortHandler
+import org.junit.Assert
+import org.junit.Test
+
+class LineChartRendererTest {
+
+    private class Renderer(chart: LineDataProvider, viewPortHandler: ViewPortHandler) :
+        LineChartRenderer(chart, ChartAnimator(), viewPortHandler) {
+
+        fun draw(c: Canvas, dataSet: ILineDataSet) = drawLinear(c, dataSet)
+    }
+
+    /**
+     * Records the index each spline computation starts at.
+     */
+    private class SplineRenderer(chart: LineDataProvider, viewPortHandler: ViewPortHandler) :
+        LineChartRenderer(chart, ChartAnimator(), viewPortHandler) {
+
+        val starts = ArrayList<Int>()
+
+        override fun computeSpline(dataSet: ILineDataSet, spline: Spline, from: Int): Boolean {
+            starts.add(from)
+            return super.computeSpline(dataSet, spline, from)
+        }
+
+        /**
+         * Returns the control points and entries of the spline of the DataSet.
+         */
+        fun points(dataSet: ILineDataSet): FloatArray {
+            val spline: Any = getSpline(dataSet)!!
+            val field = spline.javaClass.getDeclaredField("points")
+            field.isAccessible = true
+            return (field.get(spline) as FloatArray).copyOf(dataSet.entryCount * 6)
+        }
+    }
+
+    /**
+     * A flat line of the given number of entries whose color changes the given number of
+     * times, like a line colored by thresholds.
+     */
+    private fun dataSet(entryCount: Int, colorChanges: Int): LineDataSet {
+        val entries = ArrayList<Entry>(entryCount)
+        val colors = ArrayList<Int>(entryCount)
+
+        for (i in 0 until entryCount) {
+            entries.add(Entry(i.toFloat() / entryCount, 0f))
+            colors.add(if (i.toLong() * colorChanges / entryCount % 2 == 0L) Color.RED else Color.BLUE)
+        }
+
+        val set = LineDataSet(entries, "")
+        set.colors = colors
+        return set
+    }
+
+    @Test
+    fun testColorRuns() {
+        val entryCount = 20000
+
+        for (colorChanges in intArrayOf(1, 10, 100, 1000, 10000)) {
+            val set = dataSet(entryCount, colorChanges)
+            val viewPortHandler = TestViewPortHandler()
+            val renderer = Renderer(TestLineDataProvider(LineData(set), viewPortHandler), viewPortHandler)
+            val canvas = CountingCanvas()
+
+            renderer.draw(canvas, set)
+
+            // one call per run of equal colors, all segments drawn
+            Assert.assertEquals(colorChanges, canvas.lines)
+            Assert.assertEquals((entryCount - 1) * 2, canvas.points)
+        }
+    }
+
+    @Test
+    fun testSteppedWithDecimator() {
+        val set = dataSet(100, 1)
+        set.setColor(Color.RED)
+        set.mode = LineDataSet.Mode.STEPPED
+        set.decimator = LttbDecimator()
+
+        val viewPortHandler = TestViewPortHandler()
+        val renderer = Renderer(TestLineDataProvider(LineData(set), viewPortHandler), viewPortHandler)
+        val canvas = CountingCanvas()
+
+        renderer.draw(canvas, set)
+        val decimated = canvas.points
+
+        set.decimator = null
+        canvas.reset()
+        renderer.draw(canvas, set)
+
+        // drawn with the horizontal and vertical segments of the steps, as without decimator
+        Assert.assertEquals(canvas.points, decimated)
+        Assert.assertTrue(decimated >= 99 * 4)
+    }
+
+    @Test
+    fun testColorArray() {
+        val set = dataSet(100, 10)
+        val colors = set.colorArray
+
+        Assert.assertEquals(100, colors.size)
+        Assert.assertSame(colors, set.colorArray)
+
+        for (i in 0 until 250) {
+            Assert.assertEquals(set.getColor(i), colors[i % colors.size])
+        }
+
+        set.setColor(Color.GREEN)
+        Assert.assertArrayEquals(intArrayOf(Color.GREEN), set.colorArray)
+
+        set.addColor(Color.BLACK)
+        Assert.assertArrayEquals(intArrayOf(Color.GREEN, Color.BLACK), set.colorArray)
+
+        // colors changed through the list are noticed after notifyDataSetChanged()
+        set.colors[1] = Color.WHITE
+        set.notifyDataSetChanged()
+        Assert.assertArrayEquals(intArrayOf(Color.GREEN, Color.WHITE), set.colorArray)
+    }
+
+    private fun splineRenderer(data: LineData): SplineRenderer {
+        val viewPortHandler = TestViewPortHandler()
+        return SplineRenderer(TestLineDataProvider(data, viewPortHandler), viewPortHandler)
+    }
+
+    @Test
+    fun testSplineAppend() {
+        val entries = ArrayList<Entry>()
+        for (i in 0 until 100) {
+            entries.add(Entry(i.toFloat(), (i * 7 % 13).toFloat()))
+        }
+
+        val set = LineDataSet(entries, "")
+        set.mode = LineDataSet.Mode.CUBIC_BEZIER
+        val data = LineData(set)
+        val renderer = splineRenderer(data)
+
+        renderer.points(set)
+
+        // appending only computes the curves to the former last and the new entries
+        for (i in 100 until 150) {
+            set.addEntry(Entry(i.toFloat(), (i * 7 % 13).toFloat()))
+            data.notifyDataChanged()
+            renderer.initBuffers()
+            renderer.points(set)
+        }
+
+        Assert.assertEquals(listOf(0) + (99 until 149).toList(), renderer.starts)
+
+        val fresh = splineRenderer(data)
+        Assert.assertArrayEquals(fresh.points(set), renderer.points(set), 0f)
+
+        // an entry changed in place recomputes the whole spline
+        renderer.starts.clear()
+        set.getEntryForIndex(10).y = 6.5f
+        data.notifyDataChanged()
+        renderer.initBuffers()
+
+        val changed = renderer.points(set)
+        Assert.assertEquals(listOf(0), renderer.starts)
+
+        val recomputed = splineRenderer(data)
+        Assert.assertArrayEquals(recomputed.points(set), changed, 0f)
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.mikephil.charting.test
+
+import com.github.mikephil.charting.data.ColumnarLineDataSet
+import com.github.mikephil.charting.data.DataSet
+import com.github.mikephil.charting.data.Entry
+import com.github.mikephil.charting.data.MappedLineDataSet
+import com.github.mikephil.charting.utils.BinaryEntryWriter
+import com.github.mikephil.charting.utils.FileUtils
+import org.junit.Assert
+import org.junit.Test
+import java.io.File
+import java.util.Random
+
+class MappedLineDataSetTest {
+    @Test
+    fun testMatchesColumnarDataSet() {
+        val random = Random(17)
+
+        for (doublePrecision in booleanArrayOf(false, true)) {
+            val file = File.createTempFile("entries", ".bin")
+            file.deleteOnExit()
+
+            val xs = FloatArray(5000)
+            val ys = FloatArray(5000)
+            var x = 0f
+
+            BinaryEntryWriter(file, doublePrecision).use { writer ->
+                for (i in xs.indices) {
+                    x += random.nextFloat() * 2f
+                    xs[i] = x
+                    ys[i] = random.nextFloat() * 100f - 50f
+                    writer.write(xs[i].toDouble(), ys[i].toDouble())
+                }
+            }
+
+            val mapped = MappedLineDataSet(file, "")
+            val columnar = ColumnarLineDataSet(xs.copyOf(), ys.copyOf(), "")
+
+            Assert.assertEquals(doublePrecision, mapped.isDoublePrecision)
+            Assert.assertEquals(columnar.entryCount, mapped.entryCount)
+            Assert.assertEquals(columnar.xMin, mapped.xMin, 0f)
+            Assert.assertEquals(columnar.xMax, mapped.xMax, 0f)
+            Assert.assertEquals(columnar.yMin, mapped.yMin, 0f)
+            Assert.assertEquals(columnar.yMax, mapped.yMax, 0f)
+            Assert.assertFalse(mapped.isUniformXSpacing)
+
+            for (i in 0 until 200) {
+                val query = random.nextFloat() * x
+
+                for (rounding in DataSet.Rounding.values()) {
+                    Assert.assertEquals(
+                        columnar.getEntryIndex(query, Float.NaN, rounding),
+                        mapped.getEntryIndex(query, Float.NaN, rounding)
+                    )
+                }
+
+                mapped.calcMinMaxY(query, query + 100f)
+                columnar.calcMinMaxY(query, query + 100f)
+
+                Assert.assertEquals(columnar.yMin, mapped.yMin, 0f)
+                Assert.assertEquals(columnar.yMax, mapped.yMax, 0f)
+            }
+
+            Assert.assertEquals(ys[42], mapped.getEntryForIndex(42).y, 0f)
+        }
+    }
+
+    @Test
+    fun testConvertTextFile() {
+        val text = File.createTempFile("entries", ".txt")
+        val binary = File.createTempFile("entries", ".bin")
+        text.deleteOnExit()
+        binary.deleteOnExit()
+
+        // "y#x" lines, as written by FileUtils.saveToSdCard
+        text.writeText("5.0#0.0\n-1.5#1.0\n2.0#3.0#2.0\n\n7.25#3.0\n")
+
+        Assert.assertTrue(FileUtils.convertToBinaryFile(text, binary, false))
+
+        val set = MappedLineDataSet(binary, "")
+
+        Assert.assertEquals(4, set.entryCount)
+        Assert.assertTrue(set.isUniformXSpacing)
+        Assert.assertEquals(5f, set.getYForIndex(2), 0f)
+        Assert.assertEquals(3f, set.getXForIndex(3), 0f)
+        Assert.assertEquals(-1.5f, set.yMin, 0f)
+        Assert.assertEquals(7.25f, set.yMax, 0f)
+        Assert.assertEquals(2, set.getEntryIndex(2.2f, Float.NaN, DataSet.Rounding.CLOSEST))
+
+        // read-only
+        try {
+            set.addEntry(Entry(4f, 1f))
+            Assert.fail()
+        } catch (e: UnsupportedOperationException) {
+        }
+        Assert.assertEquals(4, set.entryCount)
+
+        // not sorted by x-value
+        text.writeText("5.0#3.0\n1.0#1.0\n")
+        Assert.assertFalse(FileUtils.convertToBinaryFile(text, binary, false))
+
+        // no truncated file with a valid header is left behind
+        Assert.assertFalse(binary.exists())
+    }
+}
@@ -0,0 +1,124 @@
+package com.github.mikephil.charting.test
+
+import com.github.mikephil.charting.data.Entry
+import com.github.mikephil.charting.data.ScatterData
+import com.github.mikephil.charting.data.ScatterDataSet
+import com.github.mikephil.charting.highlight.NearestPointHighlighter
+import com.github.mikephil.charting.utils.PointGridIndex
+import org.junit.Assert
+import org.junit.Test
+import java.util.Random
+
+class NearestPointHighlighterTest {
+
+    private fun cloud(count: Int, random: Random): ArrayList<Entry> {
+        val entries = ArrayList<Entry>()
+        for (i in 0 until count) {
+            // many entries share an x-value
+            entries.add(Entry((random.nextInt(count / 100)).toFloat(), random.nextFloat() * 1000f))
+        }
+        entries.sortBy { it.x }
+        return entries
+    }
+
+    private fun bruteForce(entries: List<Entry>, x: Float, y: Float, scaleX: Float, scaleY: Float, maxDistance: Float): Int {
+        var closest = -1
+        var distance = maxDistance
+        for (i in entries.indices) {
+            val d = Math.hypot(((entries[i].x - x) * scaleX).toDouble(), ((entries[i].y - y) * scaleY).toDouble()).toFloat()
+            if (d < distance) {
+                closest = i
+                distance = d
+            }
+        }
+        return closest
+    }
+
+    @Test
+    fun testGridIndex() {
+        val random = Random(7)
+        val entries = cloud(20000, random)
+
+        val index = PointGridIndex(0)
+        index.reset(0f, 200f, 0f, 1000f, entries.size)
+        entries.forEach { index.add(it.x, it.y) }
+
+        for (i in 0 until 500) {
+            val x = random.nextFloat() * 220f - 10f
+            val y = random.nextFloat() * 1100f - 50f
+            val scaleX = 0.5f + random.nextFloat() * 20f
+            val scaleY = 0.5f + random.nextFloat() * 2f
+            val maxDistance = random.nextFloat() * 100f
+
+            val expected = bruteForce(entries, x, y, scaleX, scaleY, maxDistance)
+            val actual = index.getClosest(x, y, scaleX, scaleY, maxDistance)
+
+            if (expected != actual) {
+                // ties between equally distant entries can resolve either way
+                Assert.assertTrue(actual >= 0)
+                Assert.assertEquals(
+                        Math.hypot(((entries[expected].x - x) * scaleX).toDouble(), ((entries[expected].y - y) * scaleY).toDouble()),
+                        Math.hypot(((entries[actual].x - x) * scaleX).toDouble(), ((entries[actual].y - y) * scaleY).toDouble()),
+                        1e-3)
+            }
+        }
+    }
+
+    @Test
+    fun testNearestEntry() {
+        val random = Random(11)
+        val indexed = ScatterDataSet(cloud(10000, random), "indexed")
+        indexed.isSpatialIndexEnabled = true
+        val plain = ScatterDataSet(cloud(1000, random), "plain")
+
+        val data = ScatterData(indexed, plain)
+        val highlighter = NearestPointHighlighter(TestDataProvider(data, TestViewPortHandler(), 30f))
+
+        for (i in 0 until 200) {
+            val x = random.nextFloat() * 100f
+            val y = random.nextFloat() * 1000f
+
+            val inIndexed = bruteForce(indexed.entries, x, y, 1f, 1f, 30f)
+            val inPlain = bruteForce(plain.entries, x, y, 1f, 1f, 30f)
+            val h = highlighter.getHighlight(x, y)
+
+            if (inIndexed < 0 && inPlain < 0) {
+                Assert.assertNull(h)
+                continue
+            }
+
+            val dIndexed = if (inIndexed < 0) Float.MAX_VALUE else Math.hypot((indexed.getEntryForIndex(inIndexed).x - x).toDouble(), (indexed.getEntryForIndex(inIndexed).y - y).toDouble()).toFloat()
+            val dPlain = if (inPlain < 0) Float.MAX_VALUE else Math.hypot((plain.getEntryForIndex(inPlain).x - x).toDouble(), (plain.getEntryForIndex(inPlain).y - y).toDouble()).toFloat()
+
+            Assert.assertNotNull(h)
+            Assert.assertEquals(Math.min(dIndexed, dPlain), Math.hypot((h!!.x - x).toDouble(), (h.y - y).toDouble()).toFloat(), 1e-3f)
+        }
+    }
+
+    @Test
+    fun testIncrementalIndex() {
+        val set = ScatterDataSet(ArrayList(), "")
+        set.isSpatialIndexEnabled = true
+        val data = ScatterData(set)
+        val highlighter = NearestPointHighlighter(TestDataProvider(data, TestViewPortHandler(), 5f))
+
+        for (i in 0 until 1000) {
+            set.addEntry(Entry(i.toFloat(), (i % 10).toFloat()))
+        }
+
+        Assert.assertEquals(501f, highlighter.getHighlight(501.2f, 1.1f)!!.x)
+        Assert.assertEquals(1000, set.spatialIndex.size())
+
+        // appended entries are added without a rebuild
+        val index = set.spatialIndex
+        set.addEntry(Entry(2000f, 0f))
+        Assert.assertEquals(2000f, highlighter.getHighlight(2001f, 0f)!!.x)
+        Assert.assertSame(index, set.spatialIndex)
+        Assert.assertEquals(1001, index.size())
+
+        // removing entries rebuilds it
+        set.removeEntry(set.getEntryForIndex(set.entryCount - 1))
+        Assert.assertNull(highlighter.getHighlight(2001f, 0f))
+        Assert.assertEquals(1000, set.spatialIndex.size())
+    }
+}
@@ -1,9 +1,13 @@
 package com.github.mikephil.charting.test
 
+import com.github.mikephil.charting.utils.ConcurrentObjectPool
 import com.github.mikephil.charting.utils.ObjectPool
 import com.github.mikephil.charting.utils.ObjectPool.Poolable
 import org.junit.Assert
 import org.junit.Test
+import java.util.Collections
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicBoolean
 
 class ObjectPoolTest {
     internal class TestPoolable private constructor(var foo: Int, var bar: Int) : Poolable() {
@@ -35,6 +39,12 @@ class ObjectPoolTest {
         }
     }
 
+    internal class Counted : Poolable() {
+        override fun instantiate(): Poolable {
+            return Counted()
+        }
+    }
+
     @Test
     fun testObjectPool() {
         var poolCapacity = TestPoolable.getPool().poolCapacity
@@ -212,4 +222,83 @@ class ObjectPoolTest {
         Assert.assertEquals(16, poolCapacity)
         Assert.assertEquals(7, poolCount)
     }
+
+    @Test
+    fun testCounters() {
+        val pool = ObjectPool.create(2, Counted()) as ObjectPool<Counted>
+
+        Assert.assertEquals(1L, pool.replenishCount)
+
+        val a = pool.get()
+        val b = pool.get()
+        val c = pool.get()
+
+        Assert.assertEquals(2L, pool.hitCount)
+        Assert.assertEquals(1L, pool.missCount)
+        Assert.assertEquals(2L, pool.replenishCount)
+
+        pool.recycle(listOf(a, b, c))
+        Assert.assertEquals(4, pool.poolCount)
+    }
+
+    @Test
+    fun testConcurrentObjectPool() {
+        val pool = ConcurrentObjectPool.create(8, 4, Counted()) as ConcurrentObjectPool<Counted>
+
+        val a = pool.get()
+        Assert.assertEquals(1L, pool.missCount)
+        Assert.assertEquals(0L, pool.hitCount)
+
+        val b = pool.get()
+        Assert.assertEquals(1L, pool.hitCount)
+
+        pool.recycle(a)
+        pool.recycle(b)
+        Assert.assertEquals(8, pool.poolCount)
+
+        var e: Exception? = null
+        try {
+            pool.recycle(a)
+        } catch (ex: IllegalArgumentException) {
+            e = ex
+        }
+        Assert.assertNotNull(e)
+
+        // objects handed out across threads are never handed out twice at the same time
+        val threads = 4
+        val rounds = 10000
+        val outstanding = Collections.newSetFromMap(ConcurrentHashMap<Counted, Boolean>())
+        val failed = AtomicBoolean(false)
+        val workers = (0 until threads).map {
+            Thread {
+                val held = ArrayList<Counted>()
+                for (i in 0 until rounds) {
+                    val p = pool.get()
+                    if (!outstanding.add(p)) failed.set(true)
+                    held.add(p)
+
+                    if (held.size > i % 13) {
+                        for (h in held) {
+                            outstanding.remove(h)
+                        }
+                        pool.recycle(held)
+                        held.clear()
+                    }
+                }
+                for (h in held) {
+                    outstanding.remove(h)
+                }
+                pool.recycle(held)
+            }
+        }
+
+        workers.forEach { it.start() }
+        workers.forEach { it.join() }
+
+        Assert.assertFalse(failed.get())
+        // the hits of each worker since its cache last went to the shared pool are not counted
+        Assert.assertTrue(pool.hitCount + pool.missCount <= 2L + threads * rounds)
+        Assert.assertTrue(pool.hitCount + pool.missCount > threads * rounds * 9L / 10)
+        Assert.assertTrue(pool.hitCount > pool.missCount)
+    }
 }
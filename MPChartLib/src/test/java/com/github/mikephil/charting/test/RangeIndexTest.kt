@@ -0,0 +1,151 @@
+package com.github.mikephil.charting.test
+
+import com.github.mikephil.charting.data.CandleDataSet
+import com.github.mikephil.charting.data.CandleEntry
+import com.github.mikephil.charting.data.ColumnarLineDataSet
+import com.github.mikephil.charting.data.DataSet
+import com.github.mikephil.charting.data.Entry
+import com.github.mikephil.charting.data.LineDataSet
+import com.github.mikephil.charting.data.RingBufferLineDataSet
+import org.junit.Assert
+import org.junit.Test
+import java.util.Random
+
+class RangeIndexTest {
+    @Test
+    fun testLineDataSet() {
+        val random = Random(7)
+        val plain = LineDataSet(ArrayList(), "")
+        val indexed = LineDataSet(ArrayList(), "")
+        indexed.isRangeIndexEnabled = true
+
+        for (i in 0 until 500) {
+            val e = Entry(i.toFloat(), random.nextFloat() * 100f)
+            plain.addEntry(e)
+            indexed.addEntry(e)
+
+            if (i % 50 == 49) {
+                // out of order, rebuilds the index
+                val ordered = Entry(i - 10.5f, random.nextFloat() * 200f - 100f)
+                plain.addEntryOrdered(ordered)
+                indexed.addEntryOrdered(ordered)
+            }
+
+            if (i % 90 == 89) {
+                plain.removeFirst()
+                indexed.removeFirst()
+            }
+
+            assertSameRanges(plain, indexed, random, i.toFloat())
+        }
+    }
+
+    @Test
+    fun testCandleDataSet() {
+        val random = Random(11)
+        val entries: MutableList<CandleEntry> = ArrayList()
+
+        for (i in 0 until 200) {
+            val low = random.nextFloat() * 100f
+            val high = low + random.nextFloat() * 20f
+            entries.add(CandleEntry(i.toFloat(), high, low, low, high))
+        }
+
+        val plain = CandleDataSet(ArrayList(entries), "")
+        val indexed = CandleDataSet(ArrayList(entries), "")
+        indexed.isRangeIndexEnabled = true
+
+        assertSameRanges(plain, indexed, random, 199f)
+    }
+
+    @Test
+    fun testColumnarDataSets() {
+        val random = Random(13)
+        val plain = ColumnarLineDataSet("")
+        val indexed = ColumnarLineDataSet("")
+        indexed.isRangeIndexEnabled = true
+
+        val ring = RingBufferLineDataSet(64, "")
+        ring.isRangeIndexEnabled = true
+
+        for (i in 0 until 300) {
+            val y = random.nextFloat() * 100f - 50f
+            plain.add(i.toFloat(), y)
+            indexed.add(i.toFloat(), y)
+            ring.add(i.toFloat(), y)
+
+            if (i % 40 == 39) {
+                plain.removeEntry(i / 2)
+                indexed.removeEntry(i / 2)
+            }
+
+            assertSameRanges(plain, indexed, random, i.toFloat())
+
+            val from = ring.getXForIndex(0) + random.nextInt(32)
+            val to = from + random.nextInt(48)
+
+            ring.calcMinMaxY(from, to)
+
+            var min = Float.MAX_VALUE
+            var max = -Float.MAX_VALUE
+
+            val indexFrom = ring.getEntryIndex(from, Float.NaN, DataSet.Rounding.DOWN)
+            val indexTo = ring.getEntryIndex(to, Float.NaN, DataSet.Rounding.UP)
+
+            for (j in indexFrom..indexTo) {
+                min = Math.min(min, ring.getYForIndex(j))
+                max = Math.max(max, ring.getYForIndex(j))
+            }
+
+            Assert.assertEquals(min, ring.yMin, 0f)
+            Assert.assertEquals(max, ring.yMax, 0f)
+        }
+    }
+
+    @Test
+    fun testIndexRangeQueries() {
+        val random = Random(19)
+        val list = LineDataSet(ArrayList(), "")
+        val ring = RingBufferLineDataSet(40, "")
+
+        for (i in 0 until 150) {
+            val y = random.nextFloat() * 10f
+            list.addEntry(Entry(i.toFloat(), y))
+            ring.add(i.toFloat(), y)
+
+            if (i < 20)
+                continue
+
+            // the ring holds the last 40 values of the list
+            val offset = list.entryCount - ring.entryCount
+            val from = random.nextInt(ring.entryCount)
+            val to = from + random.nextInt(ring.entryCount - from)
+
+            var min = Float.MAX_VALUE
+            var max = -Float.MAX_VALUE
+
+            for (j in from..to) {
+                min = Math.min(min, ring.getYForIndex(j))
+                max = Math.max(max, ring.getYForIndex(j))
+            }
+
+            Assert.assertEquals(min, ring.getYMinForIndexRange(from, to), 0f)
+            Assert.assertEquals(max, ring.getYMaxForIndexRange(from, to), 0f)
+            Assert.assertEquals(min, list.getYMinForIndexRange(from + offset, to + offset), 0f)
+            Assert.assertEquals(max, list.getYMaxForIndexRange(from + offset, to + offset), 0f)
+        }
+    }
+
+    private fun assertSameRanges(plain: DataSet<*>, indexed: DataSet<*>, random: Random, maxX: Float) {
+        for (k in 0 until 5) {
+            val from = random.nextFloat() * maxX
+            val to = from + random.nextFloat() * (maxX - from)
+
+            plain.calcMinMaxY(from, to)
+            indexed.calcMinMaxY(from, to)
+
+            Assert.assertEquals("from: $from, to: $to", plain.yMin, indexed.yMin, 0f)
+            Assert.assertEquals("from: $from, to: $to", plain.yMax, indexed.yMax, 0f)
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.mikephil.charting.test
+
+import com.github.mikephil.charting.data.DataSet
+import com.github.mikephil.charting.data.Entry
+import com.github.mikephil.charting.data.RingBufferLineDataSet
+import org.junit.Assert
+import org.junit.Test
+import java.util.Random
+
+class RingBufferLineDataSetTest {
+    @Test
+    fun testEviction() {
+        val set = RingBufferLineDataSet(3, "")
+
+        set.addEntry(Entry(0f, 5f))
+        set.addEntry(Entry(1f, 9f))
+        set.addEntry(Entry(2f, 1f))
+
+        Assert.assertTrue(set.isFull)
+        Assert.assertEquals(1f, set.yMin, 0.01f)
+        Assert.assertEquals(9f, set.yMax, 0.01f)
+
+        set.addEntry(Entry(3f, 4f))
+
+        Assert.assertEquals(3, set.entryCount)
+        Assert.assertEquals(1f, set.xMin, 0.01f)
+        Assert.assertEquals(3f, set.xMax, 0.01f)
+        Assert.assertEquals(1f, set.getXForIndex(0), 0.01f)
+        Assert.assertEquals(3f, set.getEntryForIndex(2).x, 0.01f)
+
+        set.addEntry(Entry(4f, 2f))
+
+        // 9 got evicted
+        Assert.assertEquals(1f, set.yMin, 0.01f)
+        Assert.assertEquals(4f, set.yMax, 0.01f)
+        Assert.assertEquals(2, set.getEntryIndex(4.2f, Float.NaN, DataSet.Rounding.CLOSEST))
+
+        Assert.assertTrue(set.removeLast())
+
+        Assert.assertEquals(2, set.entryCount)
+        Assert.assertEquals(1f, set.yMin, 0.01f)
+        Assert.assertEquals(4f, set.yMax, 0.01f)
+
+        set.addEntryOrdered(Entry(2.5f, 7f))
+
+        Assert.assertEquals(3, set.entryCount)
+        Assert.assertEquals(2.5f, set.getXForIndex(1), 0.01f)
+        Assert.assertEquals(7f, set.yMax, 0.01f)
+
+        set.clear()
+
+        Assert.assertEquals(0, set.entryCount)
+    }
+
+    @Test
+    fun testMinMaxMatchesRescan() {
+        val random = Random(42)
+        val set = RingBufferLineDataSet(50, "")
+
+        for (i in 0 until 1000) {
+            set.add(i.toFloat(), random.nextFloat() * 100f - 50f)
+
+            if (i % 7 == 3)
+                set.removeFirst()
+
+            var min = Float.MAX_VALUE
+            var max = -Float.MAX_VALUE
+
+            for (j in 0 until set.entryCount) {
+                min = Math.min(min, set.getYForIndex(j))
+                max = Math.max(max, set.getYForIndex(j))
+            }
+
+            Assert.assertEquals(min, set.yMin, 0f)
+            Assert.assertEquals(max, set.yMax, 0f)
+            Assert.assertEquals(set.getXForIndex(0), set.xMin, 0f)
+            Assert.assertEquals(i.toFloat(), set.xMax, 0f)
+        }
+
+        Assert.assertEquals(50, set.entryCount)
+    }
+}
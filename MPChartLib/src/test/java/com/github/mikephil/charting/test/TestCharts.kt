@@ -0,0 +1,166 @@
+package com.github.mikephil.charting.test
+
+import android.graphics.Canvas
+import android.graphics.Paint
+import android.graphics.RectF
+import com.github.mikephil.charting.components.YAxis
+import com.github.mikephil.charting.components.YAxis.AxisDependency
+import com.github.mikephil.charting.data.BarData
+import com.github.mikephil.charting.data.BarLineScatterCandleBubbleData
+import com.github.mikephil.charting.data.CandleData
+import com.github.mikephil.charting.data.LineData
+import com.github.mikephil.charting.formatter.DefaultValueFormatter
+import com.github.mikephil.charting.formatter.IValueFormatter
+import com.github.mikephil.charting.interfaces.dataprovider.BarDataProvider
+import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider
+import com.github.mikephil.charting.interfaces.dataprovider.CandleDataProvider
+import com.github.mikephil.charting.interfaces.dataprovider.LineDataProvider
+import com.github.mikephil.charting.utils.MPPointF
+import com.github.mikephil.charting.utils.Transformer
+import com.github.mikephil.charting.utils.ViewPortHandler
+import java.lang.management.ManagementFactory
+
+/**
+ * ViewPortHandler of a 1000 x 500 chart. The bounds checks compare with the chart size instead of
+ * the content rect, because RectF does nothing in the android.jar of local unit tests. The
+ * matrices do nothing either, so values are used as pixels.
+ */
+class TestViewPortHandler : ViewPortHandler() {
+
+    init {
+        setChartDimens(1000f, 500f)
+    }
+
+    override fun isInBoundsLeft(x: Float) = x + 1 >= 0f
+    override fun isInBoundsRight(x: Float) = x - 1 <= chartWidth
+    override fun isInBoundsTop(y: Float) = y >= 0f
+    override fun isInBoundsBottom(y: Float) = y <= chartHeight
+}
+
+/**
+ * Chart the renderers and highlighters are tested with, showing all of the given data.
+ */
+open class TestDataProvider(
+    private val data: BarLineScatterCandleBubbleData<*>,
+    viewPortHandler: ViewPortHandler,
+    private val maxHighlightDistance: Float = 0f
+) : BarLineScatterCandleBubbleDataProvider {
+
+    private val transformer = Transformer(viewPortHandler)
+    private val contentRect = RectF()
+
+    override fun getTransformer(axis: AxisDependency?) = transformer
+    override fun isInverted(axis: AxisDependency?) = false
+    override val lowestVisibleX get() = data.xMin
+    override val highestVisibleX get() = data.xMax
+    override fun getData() = data
+    override fun getXChartMin() = data.xMin
+    override fun getXChartMax() = data.xMax
+    override fun getXRange() = data.xMax - data.xMin
+    override fun getYChartMin() = data.yMin
+    override fun getYChartMax() = data.yMax
+    override fun getMaxHighlightDistance() = maxHighlightDistance
+    override fun getWidth() = 1000
+    override fun getHeight() = 500
+    override fun getCenterOfView(): MPPointF = MPPointF.getInstance(500f, 250f)
+    override fun getCenterOffsets(): MPPointF = MPPointF.getInstance(500f, 250f)
+    override fun getContentRect() = contentRect
+    override fun getDefaultValueFormatter(): IValueFormatter = DefaultValueFormatter(1)
+    override fun getMaxVisibleCount() = 0
+}
+
+class TestLineDataProvider(private val data: LineData, viewPortHandler: ViewPortHandler) :
+    TestDataProvider(data, viewPortHandler), LineDataProvider {
+
+    override val lineData get() = data
+    override fun getAxis(dependency: AxisDependency): YAxis? = null
+}
+
+class TestBarDataProvider(private val data: BarData, viewPortHandler: ViewPortHandler) :
+    TestDataProvider(data, viewPortHandler), BarDataProvider {
+
+    override fun getBarData() = data
+    override fun isDrawBarShadowEnabled() = true
+    override fun isDrawValueAboveBarEnabled() = true
+    override fun isHighlightFullBarEnabled() = false
+}
+
+class TestCandleDataProvider(private val data: CandleData, viewPortHandler: ViewPortHandler) :
+    TestDataProvider(data, viewPortHandler), CandleDataProvider {
+
+    override fun getCandleData() = data
+}
+
+/**
+ * Canvas counting the shapes drawn into it, the canvas of local unit tests draws nothing.
+ */
+class CountingCanvas : Canvas() {
+
+    /**
+     * number of drawRect(...) and drawRoundRect(...) calls
+     */
+    var rects = 0
+
+    /**
+     * number of drawLine(...) and drawLines(...) calls
+     */
+    var lines = 0
+
+    /**
+     * number of coordinates passed to drawLine(...) and drawLines(...)
+     */
+    var values = 0
+
+    val points get() = values / 2
+
+    fun reset() {
+        rects = 0
+        lines = 0
+        values = 0
+    }
+
+    override fun drawRect(left: Float, top: Float, right: Float, bottom: Float, paint: Paint) {
+        rects++
+    }
+
+    override fun drawRect(rect: RectF, paint: Paint) {
+        rects++
+    }
+
+    override fun drawRoundRect(rect: RectF, rx: Float, ry: Float, paint: Paint) {
+        rects++
+    }
+
+    override fun drawLine(startX: Float, startY: Float, stopX: Float, stopY: Float, paint: Paint) {
+        lines++
+        values += 4
+    }
+
+    override fun drawLines(pts: FloatArray, offset: Int, count: Int, paint: Paint) {
+        lines++
+        values += count
+    }
+}
+
+private val threadBean = ManagementFactory.getThreadMXBean() as com.sun.management.ThreadMXBean
+
+/**
+ * Returns the number of bytes allocated by the current thread so far.
+ */
+fun allocatedBytes(): Long = threadBean.getThreadAllocatedBytes(Thread.currentThread().id)
+
+/**
+ * Returns the least number of bytes allocated by a few runs of the given block, so that a late
+ * JIT compilation doesn't count.
+ */
+fun minAllocated(block: () -> Unit): Long {
+    var allocated = Long.MAX_VALUE
+
+    for (i in 0 until 3) {
+        val before = allocatedBytes()
+        block()
+        allocated = Math.min(allocated, allocatedBytes() - before)
+    }
+
+    return allocated
+}
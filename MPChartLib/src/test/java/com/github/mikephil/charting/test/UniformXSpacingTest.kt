@@ -0,0 +1,93 @@
+package com.github.mikephil.charting.test
+
+import com.github.mikephil.charting.data.ColumnarLineDataSet
+import com.github.mikephil.charting.data.DataSet
+import com.github.mikephil.charting.data.Entry
+import com.github.mikephil.charting.data.LineDataSet
+import com.github.mikephil.charting.data.RingBufferLineDataSet
+import org.junit.Assert
+import org.junit.Test
+import java.util.Random
+
+class UniformXSpacingTest {
+    @Test
+    fun testMatchesBinarySearch() {
+        val random = Random(5)
+
+        for (step in floatArrayOf(1f, 0.1f, 0.25f, 3.7f)) {
+            val entries: MutableList<Entry> = ArrayList()
+            for (i in 0 until 200) {
+                entries.add(Entry(-20f + i * step, random.nextFloat()))
+            }
+
+            val uniform = LineDataSet(ArrayList(entries), "")
+            val columnar = ColumnarLineDataSet(entries, "")
+            val search = LineDataSet(ArrayList(entries), "")
+            search.isUniformXLookupEnabled = false
+
+            Assert.assertTrue(uniform.isUniformXSpacing)
+            Assert.assertTrue(columnar.isUniformXSpacing)
+            Assert.assertFalse(search.isUniformXSpacing)
+
+            val queries = ArrayList<Float>()
+            for (i in 0 until 500) {
+                queries.add(-30f + random.nextFloat() * (step * 200f + 20f))
+            }
+            for (e in entries) {
+                queries.add(e.x)
+                // exactly between two entries
+                queries.add(e.x + step / 2f)
+            }
+
+            for (x in queries) {
+                for (rounding in DataSet.Rounding.values()) {
+                    val expected = search.getEntryIndex(x, Float.NaN, rounding)
+                    Assert.assertEquals("x: $x, $rounding", expected, uniform.getEntryIndex(x, 0.5f, rounding))
+                    Assert.assertEquals("x: $x, $rounding", expected, columnar.getEntryIndex(x, Float.NaN, rounding))
+                }
+            }
+        }
+    }
+
+    @Test
+    fun testKeptValid() {
+        val set = LineDataSet(ArrayList(), "")
+
+        for (i in 0 until 10) {
+            set.addEntry(Entry(i * 2f, 0f))
+        }
+
+        Assert.assertTrue(set.isUniformXSpacing)
+        Assert.assertEquals(4, set.getEntryIndex(8.6f, Float.NaN, DataSet.Rounding.CLOSEST))
+
+        set.addEntry(Entry(21f, 0f))
+
+        Assert.assertFalse(set.isUniformXSpacing)
+        Assert.assertEquals(10, set.getEntryIndex(20.6f, Float.NaN, DataSet.Rounding.CLOSEST))
+
+        set.removeLast()
+        Assert.assertTrue(set.isUniformXSpacing)
+
+        set.addEntryOrdered(Entry(3f, 0f))
+        Assert.assertFalse(set.isUniformXSpacing)
+
+        set.removeEntryByXValue(3f)
+        set.removeFirst()
+        Assert.assertTrue(set.isUniformXSpacing)
+        Assert.assertEquals(0, set.getEntryIndex(2.9f, Float.NaN, DataSet.Rounding.CLOSEST))
+
+        // duplicate x-values need the search for closestToY
+        set.addEntry(Entry(18f, 1f))
+        Assert.assertFalse(set.isUniformXSpacing)
+
+        val ring = RingBufferLineDataSet(16, "")
+
+        for (i in 0 until 100) {
+            ring.add(i * 0.5f, 0f)
+        }
+
+        Assert.assertTrue(ring.isUniformXSpacing)
+        Assert.assertEquals(15, ring.getEntryIndex(100f, Float.NaN, DataSet.Rounding.CLOSEST))
+        Assert.assertEquals(3, ring.getEntryIndex(43.1f, Float.NaN, DataSet.Rounding.UP))
+    }
+}